@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.tilesfx.benchmark;
+
+import eu.hansolo.tilesfx.tools.Helper;
+import eu.hansolo.tilesfx.tools.Point;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.shape.LineTo;
+import javafx.scene.shape.MoveTo;
+import javafx.scene.shape.Path;
+import javafx.scene.shape.PathElement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Smoothing of the given number of points. pointArray and primitiveArrays
+ * subdivide the points with Catmull-Rom splines, calcCurveControlPoints and
+ * smoothPath calculate the cubic bezier curves through the points.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CatmullRomBenchmark {
+    private static final int                         SUB_DIVISIONS = 16;
+    @Param({ "16", "64", "256", "1024", "4096", "8192" })
+    private              int                         noOfPoints;
+    private              Point[]                     points;
+    private              ObservableList<PathElement> elements;
+    private              double[]                    x;
+    private              double[]                    y;
+    private              double[]                    outX;
+    private              double[]                    outY;
+    private              double[]                    firstX;
+    private              double[]                    firstY;
+    private              double[]                    secondX;
+    private              double[]                    secondY;
+    private              double[]                    scratch;
+
+
+    @Setup public void setup() {
+        Random random = new Random(42);
+        points   = new Point[noOfPoints];
+        elements = FXCollections.observableArrayList();
+        x        = new double[noOfPoints];
+        y        = new double[noOfPoints];
+        for (int i = 0 ; i < noOfPoints ; i++) {
+            x[i]      = i * 10;
+            y[i]      = random.nextDouble() * 100;
+            points[i] = new Point(x[i], y[i]);
+            elements.add(0 == i ? new MoveTo(x[i], y[i]) : new LineTo(x[i], y[i]));
+        }
+        outX    = new double[Helper.getNoOfSubdividedPoints(noOfPoints, SUB_DIVISIONS)];
+        outY    = new double[Helper.getNoOfSubdividedPoints(noOfPoints, SUB_DIVISIONS)];
+        firstX  = new double[noOfPoints - 1];
+        firstY  = new double[noOfPoints - 1];
+        secondX = new double[noOfPoints - 1];
+        secondY = new double[noOfPoints - 1];
+        scratch = new double[noOfPoints - 1];
+    }
+
+    @Benchmark public Point[] pointArray() { return Helper.subdividePoints(points, SUB_DIVISIONS); }
+
+    @Benchmark public int primitiveArrays() { return Helper.subdividePoints(x, y, noOfPoints, SUB_DIVISIONS, outX, outY); }
+
+    @Benchmark public double[] calcCurveControlPoints() {
+        Helper.calcCurveControlPoints(x, y, noOfPoints, firstX, firstY, secondX, secondY, scratch);
+        return secondY;
+    }
+
+    @Benchmark public Path smoothPath() { return Helper.smoothPath(elements, true); }
+}
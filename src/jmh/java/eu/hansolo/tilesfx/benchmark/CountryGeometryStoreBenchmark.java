@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.tilesfx.benchmark;
+
+import eu.hansolo.tilesfx.tools.CountryGeometryStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Startup cost of the country outlines: loading the binary file that is created
+ * by the compileCountryGeometry task compared to loading the properties file with
+ * the SVG path contents (what a missing binary file falls back to). The *All
+ * benchmarks also decode every country like the world map tile does on startup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CountryGeometryStoreBenchmark {
+    private static final String RESOURCE_PATH    = "eu/hansolo/tilesfx/";
+    private static final String MISSING_RESOURCE = RESOURCE_PATH + "missing.bin";
+    @Param({ "lowres", "highres" })
+    private String resolution;
+    private String binaryResource;
+    private String propertiesResource;
+
+
+    @Setup public void setup() {
+        binaryResource     = RESOURCE_PATH + resolution + ".bin";
+        propertiesResource = RESOURCE_PATH + resolution + ".properties";
+        // Without the binary file both benchmarks would measure the properties fallback
+        if (null == Thread.currentThread().getContextClassLoader().getResource(binaryResource)) {
+            throw new IllegalStateException(binaryResource + " not found, run the compileCountryGeometry task first");
+        }
+    }
+
+    @Benchmark public CountryGeometryStore binaryLoad() {
+        return CountryGeometryStore.load(binaryResource, propertiesResource);
+    }
+
+    @Benchmark public CountryGeometryStore propertiesLoad() {
+        return CountryGeometryStore.load(MISSING_RESOURCE, propertiesResource);
+    }
+
+    @Benchmark public void binaryLoadAll(final Blackhole BLACKHOLE) {
+        loadAll(CountryGeometryStore.load(binaryResource, propertiesResource), BLACKHOLE);
+    }
+
+    @Benchmark public void propertiesLoadAll(final Blackhole BLACKHOLE) {
+        loadAll(CountryGeometryStore.load(MISSING_RESOURCE, propertiesResource), BLACKHOLE);
+    }
+
+    private static void loadAll(final CountryGeometryStore STORE, final Blackhole BLACKHOLE) {
+        for (String name : STORE.getNames()) { BLACKHOLE.consume(STORE.getGeometry(name)); }
+    }
+}
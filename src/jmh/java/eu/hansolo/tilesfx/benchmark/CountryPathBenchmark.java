@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.tilesfx.benchmark;
+
+import eu.hansolo.tilesfx.tools.CountryPath;
+import eu.hansolo.tilesfx.tools.Helper;
+import javafx.application.Platform;
+import javafx.embed.swing.JFXPanel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Creates the country paths of the given number of world map tiles.
+ * Run it with the gc profiler (gradle jmh -PjmhInclude="CountryPath.* -prof gc")
+ * to get the allocated bytes per tile from gc.alloc.rate.norm.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CountryPathBenchmark {
+    @Param({ "1", "20" })
+    private int noOfTiles;
+
+
+    @Setup public void setup() {
+        // Initializes the JavaFX toolkit
+        new JFXPanel();
+        // Decode the shared geometry once, it's not part of the per tile costs
+        Helper.getLoresCountryGeometry().getNames().forEach(name -> Helper.getLoresCountryGeometry().getGeometry(name));
+    }
+
+    @Benchmark public List<Map<String, List<CountryPath>>> createWorldMapPaths() throws Exception {
+        FutureTask<List<Map<String, List<CountryPath>>>> task = new FutureTask<>(() -> {
+            List<Map<String, List<CountryPath>>> tiles = new ArrayList<>(noOfTiles);
+            for (int i = 0 ; i < noOfTiles ; i++) { tiles.add(Helper.createLoresCountryPaths()); }
+            return tiles;
+        });
+        Platform.runLater(task);
+        return task.get();
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.tilesfx.benchmark;
+
+import eu.hansolo.tilesfx.tools.Decimator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Reduces one day of values with one value per second to the number of
+ * points a chart of 1000 pixels width is able to show.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DecimatorBenchmark {
+    private static final int      NO_OF_POINTS = 86_400;
+    private static final int      THRESHOLD    = 1_000;
+    private              double[] x;
+    private              double[] y;
+    private              double[] outX;
+    private              double[] outY;
+
+
+    @Setup public void setup() {
+        Random random = new Random(42);
+        x    = new double[NO_OF_POINTS];
+        y    = new double[NO_OF_POINTS];
+        for (int i = 0 ; i < NO_OF_POINTS ; i++) {
+            x[i] = i;
+            y[i] = Math.sin(i / 3_600.0) * 50 + random.nextGaussian() * 5;
+        }
+        outX = new double[2 * THRESHOLD];
+        outY = new double[2 * THRESHOLD];
+    }
+
+    @Benchmark public int lttb() { return Decimator.lttb(x, y, NO_OF_POINTS, THRESHOLD, outX, outY); }
+
+    @Benchmark public int minMax() { return Decimator.minMax(x, y, NO_OF_POINTS, THRESHOLD / 2, outX, outY); }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.tilesfx.benchmark;
+
+import eu.hansolo.tilesfx.tools.GradientLookup;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Stop;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GradientLookupBenchmark {
+    private GradientLookup interpolating;
+    private GradientLookup precomputed;
+    private double[]       positions;
+
+
+    @Setup public void setup() {
+        List<Stop> stops = Arrays.asList(new Stop(0.0, Color.BLUE), new Stop(0.25, Color.CYAN), new Stop(0.5, Color.LIME),
+                                         new Stop(0.75, Color.YELLOW), new Stop(1.0, Color.RED));
+        interpolating = new GradientLookup(stops, 0);
+        precomputed   = new GradientLookup(stops, GradientLookup.DEFAULT_LUT_SIZE);
+        positions     = new double[1024];
+        Random random = new Random(42);
+        for (int i = 0 ; i < positions.length ; i++) { positions[i] = random.nextDouble(); }
+    }
+
+    @Benchmark public void interpolated(final Blackhole BLACKHOLE) {
+        for (double position : positions) { BLACKHOLE.consume(interpolating.getColorAt(position)); }
+    }
+
+    @Benchmark public void lookupTable(final Blackhole BLACKHOLE) {
+        for (double position : positions) { BLACKHOLE.consume(precomputed.getColorAt(position)); }
+    }
+}
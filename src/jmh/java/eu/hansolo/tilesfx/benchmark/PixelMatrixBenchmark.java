@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.tilesfx.benchmark;
+
+import eu.hansolo.tilesfx.chart.MatrixFont8x8;
+import eu.hansolo.tilesfx.chart.PixelMatrix;
+import eu.hansolo.tilesfx.chart.PixelMatrix.PixelShape;
+import eu.hansolo.tilesfx.chart.PixelMatrix.RenderMode;
+import javafx.application.Platform;
+import javafx.embed.swing.JFXPanel;
+import javafx.scene.paint.Color;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Frame time of a 512x128 PixelMatrix in both render modes. fullPaint repaints
+ * all pixels, dirtyUpdate changes a number of random pixels in one batch update
+ * like a scrolling text or a chart would do. Both run on the JavaFX application
+ * thread and don't include the time of the next pulse that renders the scene.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PixelMatrixBenchmark {
+    private static final int    COLS               = 512;
+    private static final int    ROWS               = 128;
+    private static final int    PIXEL_SIZE         = 2;
+    private static final int    NO_OF_DIRTY_PIXELS = 256;
+    @Param({ "CANVAS", "IMAGE" })
+    private RenderMode          renderMode;
+    private PixelMatrix         matrix;
+    private int[]               dirtyX;
+    private int[]               dirtyY;
+    private boolean             on;
+
+
+    @Setup public void setup() throws Exception {
+        // Initializes the JavaFX toolkit
+        new JFXPanel();
+        Random random = new Random(42);
+        dirtyX = new int[NO_OF_DIRTY_PIXELS];
+        dirtyY = new int[NO_OF_DIRTY_PIXELS];
+        for (int i = 0 ; i < NO_OF_DIRTY_PIXELS ; i++) {
+            dirtyX[i] = random.nextInt(COLS);
+            dirtyY[i] = random.nextInt(ROWS);
+        }
+        matrix = runOnFxThread(() -> {
+            // Square pixels without spacers are required for the image mode, use them in both modes
+            PixelMatrix pixelMatrix = new PixelMatrix(COLS * PIXEL_SIZE, ROWS * PIXEL_SIZE, COLS, ROWS, Color.RED, Color.BLACK, PixelShape.SQUARE, MatrixFont8x8.INSTANCE);
+            pixelMatrix.setUseSpacer(false);
+            pixelMatrix.setRenderMode(renderMode);
+            pixelMatrix.resize(COLS * PIXEL_SIZE, ROWS * PIXEL_SIZE);
+            pixelMatrix.drawMatrix();
+            return pixelMatrix;
+        });
+        if (renderMode == RenderMode.IMAGE && !matrix.isImageRendering()) { throw new IllegalStateException("PixelMatrix does not use the image"); }
+    }
+
+    @Benchmark public PixelMatrix fullPaint() throws Exception {
+        return runOnFxThread(() -> {
+            matrix.drawMatrix();
+            return matrix;
+        });
+    }
+
+    @Benchmark public PixelMatrix dirtyUpdate() throws Exception {
+        on = !on;
+        final boolean ON = on;
+        return runOnFxThread(() -> {
+            matrix.beginUpdate();
+            for (int i = 0 ; i < NO_OF_DIRTY_PIXELS ; i++) { matrix.setPixelWithRedraw(dirtyX[i], dirtyY[i], ON); }
+            matrix.commitUpdate();
+            return matrix;
+        });
+    }
+
+    private static <T> T runOnFxThread(final Callable<T> CALLABLE) throws Exception {
+        FutureTask<T> task = new FutureTask<>(CALLABLE);
+        Platform.runLater(task);
+        return task.get();
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.tilesfx.benchmark;
+
+import eu.hansolo.tilesfx.chart.ChartData;
+import eu.hansolo.tilesfx.tools.SortedChartData;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.embed.swing.JFXPanel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+
+/**
+ * Costs of the donut and radial chart skins for the given number of segments.
+ * The *Update benchmarks change the value of one segment, with and without a
+ * SortedChartData that listens to the chart data. The *Redraw benchmarks do
+ * what the skins do on a redraw: get the sum and iterate the sorted segments,
+ * with SortedChartData or with the stream, sort and sum of the old skins.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SortedChartDataBenchmark {
+    @Param({ "1", "10", "100", "1000" })
+    private int                       noOfSegments;
+    private ObservableList<ChartData> plainData;
+    private ObservableList<ChartData> sortedData;
+    private SortedChartData           sortedChartData;
+    private Random                    random;
+
+
+    @Setup public void setup() {
+        // ChartData creates a Timeline which needs the JavaFX toolkit
+        new JFXPanel();
+        random     = new Random(42);
+        plainData  = FXCollections.observableArrayList();
+        sortedData = FXCollections.observableArrayList();
+        for (int i = 0 ; i < noOfSegments ; i++) {
+            double value = random.nextDouble() * 100;
+            plainData.add(new ChartData("Segment " + i, value));
+            sortedData.add(new ChartData("Segment " + i, value));
+        }
+        sortedChartData = new SortedChartData(sortedData);
+    }
+
+    @TearDown public void tearDown() { sortedChartData.dispose(); }
+
+    @Benchmark public void plainUpdate() {
+        plainData.get(random.nextInt(noOfSegments)).setValue(random.nextDouble() * 100);
+    }
+
+    @Benchmark public void sortedChartDataUpdate() {
+        sortedData.get(random.nextInt(noOfSegments)).setValue(random.nextDouble() * 100);
+    }
+
+    @Benchmark public void streamRedraw(final Blackhole BLACKHOLE) {
+        List<ChartData> dataList = plainData.stream().sorted(Comparator.comparingDouble(ChartData::getValue)).collect(Collectors.toList());
+        double          sum      = dataList.stream().mapToDouble(ChartData::getValue).sum();
+        for (ChartData data : dataList) { BLACKHOLE.consume(data.getValue() / sum); }
+    }
+
+    @Benchmark public void sortedChartDataRedraw(final Blackhole BLACKHOLE) {
+        List<ChartData> dataList = sortedChartData.getSortedList();
+        double          sum      = sortedChartData.getSum();
+        for (ChartData data : dataList) { BLACKHOLE.consume(data.getValue() / sum); }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.tilesfx.benchmark;
+
+import eu.hansolo.tilesfx.tools.Statistics;
+import eu.hansolo.tilesfx.tools.WindowedStatistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Compares one spark line update (add a value, read min, max and standard
+ * deviation) of WindowedStatistics with the former LinkedList based window.
+ * The median variants also read the median, which Statistics gets by sorting
+ * a copy of the list and WindowedStatistics from its treap.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class WindowedStatisticsBenchmark {
+    @Param({ "60", "1000" })
+    private int                windowSize;
+    private WindowedStatistics windowedStatistics;
+    private LinkedList<Double> list;
+    private Random             random;
+
+
+    @Setup public void setup() {
+        random             = new Random(42);
+        windowedStatistics = new WindowedStatistics(windowSize, true);
+        windowedStatistics.fill(0);
+        list               = new LinkedList<>();
+        for (int i = 0 ; i < windowSize ; i++) { list.add(0.0); }
+    }
+
+    @Benchmark public double linkedList() {
+        list.removeFirst();
+        list.add(random.nextDouble());
+        return Statistics.getMin(list) + Statistics.getMax(list) + Statistics.getStdDev(list);
+    }
+
+    @Benchmark public double windowedStatistics() {
+        windowedStatistics.add(random.nextDouble());
+        return windowedStatistics.getMin() + windowedStatistics.getMax() + windowedStatistics.getStdDev();
+    }
+
+    @Benchmark public double linkedListMedian() {
+        list.removeFirst();
+        list.add(random.nextDouble());
+        // Statistics.getMedian() sorts the given list
+        return Statistics.getMedian(new ArrayList<>(list));
+    }
+
+    @Benchmark public double windowedStatisticsMedian() {
+        windowedStatistics.add(random.nextDouble());
+        return windowedStatistics.getMedian();
+    }
+}
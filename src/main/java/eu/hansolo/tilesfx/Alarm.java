@@ -27,6 +27,10 @@ import javafx.scene.paint.Color;
 
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 
 /**
@@ -34,18 +38,19 @@ import java.time.temporal.ChronoUnit;
  */
 public class Alarm {
     public enum Repetition { ONCE, HALF_HOURLY, HOURLY, DAILY, WEEKLY }
-    public static final boolean          ARMED   = true;
-    public static final boolean          UNARMED = false;
+    public static final boolean               ARMED   = true;
+    public static final boolean               UNARMED = false;
 
-    public        final AlarmMarkerEvent ALARM_MARKER_PRESSED_EVENT  = new AlarmMarkerEvent(Alarm.this, null, AlarmMarkerEvent.ALARM_MARKER_PRESSED);
-    public        final AlarmMarkerEvent ALARM_MARKER_RELEASED_EVENT = new AlarmMarkerEvent(Alarm.this, null, AlarmMarkerEvent.ALARM_MARKER_RELEASED);
+    public        final AlarmMarkerEvent      ALARM_MARKER_PRESSED_EVENT  = new AlarmMarkerEvent(Alarm.this, null, AlarmMarkerEvent.ALARM_MARKER_PRESSED);
+    public        final AlarmMarkerEvent      ALARM_MARKER_RELEASED_EVENT = new AlarmMarkerEvent(Alarm.this, null, AlarmMarkerEvent.ALARM_MARKER_RELEASED);
 
-    private             Repetition       repetition;
-    private             ZonedDateTime    time;
-    private             boolean          armed;
-    private             String           text;
-    private             Command          command;
-    private             Color            color;
+    private             Repetition            repetition;
+    private             ZonedDateTime         time;
+    private             boolean               armed;
+    private             String                text;
+    private             Command               command;
+    private             Color                 color;
+    private       final List<Consumer<Alarm>> scheduleListeners = new CopyOnWriteArrayList<>();
 
 
     // ******************** Constructors **************************************
@@ -98,7 +103,10 @@ public class Alarm {
      * The values are ONCE, HALF_HOURLY, HOURLY, DAILY, WEEKLY
      * @param REPETITION
      */
-    public void setRepetition(final Repetition REPETITION) { repetition = REPETITION; }
+    public void setRepetition(final Repetition REPETITION) {
+        repetition = REPETITION;
+        fireScheduleChanged();
+    }
 
     /**
      * Returns the time of the alarm.
@@ -109,7 +117,41 @@ public class Alarm {
      * Defines the time of the alarm.
      * @param TIME
      */
-    public void setTime(final ZonedDateTime TIME) { time = TIME; }
+    public void setTime(final ZonedDateTime TIME) {
+        time = TIME;
+        fireScheduleChanged();
+    }
+
+    /**
+     * Returns the next time the alarm should fire after the given time.
+     * Repeating alarms are matched by the second, minute, hour and day of week
+     * of the alarm time in the time zone of the given time. For alarms that
+     * will only fire once the alarm time will be returned.
+     * @param TIME
+     * @return the next time the alarm should fire after the given time
+     */
+    public ZonedDateTime getNextTime(final ZonedDateTime TIME) {
+        final ZonedDateTime FROM = TIME.withNano(0);
+        ZonedDateTime       next;
+        switch (repetition) {
+            case HALF_HOURLY:
+                next = FROM.withMinute(time.getMinute() % 30).withSecond(time.getSecond());
+                while (!next.isAfter(FROM)) { next = next.plusMinutes(30); }
+                return next;
+            case HOURLY:
+                next = FROM.withMinute(time.getMinute()).withSecond(time.getSecond());
+                return next.isAfter(FROM) ? next : next.plusHours(1);
+            case DAILY:
+                next = FROM.with(time.toLocalTime().withNano(0));
+                return next.isAfter(FROM) ? next : next.plusDays(1);
+            case WEEKLY:
+                next = FROM.with(TemporalAdjusters.nextOrSame(time.getDayOfWeek())).with(time.toLocalTime().withNano(0));
+                return next.isAfter(FROM) ? next : next.plusWeeks(1);
+            case ONCE:
+            default:
+                return time;
+        }
+    }
 
     /**
      * Returns true if the alarm is activated.
@@ -164,6 +206,11 @@ public class Alarm {
      */
     public void setColor(final Color COLOR) { color = COLOR; }
 
+    void addScheduleListener(final Consumer<Alarm> LISTENER) { if (!scheduleListeners.contains(LISTENER)) { scheduleListeners.add(LISTENER); } }
+    void removeScheduleListener(final Consumer<Alarm> LISTENER) { scheduleListeners.remove(LISTENER); }
+
+    private void fireScheduleChanged() { scheduleListeners.forEach(listener -> listener.accept(Alarm.this)); }
+
     @Override public String toString() {
         return new StringBuilder()
             .append("{\n")
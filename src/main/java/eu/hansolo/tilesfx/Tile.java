@@ -27,6 +27,7 @@ import eu.hansolo.tilesfx.events.SwitchEvent;
 import eu.hansolo.tilesfx.events.TileEvent;
 import eu.hansolo.tilesfx.events.TileEvent.EventType;
 import eu.hansolo.tilesfx.events.TileEventListener;
+import eu.hansolo.tilesfx.events.TileEventQueue;
 import eu.hansolo.tilesfx.events.TimeEvent;
 import eu.hansolo.tilesfx.events.TimeEvent.TimeEventType;
 import eu.hansolo.tilesfx.events.TimeEventListener;
@@ -39,8 +40,12 @@ import eu.hansolo.tilesfx.tools.Helper;
 import eu.hansolo.tilesfx.tools.Location;
 import eu.hansolo.tilesfx.tools.MovingAverage;
 import eu.hansolo.tilesfx.tools.SectionComparator;
+import eu.hansolo.tilesfx.tools.SectionIndex;
 import eu.hansolo.tilesfx.tools.TimeData;
+import eu.hansolo.tilesfx.tools.TickScheduler;
 import eu.hansolo.tilesfx.tools.TimeSectionComparator;
+import eu.hansolo.tilesfx.tools.TimingWheel;
+import eu.hansolo.tilesfx.tools.ValueCoalescer;
 import eu.hansolo.tilesfx.weather.DarkSky;
 import javafx.animation.Animation.Status;
 import javafx.animation.Interpolator;
@@ -48,10 +53,12 @@ import javafx.animation.KeyFrame;
 import javafx.animation.KeyValue;
 import javafx.animation.Timeline;
 import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
 import javafx.beans.binding.Bindings;
 import javafx.beans.binding.BooleanBinding;
 import javafx.beans.property.*;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.event.EventHandler;
 import javafx.geometry.NodeOrientation;
@@ -80,6 +87,8 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -87,12 +96,7 @@ import java.util.Objects;
 import java.util.Properties;
 import java.util.Queue;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
-import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import static eu.hansolo.tilesfx.tools.Helper.clamp;
@@ -192,6 +196,7 @@ public class Tile extends Control {
     public  static final int         SHORT_INTERVAL        = 20;
     public  static final int         LONG_INTERVAL         = 1000;
     private static final int         MAX_NO_OF_DECIMALS    = 3;
+    private static final int         MAX_MISSED_TICKS      = 5;
 
     private        final TileEvent   SHOW_NOTIFIER_EVENT   = new TileEvent(EventType.SHOW_NOTIFIER);
     private        final TileEvent   HIDE_NOTIFIER_EVENT   = new TileEvent(EventType.HIDE_NOTIFIER);
@@ -218,10 +223,14 @@ public class Tile extends Control {
     private        final TileEvent   FLIP_START_EVENT      = new TileEvent(EventType.FLIP_START);
     
     // Tile events
-    private              Queue<TileEvent>         tileEventQueue      = new LinkedBlockingQueue<>();
-    private              List<TileEventListener>  tileEventListeners  = new CopyOnWriteArrayList<>();
-    private              List<AlarmEventListener> alarmEventListeners = new CopyOnWriteArrayList<>();
-    private              List<TimeEventListener>  timeEventListeners  = new CopyOnWriteArrayList<>();
+    private static final EnumSet<EventType>        COALESCABLE_EVENT_TYPES = EnumSet.of(EventType.RECALC, EventType.REDRAW, EventType.RESIZE, EventType.VISIBILITY);
+    private        final TileEventQueue            tileEventQueue          = new TileEventQueue();
+    private              List<TileEventListener>   tileEventListeners      = new CopyOnWriteArrayList<>();
+    private              List<AlarmEventListener>  alarmEventListeners     = new CopyOnWriteArrayList<>();
+    private              List<TimeEventListener>   timeEventListeners      = new CopyOnWriteArrayList<>();
+    private        final Map<EventType, TileEvent> pendingTileEvents       = new EnumMap<>(EventType.class);
+    private volatile     boolean                   eventCoalescing;
+    private              long                      noOfSuppressedEvents;
 
     BooleanBinding       showing                                      = Bindings.selectBoolean(sceneProperty(), "window", "showing");
 
@@ -230,6 +239,7 @@ public class Tile extends Control {
     private              DoubleProperty                                oldValue;      // last value
     private              DoubleProperty                                currentValue;
     private              DoubleProperty                                formerValue;   // last current value
+    private              ValueCoalescer                                valueCoalescer;
     private              double                                        _minValue;
     private              DoubleProperty                                minValue;
     private              double                                        _maxValue;
@@ -267,6 +277,8 @@ public class Tile extends Control {
     private              IntegerProperty                               averagingPeriod;
     private              MovingAverage                                 movingAverage;
     private              ObservableList<Section>                       sections;
+    private              SectionIndex                                  sectionIndex;
+    private              InvalidationListener                          sectionBoundsListener;
     private              ObservableList<TilesFXSeries<String, Number>> series;
     private              List<Stop>                                    gradientStops;
     private              ObjectProperty<ZonedDateTime>                 time;
@@ -274,6 +286,7 @@ public class Tile extends Control {
     private              ZoneId                                        zoneId;
     private              int                                           updateInterval;
     private              ObservableList<TimeSection>                   timeSections;
+    private              TimeSectionSchedule                           timeSectionSchedule;
     private              LocalTime                                     _duration;
     private              ObjectProperty<LocalTime>                     duration;
     private              ObservableList<BarChartItem>                  barChartItems;
@@ -443,7 +456,9 @@ public class Tile extends Control {
     private              boolean                                       _alarmsVisible;
     private              BooleanProperty                               alarmsVisible;
     private              ObservableList<Alarm>                         alarms;
-    private              List<Alarm>                                   alarmsToRemove;
+    private              TimingWheel<Alarm>                            alarmWheel;
+    private              Consumer<Alarm>                               alarmScheduleListener;
+    private              boolean                                       alarmsChecked;
     private              boolean                                       _strokeWithGradient;
     private              BooleanProperty                               strokeWithGradient;
     private              boolean                                       _fillWithGradient;
@@ -466,6 +481,11 @@ public class Tile extends Control {
     private              ObjectProperty<CountryGroup>                  countryGroup;
     private              boolean                                       _sortedData;
     private              BooleanProperty                               sortedData;
+    private              Map<String, List<CountryPath>>                countryPaths;
+    private              boolean                                       _virtualizedItems;
+    private              BooleanProperty                               virtualizedItems;
+    private              boolean                                       _canvasSparkLine;
+    private              BooleanProperty                               canvasSparkLine;
     private              boolean                                       _dataPointsVisible;
     private              BooleanProperty                               dataPointsVisible;
     private              boolean                                       _snapToTicks;
@@ -479,9 +499,6 @@ public class Tile extends Control {
     private              Color                                         _notificationBackgroundColor;
     private              Color                                         _notificationForegroundColor;
 
-    private volatile     ScheduledFuture<?>                            periodicTickTask;
-    private static       ScheduledExecutorService                      periodicTickExecutorService;
-
 
     // ******************** Constructors **************************************
     public Tile() {
@@ -518,7 +535,7 @@ public class Tile extends Control {
                     currentValue.set(VALUE);
                     fireTileEvent(FINISHED_EVENT);
                 }
-                if (isAveragingEnabled()) { movingAverage.addData(new TimeData(VALUE)); }
+                if (isAveragingEnabled()) { getMovingAverage().addValue(VALUE); }
             }
             @Override protected void invalidated() { update(); }
             @Override public void set(final double VALUE) {
@@ -661,6 +678,8 @@ public class Tile extends Control {
         _radarChartMode                     = Mode.POLYGON;
         _chartGridColor                     = Tile.GRAY;
         _sortedData                         = true;
+        _virtualizedItems                   = false;
+        _canvasSparkLine                    = false;
         _dataPointsVisible                  = false;
         _snapToTicks                        = false;
         _minorTickCount                     = 0;
@@ -703,10 +722,9 @@ public class Tile extends Control {
         });
         showing.addListener((o, ov, nv) -> {
             if (nv) {
-                while(tileEventQueue.peek() != null) {
-                    TileEvent event = tileEventQueue.poll();
+                tileEventQueue.replay(event -> {
                     for (TileEventListener listener : tileEventListeners) { listener.onTileEvent(event); }
-                }
+                });
             }
         });
     }
@@ -731,6 +749,31 @@ public class Tile extends Control {
     public void setValue(final double VALUE) { value.set(VALUE); }
     public DoubleProperty valueProperty() { return value; }
 
+    /**
+     * Offers the given value to the Tile. In contrast to setValue() this
+     * method can be called from any thread. All values that will be offered
+     * within one pulse will be merged (latest wins by default) and the value
+     * of the Tile will be set only once per pulse on the FX application thread.
+     * Use getValueCoalescer() to change the merge mode or to get the
+     * number of merged and dropped values.
+     *
+     * @param VALUE
+     */
+    public void offerValue(final double VALUE) { getValueCoalescer().offer(VALUE); }
+
+    /**
+     * Returns the ValueCoalescer that is used to merge the values that will
+     * be offered by offerValue().
+     *
+     * @return the ValueCoalescer that is used by offerValue()
+     */
+    public synchronized ValueCoalescer getValueCoalescer() {
+        if (null == valueCoalescer) {
+            valueCoalescer = new ValueCoalescer(VALUE -> { if (!valueProperty().isBound()) { setValue(VALUE); } });
+        }
+        return valueCoalescer;
+    }
+
     /**
      * Returns the current value of the Tile. If animated == true this value
      * represents the current value during the animation. Otherwise it's returns
@@ -1351,9 +1394,45 @@ public class Tile extends Control {
      * @return an observable list of Section objects
      */
     public ObservableList<Section> getSections() {
-        if (null == sections) { sections = FXCollections.observableArrayList(); }
+        if (null == sections) {
+            sections = FXCollections.observableArrayList();
+            // Changing the start or stop of a section invalidates the index
+            sectionBoundsListener = o -> {
+                sectionIndex = null;
+                fireTileEvent(SECTION_EVENT);
+            };
+            sections.addListener((ListChangeListener<Section>) change -> {
+                while (change.next()) {
+                    if (change.wasRemoved()) {
+                        for (Section section : change.getRemoved()) {
+                            section.startProperty().removeListener(sectionBoundsListener);
+                            section.stopProperty().removeListener(sectionBoundsListener);
+                        }
+                    }
+                    if (change.wasAdded()) {
+                        for (Section section : change.getAddedSubList()) {
+                            section.startProperty().addListener(sectionBoundsListener);
+                            section.stopProperty().addListener(sectionBoundsListener);
+                        }
+                    }
+                }
+                sectionIndex = null;
+            });
+        }
         return sections;
     }
+    /**
+     * Returns an index of the sections that finds the sections
+     * which contain a given value in O(log n). The index will be
+     * created again after the list of sections or the start or
+     * stop value of a section has changed.
+     *
+     * @return an index of the sections
+     */
+    public SectionIndex getSectionIndex() {
+        if (null == sectionIndex) { sectionIndex = new SectionIndex(getSections()); }
+        return sectionIndex;
+    }
     /**
      * Sets the sections to the given list of Section objects. The
      * sections will be used to colorize areas with a special
@@ -1385,10 +1464,30 @@ public class Tile extends Control {
      */
     public void addSection(final Section SECTION) {
         if (null == SECTION) return;
-        getSections().add(SECTION);
-        getSections().sort(new SectionComparator());
+        List<Section> sectionList = getSections();
+        // The list is public and can be modified directly, so it is not necessarily sorted
+        if (!isSorted(sectionList)) {
+            sectionList.add(SECTION);
+            sectionList.sort(new SectionComparator());
+            fireTileEvent(SECTION_EVENT);
+            return;
+        }
+        // Insert the section behind all sections with the same start
+        int low  = 0;
+        int high = sectionList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sectionList.get(mid).compareTo(SECTION) <= 0) { low = mid + 1; } else { high = mid; }
+        }
+        sectionList.add(low, SECTION);
         fireTileEvent(SECTION_EVENT);
     }
+    private static boolean isSorted(final List<Section> SECTIONS) {
+        for (int i = 1 ; i < SECTIONS.size() ; i++) {
+            if (SECTIONS.get(i - 1).compareTo(SECTIONS.get(i)) > 0) { return false; }
+        }
+        return true;
+    }
     /**
      * Removes the given Section from the list of sections.
      * Sections in the Medusa library
@@ -1399,7 +1498,6 @@ public class Tile extends Control {
     public void removeSection(final Section SECTION) {
         if (null == SECTION) return;
         getSections().remove(SECTION);
-        getSections().sort(new SectionComparator());
         fireTileEvent(SECTION_EVENT);
     }
     /**
@@ -3463,7 +3561,11 @@ public class Tile extends Control {
      * @return an observable list of TimeSection objects
      */
     public ObservableList<TimeSection> getTimeSections() {
-        if (null == timeSections) { timeSections = FXCollections.observableArrayList(); }
+        if (null == timeSections) {
+            timeSections        = FXCollections.observableArrayList();
+            // The schedule is never replaced, it lives as long as the list of time sections
+            timeSectionSchedule = new TimeSectionSchedule(timeSections);
+        }
         return timeSections;
     }
     /**
@@ -3534,7 +3636,7 @@ public class Tile extends Control {
     public void setDiscreteSeconds(boolean DISCRETE) {
         if (null == discreteSeconds) {
             _discreteSeconds = DISCRETE;
-            stopTask(periodicTickTask);
+            stopTickTask();
             if (isAnimated()) return;
             scheduleTickTask();
         } else {
@@ -3545,7 +3647,7 @@ public class Tile extends Control {
         if (null == discreteSeconds) {
             discreteSeconds = new BooleanPropertyBase() {
                 @Override protected void invalidated() {
-                    stopTask(periodicTickTask);
+                    stopTickTask();
                     if (isAnimated()) return;
                     scheduleTickTask();
                 }
@@ -3572,7 +3674,7 @@ public class Tile extends Control {
     public void setDiscreteMinutes(boolean DISCRETE) {
         if (null == discreteMinutes) {
             _discreteMinutes = DISCRETE;
-            stopTask(periodicTickTask);
+            stopTickTask();
             if (isAnimated()) return;
             scheduleTickTask();
         } else {
@@ -3583,7 +3685,7 @@ public class Tile extends Control {
         if (null == discreteMinutes) {
             discreteMinutes = new BooleanPropertyBase() {
                 @Override protected void invalidated() {
-                    stopTask(periodicTickTask);
+                    stopTickTask();
                     if (isAnimated()) return;
                     scheduleTickTask();
                 }
@@ -3720,7 +3822,7 @@ public class Tile extends Control {
     public void setRunning(boolean RUNNING) {
         if (null == running) {
             _running = RUNNING;
-            if (RUNNING && !isAnimated()) { scheduleTickTask(); } else { stopTask(periodicTickTask); }
+            if (RUNNING && !isAnimated()) { scheduleTickTask(); } else { stopTickTask(); }
         } else {
             running.set(RUNNING);
         }
@@ -3729,7 +3831,7 @@ public class Tile extends Control {
         if (null == running) {
             running = new BooleanPropertyBase(_running) {
                 @Override protected void invalidated() {
-                    if (get() && !isAnimated()) { scheduleTickTask(); } else { stopTask(periodicTickTask); }
+                    if (get() && !isAnimated()) { scheduleTickTask(); } else { stopTickTask(); }
                 }
                 @Override public Object getBean() { return Tile.this; }
                 @Override public String getName() { return "running"; }
@@ -4088,7 +4190,28 @@ public class Tile extends Control {
      * @return an observable list of Alarm objects
      */
     public ObservableList<Alarm> getAlarms() {
-        if (null == alarms) { alarms = FXCollections.observableArrayList(); }
+        if (null == alarms) {
+            alarms     = FXCollections.observableArrayList();
+            alarmWheel = new TimingWheel<>(getTime().toEpochSecond());
+            // Changing the time or repetition of an alarm will reschedule it
+            alarmScheduleListener = alarm -> scheduleAlarm(alarm, getTime());
+            alarms.addListener((ListChangeListener<Alarm>) change -> {
+                while (change.next()) {
+                    if (change.wasRemoved()) {
+                        for (Alarm alarm : change.getRemoved()) {
+                            alarm.removeScheduleListener(alarmScheduleListener);
+                            alarmWheel.cancel(alarm);
+                        }
+                    }
+                    if (change.wasAdded()) {
+                        for (Alarm alarm : change.getAddedSubList()) {
+                            alarm.addScheduleListener(alarmScheduleListener);
+                            scheduleAlarm(alarm, getTime());
+                        }
+                    }
+                }
+            });
+        }
         return alarms;
     }
     /**
@@ -4342,6 +4465,63 @@ public class Tile extends Control {
         return sortedData;
     }
 
+    /**
+     * Returns true if the leader board and bar chart skins only create nodes
+     * for the visible rows and copy the data of the items into them. In this
+     * mode the items itself will not be added to the scene graph.
+     * Be aware that the LeaderBoardItems and BarChartItems still have to be
+     * created by the application and keep their listeners and animations, so
+     * only the scene graph (css, layout and rendering) scales with the height
+     * of the tile. Event handlers added to the items won't be called, use the
+     * SELECTED_CHART_DATA tile event instead.
+     * @return true if only the visible rows will be added to the scene graph
+     */
+    public boolean isVirtualizedItems() { return null == virtualizedItems ? _virtualizedItems : virtualizedItems.get(); }
+    public void setVirtualizedItems(final boolean VIRTUALIZED) {
+        if (null == virtualizedItems) {
+            _virtualizedItems = VIRTUALIZED;
+            fireTileEvent(DATA_EVENT);
+        } else {
+            virtualizedItems.set(VIRTUALIZED);
+        }
+    }
+    public BooleanProperty virtualizedItemsProperty() {
+        if (null == virtualizedItems) {
+            virtualizedItems = new BooleanPropertyBase(_virtualizedItems) {
+                @Override protected void invalidated() { fireTileEvent(DATA_EVENT); }
+                @Override public Object getBean() { return Tile.this; }
+                @Override public String getName() { return "virtualizedItems"; }
+            };
+        }
+        return virtualizedItems;
+    }
+
+    /**
+     * Returns true if the spark line skins draw the spark line on a canvas
+     * instead of using a path. Useful for averaging periods with thousands
+     * of values where updating the path geometry becomes expensive.
+     * @return true if the spark line will be drawn on a canvas
+     */
+    public boolean isCanvasSparkLine() { return null == canvasSparkLine ? _canvasSparkLine : canvasSparkLine.get(); }
+    public void setCanvasSparkLine(final boolean CANVAS) {
+        if (null == canvasSparkLine) {
+            _canvasSparkLine = CANVAS;
+            fireTileEvent(REDRAW_EVENT);
+        } else {
+            canvasSparkLine.set(CANVAS);
+        }
+    }
+    public BooleanProperty canvasSparkLineProperty() {
+        if (null == canvasSparkLine) {
+            canvasSparkLine = new BooleanPropertyBase(_canvasSparkLine) {
+                @Override protected void invalidated() { fireTileEvent(REDRAW_EVENT); }
+                @Override public Object getBean() { return Tile.this; }
+                @Override public String getName() { return "canvasSparkLine"; }
+            };
+        }
+        return canvasSparkLine;
+    }
+
     public boolean getDataPointsVisible() { return null == dataPointsVisible ? _dataPointsVisible : dataPointsVisible.get(); }
     public void setDataPointsVisible(final boolean VISIBLE) {
         if (null == dataPointsVisible) {
@@ -4507,7 +4687,8 @@ public class Tile extends Control {
      * @return a list of path elements that define the countries
      */
     public Map<String, List<CountryPath>> getCountryPaths() {
-        return Helper.getLoresCountryPaths();
+        if (null == countryPaths) { countryPaths = Helper.createLoresCountryPaths(); }
+        return countryPaths;
     }
 
     /**
@@ -4612,78 +4793,62 @@ public class Tile extends Control {
     }
 
     /**
-     * Calling this method will check the current time against all Alarm
-     * objects in alarms. The Alarm object will fire events in case the
-     * time is after the alarm time.
+     * Calling this method will check the current time against the Alarm
+     * objects that are due. Alarms are kept in a timing wheel keyed by
+     * their next fire time, so only the due alarms will be touched.
+     * If a few ticks were missed, all alarms that became due in the meantime
+     * will fire once in the order of their fire time. Repeating alarms
+     * will continue with their next fire time after the given time.
+     * If the time was set back or jumped forward by more than a few ticks
+     * or if alarms have been disabled before, repeating alarms will only
+     * fire at their next fire time after the given time.
      * @param TIME
      */
     private void checkAlarms(final ZonedDateTime TIME) {
-        if (null == alarmsToRemove) { alarmsToRemove = new ArrayList<>(); }
-        alarmsToRemove.clear();
-        for (Alarm alarm : alarms) {
-            final ZonedDateTime ALARM_TIME = alarm.getTime();
-            switch (alarm.getRepetition()) {
-                case ONCE:
-                    if (TIME.isAfter(ALARM_TIME)) {
-                        if (alarm.isArmed()) {
-                            fireAlarmEvent(new AlarmEvent(alarm));
-                            alarm.executeCommand();
-                        }
-                        alarmsToRemove.add(alarm);
-                    }
-                    break;
-                case HALF_HOURLY:
-                    if ((ALARM_TIME.getMinute() == TIME.getMinute() ||
-                         ALARM_TIME.plusMinutes(30).getMinute() == TIME.getMinute()) &&
-                        ALARM_TIME.getSecond() == TIME.getSecond()) {
-                        if (alarm.isArmed()) {
-                            fireAlarmEvent(new AlarmEvent(alarm));
-                            alarm.executeCommand();
-                        }
-                    }
-                    break;
-                case HOURLY:
-                    if (ALARM_TIME.getMinute() == TIME.getMinute() &&
-                        ALARM_TIME.getSecond() == TIME.getSecond()) {
-                        if (alarm.isArmed()) {
-                            fireAlarmEvent(new AlarmEvent(alarm));
-                            alarm.executeCommand();
-                        }
-                    }
-                    break;
-                case DAILY:
-                    if (ALARM_TIME.getHour()   == TIME.getHour() &&
-                        ALARM_TIME.getMinute() == TIME.getMinute() &&
-                        ALARM_TIME.getSecond() == TIME.getSecond()) {
-                        if (alarm.isArmed()) {
-                            fireAlarmEvent(new AlarmEvent(alarm));
-                            alarm.executeCommand();
-                        }
-                    }
-                    break;
-                case WEEKLY:
-                    if (ALARM_TIME.getDayOfWeek() == TIME.getDayOfWeek() &&
-                        ALARM_TIME.getHour()      == TIME.getHour() &&
-                        ALARM_TIME.getMinute()    == TIME.getMinute() &&
-                        ALARM_TIME.getSecond()    == TIME.getSecond()) {
-                        if (alarm.isArmed()) {
-                            fireAlarmEvent(new AlarmEvent(alarm));
-                            alarm.executeCommand();
-                        }
-                    }
-                    break;
+        if (null == alarmWheel) return;
+        final long SECOND  = TIME.toEpochSecond();
+        final long MAX_GAP = (MAX_MISSED_TICKS * updateInterval + 999) / 1000 + 1;
+        final long GAP     = SECOND - alarmWheel.getCurrentSecond();
+        if (!alarmsChecked || GAP < 0 || GAP > MAX_GAP) {
+            // Time was set, calculate the next fire times again
+            alarmWheel.reset(SECOND);
+            for (Alarm alarm : alarms) { scheduleAlarm(alarm, TIME); }
+        }
+        alarmsChecked = true;
+        for (Alarm alarm : alarmWheel.advanceTo(SECOND)) {
+            // Reschedule before firing so that listeners are able to remove the alarm
+            if (Alarm.Repetition.ONCE != alarm.getRepetition()) { scheduleAlarm(alarm, TIME); }
+            if (alarm.isArmed()) {
+                fireAlarmEvent(new AlarmEvent(alarm));
+                alarm.executeCommand();
             }
+            if (Alarm.Repetition.ONCE == alarm.getRepetition()) { removeAlarm(alarm); }
         }
-        for (Alarm alarm : alarmsToRemove) { removeAlarm(alarm); }
     }
 
-    private void tick() { Platform.runLater(() -> {
+    private void scheduleAlarm(final Alarm ALARM, final ZonedDateTime TIME) {
+        if (null == alarmWheel) return;
+        final ZonedDateTime NEXT_TIME = ALARM.getNextTime(TIME);
+        // An alarm fires as soon as the time is after the alarm time
+        alarmWheel.schedule(ALARM, NEXT_TIME.toEpochSecond() + (NEXT_TIME.getNano() > 0 ? 1 : 0));
+    }
+
+    private void tick() {
         ZonedDateTime oldTime = getTime();
         setTime(getTime().plus(java.time.Duration.ofMillis(updateInterval)));
         ZonedDateTime now = time.get();
-        if (isAlarmsEnabled()) checkAlarms(now);
-        if (getCheckSectionsForValue() && timeSections != null) {
-            for (TimeSection timeSection : timeSections) { timeSection.checkForTimeAndDate(now); }
+        if (isAlarmsEnabled()) {
+            checkAlarms(now);
+        } else {
+            alarmsChecked = false;
+        }
+        if (null != timeSectionSchedule) {
+            // Only the next enter or leave time of all time sections will be checked
+            if (getCheckSectionsForValue()) {
+                timeSectionSchedule.update(now);
+            } else {
+                timeSectionSchedule.reset();
+            }
         }
 
         if (timeEventListeners.isEmpty()) return;
@@ -4691,44 +4856,25 @@ public class Tile extends Control {
         if (oldTime.getSecond() != now.getSecond()) fireTimeEvent(new TimeEvent(Tile.this, now, TimeEventType.SECOND));
         if (oldTime.getMinute() != now.getMinute()) fireTimeEvent(new TimeEvent(Tile.this, now, TimeEventType.MINUTE));
         if (oldTime.getHour() != now.getHour()) fireTimeEvent(new TimeEvent(Tile.this, now, TimeEventType.HOUR));
-    }); }
+    }
 
     
     // ******************** Scheduled tasks ***********************************
-    private synchronized void enableTickExecutorService() {
-        if (null == periodicTickExecutorService) {
-            periodicTickExecutorService = new ScheduledThreadPoolExecutor(1, getThreadFactory("TileTick", true));
-        }
-    }
     private synchronized void scheduleTickTask() {
-        enableTickExecutorService();
-        stopTask(periodicTickTask);
-
         updateInterval = (isDiscreteMinutes() && isDiscreteSeconds()) ? LONG_INTERVAL : SHORT_INTERVAL;
-        periodicTickTask = periodicTickExecutorService.scheduleAtFixedRate(() -> tick(), 0, updateInterval, TimeUnit.MILLISECONDS);
+        // All running tiles with the same interval will be ticked by one shared task
+        TickScheduler.register(Tile.this, this::tick, updateInterval);
     }
 
-    private static ThreadFactory getThreadFactory(final String THREAD_NAME, final boolean IS_DAEMON) {
-        return runnable -> {
-            Thread thread = new Thread(runnable, THREAD_NAME);
-            thread.setDaemon(IS_DAEMON);
-            return thread;
-        };
-    }
-
-    private void stopTask(ScheduledFuture<?> task) {
-        if (null == task) return;
-        task.cancel(true);
-        task = null;
-    }
+    private void stopTickTask() { TickScheduler.unregister(Tile.this); }
 
     /**
      * Calling this method will stop all threads. This is needed when using
      * JavaFX on mobile devices when the device goes to sleep mode.
      */
     public void stop() {
-        if (null != periodicTickTask) { stopTask(periodicTickTask); }
-        if (null != periodicTickExecutorService) { periodicTickExecutorService.shutdownNow(); }
+        stopTickTask();
+        TickScheduler.shutdown();
     }
 
     private void createShutdownHook() { Runtime.getRuntime().addShutdownHook(new Thread(() -> stop())); }
@@ -4742,12 +4888,78 @@ public class Tile extends Control {
 
     public void fireTileEvent(final TileEvent EVENT) {
         if (showing.get()) {
+            if (eventCoalescing && COALESCABLE_EVENT_TYPES.contains(EVENT.getEventType())) {
+                // Events might be fired from the tick thread or from value producers
+                boolean firstOfType;
+                synchronized (pendingTileEvents) {
+                    firstOfType = null == pendingTileEvents.putIfAbsent(EVENT.getEventType(), EVENT);
+                    if (!firstOfType) { noOfSuppressedEvents++; }
+                }
+                if (firstOfType) {
+                    if (Platform.isFxApplicationThread()) {
+                        requestLayout();
+                    } else {
+                        Platform.runLater(() -> requestLayout());
+                    }
+                }
+                return;
+            }
+            // Keep the order of events, pending events have to be handled before all others
+            firePendingTileEvents();
             for (TileEventListener listener : tileEventListeners) { listener.onTileEvent(EVENT); }
         } else {
             tileEventQueue.add(EVENT);
         }
     }
 
+    /**
+     * Returns true if RECALC, REDRAW, RESIZE and VISIBILITY events that are
+     * fired one after the other within one pulse will be collapsed into one
+     * event of each type which will be fired before the next layout pass.
+     * @return true if redundant RECALC, REDRAW, RESIZE and VISIBILITY events will be collapsed
+     */
+    public boolean isEventCoalescing() { return eventCoalescing; }
+    /**
+     * Defines if RECALC, REDRAW, RESIZE and VISIBILITY events that are fired
+     * one after the other within one pulse should be collapsed into one event
+     * of each type which will be fired before the next layout pass.
+     * Other events will still be fired immediately but all pending events
+     * will be fired before them to keep the order of events.
+     * @param COALESCING
+     */
+    public void setEventCoalescing(final boolean COALESCING) {
+        eventCoalescing = COALESCING;
+        if (!COALESCING) { firePendingTileEvents(); }
+    }
+
+    /**
+     * Returns the number of events that have been suppressed because an
+     * event of the same type was already pending.
+     * @return the number of events that have been suppressed by event coalescing
+     */
+    public long getNoOfSuppressedEvents() { synchronized (pendingTileEvents) { return noOfSuppressedEvents; } }
+    public void resetNoOfSuppressedEvents() { synchronized (pendingTileEvents) { noOfSuppressedEvents = 0; } }
+
+    /**
+     * Returns the queue that collects the events while the tile is not showing.
+     * The queue keeps at most one event per type (except for sequential events
+     * like FLIP_START) and provides the queue depth and the replay time.
+     * @return the queue that collects the events while the tile is not showing
+     */
+    public TileEventQueue getTileEventQueue() { return tileEventQueue; }
+
+    private void firePendingTileEvents() {
+        List<TileEvent> events;
+        synchronized (pendingTileEvents) {
+            if (pendingTileEvents.isEmpty()) return;
+            events = new ArrayList<>(pendingTileEvents.values());
+            pendingTileEvents.clear();
+        }
+        for (TileEvent event : events) {
+            for (TileEventListener listener : tileEventListeners) { listener.onTileEvent(event); }
+        }
+    }
+
     
     public void setOnAlarm(final AlarmEventListener LISTENER) { addAlarmEventListener(LISTENER); }
     public void addAlarmEventListener(final AlarmEventListener LISTENER) { if (!alarmEventListeners.contains(LISTENER)) alarmEventListeners.add(LISTENER); }
@@ -4776,6 +4988,13 @@ public class Tile extends Control {
     public void removeOnSwitchReleased(final EventHandler<SwitchEvent> HANDLER) { removeEventHandler(SwitchEvent.SWITCH_RELEASED, HANDLER); }
 
 
+    // ******************** Layout ********************************************
+    @Override protected void layoutChildren() {
+        firePendingTileEvents();
+        super.layoutChildren();
+    }
+
+
     // ******************** Style related *************************************
     @Override protected Skin createDefaultSkin() {
         switch (skinType) {
@@ -386,6 +386,11 @@ public class TileBuilder<B extends TileBuilder<B>> {
         return (B)this;
     }
 
+    public final B eventCoalescing(final boolean COALESCING) {
+        properties.put("eventCoalescing", new SimpleBooleanProperty(COALESCING));
+        return (B)this;
+    }
+
     public final B flipTimeInMS(final long TIME) {
         properties.put("flipTimeInMS", new SimpleLongProperty(TIME));
         return (B)this;
@@ -768,6 +773,16 @@ public class TileBuilder<B extends TileBuilder<B>> {
         return (B)this;
     }
 
+    public final B virtualizedItems(final boolean VIRTUALIZED) {
+        properties.put("virtualizedItems", new SimpleBooleanProperty(VIRTUALIZED));
+        return (B)this;
+    }
+
+    public final B canvasSparkLine(final boolean CANVAS) {
+        properties.put("canvasSparkLine", new SimpleBooleanProperty(CANVAS));
+        return (B)this;
+    }
+
     public final B dataPointsVisible(final boolean VISIBLE) {
         properties.put("dataPointsVisible", new SimpleBooleanProperty(VISIBLE));
         return (B)this;
@@ -1396,6 +1411,12 @@ public class TileBuilder<B extends TileBuilder<B>> {
                 CONTROL.setCountryGroup(((ObjectProperty<CountryGroup>) properties.get(key)).get());
             } else if ("sortedData".equals(key)) {
                 CONTROL.setSortedData(((BooleanProperty) properties.get(key)).get());
+            } else if ("virtualizedItems".equals(key)) {
+                CONTROL.setVirtualizedItems(((BooleanProperty) properties.get(key)).get());
+            } else if ("canvasSparkLine".equals(key)) {
+                CONTROL.setCanvasSparkLine(((BooleanProperty) properties.get(key)).get());
+            } else if ("eventCoalescing".equals(key)) {
+                CONTROL.setEventCoalescing(((BooleanProperty) properties.get(key)).get());
             } else if ("flipTimeInMS".equals(key)) {
                 CONTROL.setFlipTimeInMS(((LongProperty) properties.get(key)).get());
             } else if ("flipText".equals(key)) {
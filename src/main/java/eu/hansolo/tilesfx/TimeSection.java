@@ -19,6 +19,7 @@ package eu.hansolo.tilesfx;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.BooleanPropertyBase;
 import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ObjectPropertyBase;
 import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
@@ -39,6 +40,8 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 
 /**
@@ -47,24 +50,25 @@ import java.util.Set;
 public class TimeSection implements Comparable<TimeSection> {
     public final TimeSectionEvent ENTERED_EVENT = new TimeSectionEvent(this, null, TimeSectionEvent.TIME_SECTION_ENTERED);
     public final TimeSectionEvent LEFT_EVENT    = new TimeSectionEvent(this, null, TimeSectionEvent.TIME_SECTION_LEFT);
-    private LocalTime                 _start;
-    private ObjectProperty<LocalTime> start;
-    private LocalTime                 _stop;
-    private ObjectProperty<LocalTime> stop;
-    private String                    _text;
-    private StringProperty            text;
-    private Image                     _icon;
-    private ObjectProperty<Image>     icon;
-    private Color                     _color;
-    private ObjectProperty<Color>     color;
-    private Color                     _highlightColor;
-    private ObjectProperty<Color>     highlightColor;
-    private Color                     _textColor;
-    private ObjectProperty<Color>     textColor;
-    private LocalTime                 checkedValue;
-    private boolean                   _active;
-    private BooleanProperty           active;
-    private Set<DayOfWeek>            days;
+    private       LocalTime                   _start;
+    private       ObjectProperty<LocalTime>   start;
+    private       LocalTime                   _stop;
+    private       ObjectProperty<LocalTime>   stop;
+    private       String                      _text;
+    private       StringProperty              text;
+    private       Image                       _icon;
+    private       ObjectProperty<Image>       icon;
+    private       Color                       _color;
+    private       ObjectProperty<Color>       color;
+    private       Color                       _highlightColor;
+    private       ObjectProperty<Color>       highlightColor;
+    private       Color                       _textColor;
+    private       ObjectProperty<Color>       textColor;
+    private       LocalTime                   checkedValue;
+    private       boolean                     _active;
+    private       BooleanProperty             active;
+    private       Set<DayOfWeek>              days;
+    private final List<Consumer<TimeSection>> scheduleListeners = new CopyOnWriteArrayList<>();
 
 
     // ******************** Constructors **************************************
@@ -129,12 +133,19 @@ public class TimeSection implements Comparable<TimeSection> {
     public void setStart(final LocalTime START) {
         if (null == start) {
             _start = START;
+            fireScheduleChanged();
         } else {
             start.set(START);
         }
     }
     public ObjectProperty<LocalTime> startProperty() {
-        if (null == start) { start = new SimpleObjectProperty<>(TimeSection.this, "start", _start); }
+        if (null == start) {
+            start = new ObjectPropertyBase<LocalTime>(_start) {
+                @Override protected void invalidated() { fireScheduleChanged(); }
+                @Override public Object getBean() { return TimeSection.this; }
+                @Override public String getName() { return "start"; }
+            };
+        }
         return start;
     }
 
@@ -150,12 +161,19 @@ public class TimeSection implements Comparable<TimeSection> {
     public void setStop(final LocalTime STOP) {
         if (null == stop) {
             _stop = STOP;
+            fireScheduleChanged();
         } else {
             stop.set(STOP);
         }
     }
     public ObjectProperty<LocalTime> stopProperty() {
-        if (null == stop) { stop = new SimpleObjectProperty<>(TimeSection.this, "stop", _stop); }
+        if (null == stop) {
+            stop = new ObjectPropertyBase<LocalTime>(_stop) {
+                @Override protected void invalidated() { fireScheduleChanged(); }
+                @Override public Object getBean() { return TimeSection.this; }
+                @Override public String getName() { return "stop"; }
+            };
+        }
         return stop;
     }
 
@@ -271,6 +289,7 @@ public class TimeSection implements Comparable<TimeSection> {
     public void setActive(final boolean ACTIVE) {
         if (null == active) {
             _active = ACTIVE;
+            fireScheduleChanged();
         } else {
             active.set(ACTIVE);
         }
@@ -278,6 +297,7 @@ public class TimeSection implements Comparable<TimeSection> {
     public ReadOnlyBooleanProperty activeProperty() {
         if (null == active) {
             active = new BooleanPropertyBase(_active) {
+                @Override protected void invalidated() { fireScheduleChanged(); }
                 @Override public Object getBean() { return TimeSection.this; }
                 @Override public String getName() { return "active"; }
             };
@@ -285,19 +305,40 @@ public class TimeSection implements Comparable<TimeSection> {
         return active;
     }
 
+    /**
+     * Returns the days of the section. Please use the setters to change
+     * the days, otherwise tiles won't notice the change.
+     * @return the days of the section
+     */
     public Set<DayOfWeek> getDays() { return days; }
     public List<DayOfWeek> getDaysAsList() { return new ArrayList<>(days); }
     public void setDays(final DayOfWeek... DAYS) {
         days.clear();
         Collections.addAll(days, DAYS);
+        fireScheduleChanged();
     }
     public void setDays(final Set<DayOfWeek> DAYS) {
         days.clear();
         days.addAll(DAYS);
+        fireScheduleChanged();
+    }
+    public void addDay(final DayOfWeek DAY) {
+        days.add(DAY);
+        fireScheduleChanged();
+    }
+    public void removeDay(final DayOfWeek DAY) {
+        days.remove(DAY);
+        fireScheduleChanged();
     }
-    public void addDay(final DayOfWeek DAY) { days.add(DAY); }
-    public void removeDay(final DayOfWeek DAY) { days.remove(DAY); }
-    public void clearDays() { days.clear(); }
+    public void clearDays() {
+        days.clear();
+        fireScheduleChanged();
+    }
+
+    void addScheduleListener(final Consumer<TimeSection> LISTENER) { if (!scheduleListeners.contains(LISTENER)) { scheduleListeners.add(LISTENER); } }
+    void removeScheduleListener(final Consumer<TimeSection> LISTENER) { scheduleListeners.remove(LISTENER); }
+
+    private void fireScheduleChanged() { scheduleListeners.forEach(listener -> listener.accept(TimeSection.this)); }
 
 
     /**
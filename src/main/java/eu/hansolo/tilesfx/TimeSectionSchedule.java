@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.tilesfx;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZonedDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+
+class TimeSectionSchedule {
+    private static final long                            NANOS_PER_DAY = 86_400_000_000_000L;
+    private        final ObservableList<TimeSection>     sections;
+    private        final ListChangeListener<TimeSection> listListener;
+    private        final Consumer<TimeSection>           scheduleListener;
+    private        final Set<TimeSection>                enteredSections;
+    private              Transition[]                    transitions;      // sorted by the nano of the week at which they happen
+    private volatile     boolean                         dirty;            // set by the listeners, which might be called from other threads
+    private              LocalDateTime                   lastTime;
+    private              LocalDateTime                   weekStart;        // monday 00:00 of the week of the next transition
+    private              LocalDateTime                   nextTransitionTime;
+    private              int                             nextIndex;
+
+    /*
+     * A time section contains all times t with start < t < stop on its days.
+     * So every active section has one enter transition at start + 1ns and one
+     * leave transition at stop for each of its days. A transition happens as
+     * soon as the time is equal or after it. Between two transitions nothing
+     * can change, so a tick only has to compare the time with the next one.
+     */
+
+
+    // ******************** Constructors **************************************
+    TimeSectionSchedule(final ObservableList<TimeSection> SECTIONS) {
+        sections         = SECTIONS;
+        enteredSections  = Collections.newSetFromMap(new IdentityHashMap<>());
+        transitions      = new Transition[0];
+        dirty            = true;
+        scheduleListener = section -> dirty = true;
+        listListener     = c -> {
+            while (c.next()) {
+                if (c.wasRemoved()) {
+                    for (TimeSection removedSection : c.getRemoved()) {
+                        if (sections.contains(removedSection)) { continue; }
+                        removedSection.removeScheduleListener(scheduleListener);
+                        enteredSections.remove(removedSection);
+                    }
+                }
+                if (c.wasAdded()) { c.getAddedSubList().forEach(addedSection -> addedSection.addScheduleListener(scheduleListener)); }
+            }
+            dirty = true;
+        };
+        sections.forEach(section -> section.addScheduleListener(scheduleListener));
+        sections.addListener(listListener);
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Fires the enter and leave events of all transitions between the last
+     * and the given time in the order of their time. If the time was set
+     * back or jumped more than a week ahead only the sections that have been
+     * entered or left in comparison to the last time will fire events.
+     * @param TIME
+     */
+    void update(final ZonedDateTime TIME) {
+        LocalDateTime time = TIME.toLocalDateTime();
+        if (dirty || null == lastTime || time.isBefore(lastTime) || time.isAfter(lastTime.plusWeeks(1))) {
+            resync(time);
+            return;
+        }
+        while (!time.isBefore(nextTransitionTime)) {
+            Transition transition = transitions[nextIndex];
+            if (transition.enter) {
+                if (enteredSections.add(transition.section)) { transition.section.fireTimeSectionEvent(transition.section.ENTERED_EVENT); }
+            } else {
+                if (enteredSections.remove(transition.section)) { transition.section.fireTimeSectionEvent(transition.section.LEFT_EVENT); }
+            }
+            // An event handler might have changed the sections
+            if (dirty) {
+                resync(time);
+                return;
+            }
+            if (++nextIndex == transitions.length) {
+                nextIndex = 0;
+                weekStart = weekStart.plusWeeks(1);
+            }
+            nextTransitionTime = weekStart.plusNanos(transitions[nextIndex].nanoOfWeek);
+        }
+        lastTime = time;
+    }
+
+    /**
+     * Forgets the last time, the next update will only fire events for
+     * the sections that have been entered or left since the last update
+     */
+    void reset() { lastTime = null; }
+
+    private void resync(final LocalDateTime TIME) {
+        if (dirty) { rebuild(); }
+        lastTime = TIME;
+
+        // Only compare the sections that contain the given time with the ones that have been entered before
+        DayOfWeek         day       = TIME.getDayOfWeek();
+        LocalTime         localTime = TIME.toLocalTime();
+        List<TimeSection> snapshot  = new ArrayList<>(sections);
+        for (TimeSection section : snapshot) {
+            if (!enteredSections.contains(section) || isInSection(section, day, localTime)) { continue; }
+            enteredSections.remove(section);
+            // Inactive sections do not fire events
+            if (section.isActive()) { section.fireTimeSectionEvent(section.LEFT_EVENT); }
+        }
+        for (TimeSection section : snapshot) {
+            if (isInSection(section, day, localTime) && enteredSections.add(section)) { section.fireTimeSectionEvent(section.ENTERED_EVENT); }
+        }
+        if (dirty) { rebuild(); }
+
+        weekStart = TIME.toLocalDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).atStartOfDay();
+        if (0 == transitions.length) {
+            nextTransitionTime = LocalDateTime.MAX;
+            return;
+        }
+        long nanoOfWeek = (day.getValue() - 1) * NANOS_PER_DAY + localTime.toNanoOfDay();
+        nextIndex = getNextIndex(nanoOfWeek);
+        if (nextIndex == transitions.length) {
+            nextIndex = 0;
+            weekStart = weekStart.plusWeeks(1);
+        }
+        nextTransitionTime = weekStart.plusNanos(transitions[nextIndex].nanoOfWeek);
+    }
+
+    private void rebuild() {
+        dirty = false;
+        List<Transition> transitionList = new ArrayList<>();
+        for (int i = 0 ; i < sections.size() ; i++) {
+            TimeSection section = sections.get(i);
+            LocalTime   start   = section.getStart();
+            LocalTime   stop    = section.getStop();
+            if (!section.isActive() || null == start || null == stop || !start.isBefore(stop)) { continue; }
+            for (DayOfWeek day : section.getDays()) {
+                long dayOffset = (day.getValue() - 1) * NANOS_PER_DAY;
+                transitionList.add(new Transition(dayOffset + start.toNanoOfDay() + 1, section, true, i));
+                transitionList.add(new Transition(dayOffset + stop.toNanoOfDay(), section, false, i));
+            }
+        }
+        // Transitions at the same time: leave before enter, then in the order of the list
+        transitionList.sort((t1, t2) -> {
+            int result = Long.compare(t1.nanoOfWeek, t2.nanoOfWeek);
+            if (0 == result) { result = Boolean.compare(t1.enter, t2.enter); }
+            return 0 == result ? Integer.compare(t1.index, t2.index) : result;
+        });
+        transitions = transitionList.toArray(new Transition[0]);
+    }
+
+    // Same as TimeSection.checkForTimeAndDate()
+    private boolean isInSection(final TimeSection SECTION, final DayOfWeek DAY, final LocalTime TIME) {
+        return SECTION.isActive() && SECTION.getDays().contains(DAY) && SECTION.contains(TIME);
+    }
+
+    // Returns the index of the first transition that happens after the given nano of the week
+    private int getNextIndex(final long NANO_OF_WEEK) {
+        int low  = 0;
+        int high = transitions.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (transitions[mid].nanoOfWeek <= NANO_OF_WEEK) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+
+    // ******************** Inner Classes *************************************
+    private static class Transition {
+        private final long        nanoOfWeek;
+        private final TimeSection section;
+        private final boolean     enter;
+        private final int         index;
+
+
+        // ******************** Constructors **************************************
+        Transition(final long NANO_OF_WEEK, final TimeSection SECTION, final boolean ENTER, final int INDEX) {
+            nanoOfWeek = NANO_OF_WEEK;
+            section    = SECTION;
+            enter      = ENTER;
+            index      = INDEX;
+        }
+    }
+}
@@ -26,13 +26,18 @@ import javafx.beans.DefaultProperty;
 import javafx.beans.InvalidationListener;
 import javafx.collections.ObservableList;
 import javafx.event.EventHandler;
+import javafx.geometry.BoundingBox;
 import javafx.geometry.Bounds;
 import javafx.scene.Node;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.Region;
 import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
 
 import java.util.concurrent.CopyOnWriteArrayList;
 
@@ -45,12 +50,17 @@ import java.util.concurrent.CopyOnWriteArrayList;
 @DefaultProperty("children")
 public class PixelMatrix extends Region {
     public  enum PixelShape { SQUARE, ROUNDED_RECT, ROUND }
+    public  enum RenderMode { CANVAS, IMAGE }
     public  static final double                                         DEFAULT_SPACER_SIZE_FACTOR = 0.05;
     private static final int                                            RED_MASK                   = 255 << 16;
     private static final int                                            GREEN_MASK                 = 255 << 8;
     private static final int                                            BLUE_MASK                  = 255;
     private static final int                                            ALPHA_MASK                 = 255 << 24;
     private static final double                                         ALPHA_FACTOR               = 1.0 / 255.0;
+    private static final int                                            COLOR_CACHE_SIZE           = 256;  // power of 2
+    private static final double                                         MAX_DIRTY_FRACTION         = 0.5;
+    private static final double                                         MAX_CANVAS_WIDTH           = 8192;  // max texture size on most graphic cards
+    private static final double                                         MAX_IMAGE_SPACER           = 0.25;  // spacers below this size are not visible
     private              double                                         preferredWidth;
     private              double                                         preferredHeight;
     private              double                                         width;
@@ -80,6 +90,31 @@ public class PixelMatrix extends Region {
     private              InvalidationListener                           sizeListener;
     private              EventHandler<MouseEvent>                       clickHandler;
     private              CopyOnWriteArrayList<PixelMatrixEventListener> listeners;
+    private              CtxBounds                                      pixelBounds;
+    private              CtxCornerRadii                                 pixelCornerRadii;
+    // Dirty tracking, cells are indexed by x * rows + y
+    private              int[]                                          paintedColors;
+    private              boolean[]                                      dirtyFlags;
+    private              int[]                                          dirtyCells;
+    private              int                                            noOfDirtyCells;
+    private              boolean                                        fullRedrawRequired;
+    private              int                                            updateDepth;
+    private              boolean                                        redrawPending;
+    // Direct mapped cache of Color objects by packed ARGB value
+    private              int[]                                          colorCacheKeys;
+    private              Color[]                                        colorCacheValues;
+    // Scrolling, logical column x is stored in matrix[(x + colOffset) % cols]. In scrolling
+    // mode the canvas contains each column twice and is translated by colOffset columns
+    private              boolean                                        scrolling;
+    private              boolean                                        doubleCanvas;
+    private              int                                            colOffset;
+    private              Rectangle                                      visibleArea;
+    // Image rendering, one image pixel per matrix pixel scaled without smoothing
+    private              RenderMode                                     renderMode;
+    private              boolean                                        imageMode;
+    private              ImageView                                      imageView;
+    private              WritableImage                                  image;
+    private              int[]                                          imageBuffer;
 
 
     // ******************** Constructors **************************************
@@ -111,6 +146,13 @@ public class PixelMatrix extends Region {
         sizeListener           = o -> resize();
         clickHandler           = e -> checkForClick(e);
         listeners              = new CopyOnWriteArrayList<>();
+        pixelBounds            = new CtxBounds();
+        pixelCornerRadii       = new CtxCornerRadii();
+        colorCacheKeys         = new int[COLOR_CACHE_SIZE];
+        colorCacheValues       = new Color[COLOR_CACHE_SIZE];
+        visibleArea            = new Rectangle();
+        renderMode             = RenderMode.CANVAS;
+        initBuffers();
         initGraphics();
         registerListeners();
     }
@@ -136,9 +178,27 @@ public class PixelMatrix extends Region {
 
         canvas = new Canvas(preferredWidth, preferredHeight);
         ctx = canvas.getGraphicsContext2D();
+        canvas.setVisible(!imageMode);
 
-        getChildren().setAll(canvas);
+        imageView = new ImageView();
+        imageView.setSmooth(false);
+        imageView.setPreserveRatio(false);
+        imageView.setVisible(imageMode);
+
+        getChildren().setAll(canvas, imageView);
         canvas.addEventHandler(MouseEvent.MOUSE_PRESSED, clickHandler);
+        imageView.addEventHandler(MouseEvent.MOUSE_PRESSED, clickHandler);
+    }
+
+    private void initBuffers() {
+        paintedColors      = new int[cols * rows];
+        dirtyFlags         = new boolean[cols * rows];
+        dirtyCells         = new int[cols * rows];
+        noOfDirtyCells     = 0;
+        fullRedrawRequired = true;
+        colOffset          = 0;
+        image              = null;
+        imageBuffer        = null;
     }
 
     private void registerListeners() {
@@ -156,6 +216,7 @@ public class PixelMatrix extends Region {
         cols   = COLS;
         rows   = ROWS;
         matrix = new int[cols][rows];
+        initBuffers();
         initGraphics();
         resize();
     }
@@ -163,24 +224,25 @@ public class PixelMatrix extends Region {
     public Color getPixelOnColor() { return convertToColor(pixelOnColor); }
     public void setPixelOnColor(final Color COLOR) {
         pixelOnColor = convertToInt(COLOR);
-        drawMatrix();
+        requestFullRedraw();
     }
 
     public Color getPixelOffColor() { return convertToColor(pixelOffColor); }
     public void setPixelOffColor(final Color COLOR) {
         pixelOffColor = convertToInt(COLOR);
+        normalize();
         for (int y = 0 ; y < rows ; y++) {
             for (int x = 0 ; x < cols ; x++) {
                 matrix[x][y] = pixelOffColor;
             }
         }
-        drawMatrix();
+        requestFullRedraw();
     }
 
     public PixelShape getPixelShape() { return pixelShape; }
     public void setPixelShape(final PixelShape SHAPE) {
         pixelShape = SHAPE;
-        drawMatrix();
+        resize();
     }
 
     public MatrixFont getMatrixFont() { return matrixFont; }
@@ -189,7 +251,7 @@ public class PixelMatrix extends Region {
         characterWidth         = matrixFont.getCharacterWidth();
         characterHeight        = matrixFont.getCharacterHeight();
         characterWidthMinusOne = characterWidth - 1;
-        drawMatrix();
+        requestFullRedraw();
     }
 
     public boolean isUsingSpacer() { return useSpacer; }
@@ -209,7 +271,7 @@ public class PixelMatrix extends Region {
         spacerSizeFactor         = Helper.clamp(0.0, 0.2, FACTOR);
         spacer                   = useSpacer ? pixelSize * spacerSizeFactor : 0;
         pixelSizeMinusDoubleSpacer = pixelSize - spacer * 2;
-        drawMatrix();
+        resize();
     }
 
     public void setPixel(final int X, final int Y, final boolean VALUE) { setPixel(X, Y, VALUE ? pixelOnColor : pixelOffColor); }
@@ -217,16 +279,19 @@ public class PixelMatrix extends Region {
     public void setPixel(final int X, final int Y, final int COLOR_VALUE) {
         if (X >= cols || X < 0) return;
         if (Y >= rows || Y < 0) return;
-        matrix[X][Y] = COLOR_VALUE;
+        final int COL = col(X);
+        if (matrix[COL][Y] == COLOR_VALUE) return;
+        matrix[COL][Y] = COLOR_VALUE;
+        markDirty(COL * rows + Y);
     }
 
     public void setPixelWithRedraw(final int X, final int Y, final boolean ON) {
         setPixel(X, Y, ON ? pixelOnColor : pixelOffColor);
-        drawMatrix();
+        requestRedraw();
     }
     public void setPixelWithRedraw(final int X, final int Y, final int COLOR_VALUE) {
         setPixel(X, Y, COLOR_VALUE);
-        drawMatrix();
+        requestRedraw();
     }
 
     public void setCharAt(final char CHAR, final int X, final int Y) {
@@ -239,7 +304,7 @@ public class PixelMatrix extends Region {
                 setPixel(x + X, y + Y, getBitAt(characterWidthMinusOne - x, y, c) == 0 ? pixelOffColor : COLOR_VALUE);
             }
         }
-        drawMatrix();
+        requestRedraw();
     }
 
     public void setCharAtWithBackground(final char CHAR, final int X, final int Y) {
@@ -253,24 +318,72 @@ public class PixelMatrix extends Region {
                 setPixel(x + X, y + Y, COLOR_VALUE);
             }
         }
-        drawMatrix();
+        requestRedraw();
     }
 
     public double getPixelSize() { return pixelSize; }
     public double getPixelWidth() { return pixelWidth; }
     public double getPixelHeight() { return pixelHeight; }
 
-    public double getMatrixWidth() { return canvas.getWidth(); }
-    public double getMatrixHeight() { return canvas.getHeight(); }
+    public double getMatrixWidth() { return cols * pixelWidth; }
+    public double getMatrixHeight() { return rows * pixelHeight; }
 
-    public Bounds getMatrixLayoutBounds() { return canvas.getLayoutBounds(); }
-    public Bounds getMatrixBoundsInParent() { return canvas.getBoundsInParent(); }
-    public Bounds getMatrixBoundsInLocal() { return canvas.getBoundsInLocal(); }
+    public Bounds getMatrixLayoutBounds() { return doubleCanvas ? getVisibleCanvasBounds() : canvas.getLayoutBounds(); }
+    public Bounds getMatrixBoundsInParent() { return doubleCanvas ? visibleArea.getBoundsInLocal() : canvas.getBoundsInParent(); }
+    public Bounds getMatrixBoundsInLocal() { return doubleCanvas ? getVisibleCanvasBounds() : canvas.getBoundsInLocal(); }
 
     public int getCols() { return cols; }
     public int getRows() { return rows; }
 
-    public int[][] getMatrix() { return matrix; }
+    /**
+     * Returns the matrix of packed ARGB values. If the matrix will be
+     * modified directly, drawMatrix() has to be called afterwards.
+     * @return the matrix of packed ARGB values
+     */
+    public int[][] getMatrix() {
+        normalize();
+        return matrix;
+    }
+
+    public RenderMode getRenderMode() { return renderMode; }
+    /**
+     * Defines how the pixels will be rendered. RenderMode.CANVAS paints each
+     * pixel on a canvas. RenderMode.IMAGE writes the pixels into an image with
+     * one image pixel per matrix pixel that will be scaled without smoothing,
+     * which is much faster for large matrices. The image can only be used for
+     * PixelShape.SQUARE without visible spacers, in all other cases the canvas
+     * will be used.
+     * @param MODE
+     */
+    public void setRenderMode(final RenderMode MODE) {
+        if (null == MODE) { throw new IllegalArgumentException("RenderMode cannot be null"); }
+        if (renderMode == MODE) return;
+        renderMode = MODE;
+        resize();
+    }
+
+    /**
+     * Returns true if the pixels are currently rendered into an image
+     * @return true if the pixels are currently rendered into an image
+     */
+    public boolean isImageRendering() { return imageMode; }
+
+    public boolean isScrolling() { return scrolling; }
+    /**
+     * Enables the scrolling mode in which shiftLeft() and shiftRight() only
+     * move a column offset and translate the already painted pixels instead
+     * of moving the matrix data and repainting all pixels. Pixels that will
+     * be set afterwards (e.g. the newly exposed column) will be painted as usual.
+     * The scrolling mode needs a canvas of twice the matrix width and will
+     * fall back to repainting if that would exceed the max texture size.
+     * @param SCROLLING
+     */
+    public void setScrolling(final boolean SCROLLING) {
+        if (scrolling == SCROLLING) return;
+        normalize();
+        scrolling = SCROLLING;
+        resize();
+    }
 
     public static Color convertToColor(final int COLOR_VALUE) {
         return Color.rgb((COLOR_VALUE & RED_MASK) >> 16, (COLOR_VALUE & GREEN_MASK) >> 8, (COLOR_VALUE & BLUE_MASK), ALPHA_FACTOR * ((COLOR_VALUE & ALPHA_MASK) >>> 24));
@@ -290,54 +403,50 @@ public class PixelMatrix extends Region {
     public static int getBitAt(final int X, final int Y, final int[] BYTE_ARRAY) { return (BYTE_ARRAY[Y] >> X) & 1; }
     public static boolean getBitAtBoolean(final int X, final int Y, final int[] BYTE_ARRAY) { return ((BYTE_ARRAY[Y] >> X) & 1) == 1; }
 
-    public int getColorValueAt(final int X, final int Y) { return matrix[X][Y]; }
+    public int getColorValueAt(final int X, final int Y) { return matrix[col(X)][Y]; }
 
-    public Color getColorAt(final int X, final int Y) { return convertToColor(matrix[X][Y]); }
+    public Color getColorAt(final int X, final int Y) { return convertToColor(matrix[col(X)][Y]); }
 
     public void shiftLeft() {
-        int[] firstColumn = new int[rows];
-        for (int y = 0 ; y < rows ; y++) { firstColumn[y] = matrix[0][y]; }
-        for (int y = 0 ; y < rows ; y++) {
-            for (int x = 1 ; x < cols ; x++) {
-                matrix[x - 1][y] = matrix[x][y];
-            }
+        if (cols < 2) return;
+        if (doubleCanvas) {
+            setColOffset(colOffset == cols - 1 ? 0 : colOffset + 1);
+        } else {
+            int[] firstColumn = matrix[0];
+            System.arraycopy(matrix, 1, matrix, 0, cols - 1);
+            matrix[cols - 1] = firstColumn;
+            requestFullRedraw();
         }
-        for (int y = 0 ; y < rows ; y++) { matrix[cols - 1][y] = firstColumn[y]; }
-        drawMatrix();
     }
     public void shiftRight() {
-        int[] lastColumn = new int[rows];
-        for (int y = 0 ; y < rows ; y++) { lastColumn[y] = matrix[cols - 1][y]; }
-        for (int y = 0 ; y < rows ; y++) {
-            for (int x = cols - 2 ; x >= 0 ; x--) {
-                matrix[x + 1][y] = matrix[x][y];
-            }
+        if (cols < 2) return;
+        if (doubleCanvas) {
+            setColOffset(colOffset == 0 ? cols - 1 : colOffset - 1);
+        } else {
+            int[] lastColumn = matrix[cols - 1];
+            System.arraycopy(matrix, 0, matrix, 1, cols - 1);
+            matrix[0] = lastColumn;
+            requestFullRedraw();
         }
-        for (int y = 0 ; y < rows ; y++) { matrix[0][y] = lastColumn[y]; }
-        drawMatrix();
     }
 
     public void shiftUp() {
-        int[] firstRow = new int[cols];
-        for (int x = 0 ; x < cols ; x++) { firstRow[x] = matrix[x][0]; }
-        for (int y = 1 ; y < rows ; y++) {
-            for (int x = 0 ; x < cols ; x++) {
-                matrix[x][y - 1] = matrix[x][y];
-            }
+        if (rows < 2) return;
+        for (int[] column : matrix) {
+            int first = column[0];
+            System.arraycopy(column, 1, column, 0, rows - 1);
+            column[rows - 1] = first;
         }
-        for (int x = 0 ; x < cols ; x++) { matrix[x][rows - 1] = firstRow[x]; }
-        drawMatrix();
+        requestFullRedraw();
     }
     public void shiftDown() {
-        int[] lastRow = new int[cols];
-        for (int x = 0 ; x < cols ; x++) { lastRow[x] = matrix[x][rows - 1]; }
-        for (int y = rows - 2 ; y >= 0 ; y--) {
-            for (int x = 0 ; x < cols ; x++) {
-                matrix[x][y + 1] = matrix[x][y];
-            }
+        if (rows < 2) return;
+        for (int[] column : matrix) {
+            int last = column[rows - 1];
+            System.arraycopy(column, 0, column, 1, rows - 1);
+            column[0] = last;
         }
-        for (int x = 0 ; x < cols ; x++) { matrix[x][0] = lastRow[x]; }
-        drawMatrix();
+        requestFullRedraw();
     }
 
     public void setAllPixelsOn() {
@@ -346,7 +455,7 @@ public class PixelMatrix extends Region {
                 setPixel(x, y, true);
             }
         }
-        drawMatrix();
+        requestRedraw();
     }
     public void setAllPixelsOff() {
         for (int y = 0; y < rows; y++) {
@@ -354,45 +463,220 @@ public class PixelMatrix extends Region {
                 setPixel(x, y, false);
             }
         }
-        drawMatrix();
+        requestRedraw();
     }
 
+    /**
+     * Starts a batch update. All pixel changes until the matching call of
+     * commitUpdate() will be painted at once. Calls can be nested.
+     */
+    public void beginUpdate() { updateDepth++; }
+
+    /**
+     * Ends a batch update and paints all pixels that have been changed since
+     * the matching call of beginUpdate().
+     */
+    public void commitUpdate() {
+        if (updateDepth == 0) return;
+        updateDepth--;
+        if (updateDepth > 0 || !redrawPending) return;
+        redrawPending = false;
+        if (fullRedrawRequired) { drawMatrix(); } else { drawDirtyPixels(); }
+    }
+
+    public boolean isUpdating() { return updateDepth > 0; }
+
+    /**
+     * Repaints all pixels of the matrix
+     */
     public void drawMatrix() {
-        ctx.clearRect(0, 0, width, height);
+        if (updateDepth > 0) {
+            fullRedrawRequired = true;
+            redrawPending      = true;
+            return;
+        }
+        if (imageMode) {
+            drawImage();
+            return;
+        }
+        ctx.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        for (int x = 0; x < cols; x++) {
+            for (int y = 0; y < rows; y++) {
+                fillPixel(x, y);
+                paintedColors[x * rows + y] = matrix[x][y];
+            }
+        }
+        canvas.setTranslateX(-colOffset * pixelWidth);
+        clearDirtyCells();
+        fullRedrawRequired = false;
+    }
+
+    /**
+     * Repaints only the pixels that have been changed since the last paint
+     */
+    private void drawDirtyPixels() {
+        if (noOfDirtyCells > cols * rows * MAX_DIRTY_FRACTION) {
+            drawMatrix();
+            return;
+        }
+        if (imageMode) {
+            drawDirtyImagePixels();
+            return;
+        }
+        for (int i = 0 ; i < noOfDirtyCells ; i++) {
+            int cell = dirtyCells[i];
+            int x    = cell / rows;
+            int y    = cell % rows;
+            dirtyFlags[cell] = false;
+            // A pixel that was changed and changed back does not need to be painted
+            if (paintedColors[cell] == matrix[x][y]) continue;
+            ctx.clearRect(x * pixelWidth + spacer, y * pixelHeight + spacer, pixelWidthMinusDoubleSpacer, pixelHeightMinusDoubleSpacer);
+            if (doubleCanvas) { ctx.clearRect((x + cols) * pixelWidth + spacer, y * pixelHeight + spacer, pixelWidthMinusDoubleSpacer, pixelHeightMinusDoubleSpacer); }
+            fillPixel(x, y);
+            paintedColors[cell] = matrix[x][y];
+        }
+        noOfDirtyCells = 0;
+    }
+
+    private void drawImage() {
+        // Without the double canvas the column offset is always 0
+        if (null == image) {
+            image       = new WritableImage(cols, rows);
+            imageBuffer = new int[cols * rows];
+            imageView.setImage(image);
+        }
+        for (int x = 0 ; x < cols ; x++) {
+            for (int y = 0 ; y < rows ; y++) {
+                imageBuffer[y * cols + x]   = matrix[x][y];
+                paintedColors[x * rows + y] = matrix[x][y];
+            }
+        }
+        image.getPixelWriter().setPixels(0, 0, cols, rows, PixelFormat.getIntArgbInstance(), imageBuffer, 0, cols);
+        clearDirtyCells();
+        fullRedrawRequired = false;
+    }
+
+    private void drawDirtyImagePixels() {
+        int minX = cols;
+        int minY = rows;
+        int maxX = -1;
+        int maxY = -1;
+        for (int i = 0 ; i < noOfDirtyCells ; i++) {
+            int cell = dirtyCells[i];
+            int x    = cell / rows;
+            int y    = cell % rows;
+            dirtyFlags[cell] = false;
+            if (paintedColors[cell] == matrix[x][y]) continue;
+            imageBuffer[y * cols + x] = matrix[x][y];
+            paintedColors[cell]       = matrix[x][y];
+            minX = Math.min(minX, x);
+            minY = Math.min(minY, y);
+            maxX = Math.max(maxX, x);
+            maxY = Math.max(maxY, y);
+        }
+        noOfDirtyCells = 0;
+        if (maxX < 0) return;
+        // Write only the bounding box of the changed pixels
+        image.getPixelWriter().setPixels(minX, minY, maxX - minX + 1, maxY - minY + 1, PixelFormat.getIntArgbInstance(), imageBuffer, minY * cols + minX, cols);
+    }
+
+    /**
+     * Paints the pixel that is stored in matrix[X][Y] at its position on the
+     * canvas and in scrolling mode also at its position in the second copy
+     * @param X the column in the matrix array
+     * @param Y the row in the matrix array
+     */
+    private void fillPixel(final int X, final int Y) {
+        ctx.setFill(getCachedColor(matrix[X][Y]));
+        fillPixelAt(X * pixelWidth + spacer, Y * pixelHeight + spacer);
+        if (doubleCanvas) { fillPixelAt((X + cols) * pixelWidth + spacer, Y * pixelHeight + spacer); }
+    }
+
+    private void fillPixelAt(final double PIXEL_X, final double PIXEL_Y) {
         switch(pixelShape) {
             case ROUNDED_RECT:
-                CtxBounds      bounds      = new CtxBounds(pixelWidthMinusDoubleSpacer, pixelHeightMinusDoubleSpacer);
-                CtxCornerRadii cornerRadii = new CtxCornerRadii(pixelSize * 0.125);
-                for (int y = 0; y < rows; y++) {
-                    for (int x = 0; x < cols; x++) {
-                        ctx.setFill(convertToColor(matrix[x][y]));
-                        bounds.setX(x * pixelWidth + spacer);
-                        bounds.setY(y * pixelHeight + spacer);
-                        Helper.drawRoundedRect(ctx, bounds, cornerRadii);
-                        ctx.fill();
-                    }
-                }
+                pixelBounds.setX(PIXEL_X);
+                pixelBounds.setY(PIXEL_Y);
+                Helper.drawRoundedRect(ctx, pixelBounds, pixelCornerRadii);
+                ctx.fill();
                 break;
             case ROUND:
-                for (int y = 0; y < rows; y++) {
-                    for (int x = 0; x < cols; x++) {
-                        ctx.setFill(convertToColor(matrix[x][y]));
-                        ctx.fillOval(x * pixelWidth + spacer, y * pixelHeight + spacer, pixelWidthMinusDoubleSpacer, pixelHeightMinusDoubleSpacer);
-                    }
-                }
+                ctx.fillOval(PIXEL_X, PIXEL_Y, pixelWidthMinusDoubleSpacer, pixelHeightMinusDoubleSpacer);
                 break;
             case SQUARE:
             default    :
-                for (int y = 0; y < rows; y++) {
-                    for (int x = 0; x < cols; x++) {
-                        ctx.setFill(convertToColor(matrix[x][y]));
-                        ctx.fillRect(x * pixelWidth + spacer, y * pixelHeight + spacer, pixelWidthMinusDoubleSpacer, pixelHeightMinusDoubleSpacer);
-                    }
-                }
+                ctx.fillRect(PIXEL_X, PIXEL_Y, pixelWidthMinusDoubleSpacer, pixelHeightMinusDoubleSpacer);
                 break;
         }
     }
 
+    private void markDirty(final int CELL) {
+        if (fullRedrawRequired || dirtyFlags[CELL]) return;
+        dirtyFlags[CELL]             = true;
+        dirtyCells[noOfDirtyCells++] = CELL;
+    }
+
+    private void clearDirtyCells() {
+        for (int i = 0 ; i < noOfDirtyCells ; i++) { dirtyFlags[dirtyCells[i]] = false; }
+        noOfDirtyCells = 0;
+    }
+
+    private void requestRedraw() {
+        if (updateDepth > 0) {
+            redrawPending = true;
+        } else if (fullRedrawRequired) {
+            drawMatrix();
+        } else {
+            drawDirtyPixels();
+        }
+    }
+
+    private void requestFullRedraw() {
+        fullRedrawRequired = true;
+        requestRedraw();
+    }
+
+    private int col(final int X) {
+        if (colOffset == 0) return X;
+        int col = X + colOffset;
+        return col >= cols ? col - cols : col;
+    }
+
+    private void setColOffset(final int OFFSET) {
+        colOffset = OFFSET;
+        // A pending full redraw will set the translation after painting
+        if (!fullRedrawRequired) { canvas.setTranslateX(-colOffset * pixelWidth); }
+    }
+
+    /**
+     * Rotates the columns of the matrix so that logical and physical columns
+     * are the same again. The canvas keeps showing the current state until the
+     * next full redraw.
+     */
+    private void normalize() {
+        if (colOffset == 0) return;
+        int[][] rotated = new int[cols][];
+        for (int x = 0 ; x < cols ; x++) { rotated[x] = matrix[col(x)]; }
+        System.arraycopy(rotated, 0, matrix, 0, cols);
+        colOffset          = 0;
+        fullRedrawRequired = true;
+        clearDirtyCells();
+    }
+
+    private Bounds getVisibleCanvasBounds() { return new BoundingBox(colOffset * pixelWidth, 0, getMatrixWidth(), getMatrixHeight()); }
+
+    private Color getCachedColor(final int COLOR_VALUE) {
+        int hash  = COLOR_VALUE * 0x9E3779B9;
+        int index = (hash ^ (hash >>> 16)) & (COLOR_CACHE_SIZE - 1);
+        Color color = colorCacheValues[index];
+        if (null == color || colorCacheKeys[index] != COLOR_VALUE) {
+            color                   = convertToColor(COLOR_VALUE);
+            colorCacheKeys[index]   = COLOR_VALUE;
+            colorCacheValues[index] = color;
+        }
+        return color;
+    }
+
     public void setOnPixelMatrixEvent(final PixelMatrixEventListener LISTENER) { addPixelMatrixEventListener(LISTENER); }
     public void addPixelMatrixEventListener(final PixelMatrixEventListener LISTENER) { if (!listeners.contains(LISTENER)) listeners.add(LISTENER); }
     public void removePixelMatrixEventListener(final PixelMatrixEventListener LISTENER) { if (listeners.contains(LISTENER)) listeners.remove(LISTENER); }
@@ -420,9 +704,10 @@ public class PixelMatrix extends Region {
     public void checkForClick(final MouseEvent EVT) {
         double spacerPlusPixelWidthMinusDoubleSpacer  = spacer + pixelWidthMinusDoubleSpacer;
         double spacerPlusPixelHeightMinusDoubleSpacer = spacer + pixelHeightMinusDoubleSpacer;
+        double eventX                                 = EVT.getX() - colOffset * pixelWidth;
         for (int y = 0; y < rows; y++) {
             for (int x = 0; x < cols; x++) {
-                if (Helper.isInRectangle(EVT.getX(), EVT.getY(), x * pixelWidth + spacer, y * pixelHeight + spacer, x * pixelWidth + spacerPlusPixelWidthMinusDoubleSpacer, y * pixelHeight + spacerPlusPixelHeightMinusDoubleSpacer)) {
+                if (Helper.isInRectangle(eventX, EVT.getY(), x * pixelWidth + spacer, y * pixelHeight + spacer, x * pixelWidth + spacerPlusPixelWidthMinusDoubleSpacer, y * pixelHeight + spacerPlusPixelHeightMinusDoubleSpacer)) {
                     firePixelMatrixEvent(new PixelMatrixEvent(x, y, EVT.getScreenX(), EVT.getScreenY()));
                     break;
                 }
@@ -451,12 +736,45 @@ public class PixelMatrix extends Region {
                 pixelWidthMinusDoubleSpacer  = pixelSizeMinusDoubleSpacer;
                 pixelHeightMinusDoubleSpacer = pixelSizeMinusDoubleSpacer;
             }
-            canvas.setWidth(cols * pixelWidth);
-            canvas.setHeight(rows * pixelHeight);
+            imageMode = RenderMode.IMAGE == renderMode && PixelShape.SQUARE == pixelShape && spacer < MAX_IMAGE_SPACER;
+            canvas.setVisible(!imageMode);
+            imageView.setVisible(imageMode);
+
+            boolean wasDoubleCanvas = doubleCanvas;
+            doubleCanvas = scrolling && !imageMode && cols * pixelWidth * 2 <= MAX_CANVAS_WIDTH;
+            if (wasDoubleCanvas && !doubleCanvas) { normalize(); }
+
+            if (imageMode) {
+                canvas.setWidth(0);
+                canvas.setHeight(0);
+            } else {
+                canvas.setWidth(cols * pixelWidth * (doubleCanvas ? 2 : 1));
+                canvas.setHeight(rows * pixelHeight);
+            }
 
             canvas.relocate((getWidth() - (cols *pixelWidth)) * 0.5, (getHeight() - (rows * pixelHeight)) * 0.5);
+            imageView.setFitWidth(cols * pixelWidth);
+            imageView.setFitHeight(rows * pixelHeight);
+            imageView.relocate(canvas.getLayoutX(), canvas.getLayoutY());
+
+            if (doubleCanvas) {
+                visibleArea.setX(canvas.getLayoutX());
+                visibleArea.setY(canvas.getLayoutY());
+                visibleArea.setWidth(cols * pixelWidth);
+                visibleArea.setHeight(rows * pixelHeight);
+                setClip(visibleArea);
+            } else {
+                setClip(null);
+            }
 
-            drawMatrix();
+            pixelBounds.setWidth(pixelWidthMinusDoubleSpacer);
+            pixelBounds.setHeight(pixelHeightMinusDoubleSpacer);
+            pixelCornerRadii.setTopLeft(pixelSize * 0.125);
+            pixelCornerRadii.setTopRight(pixelSize * 0.125);
+            pixelCornerRadii.setBottomRight(pixelSize * 0.125);
+            pixelCornerRadii.setBottomLeft(pixelSize * 0.125);
+
+            requestFullRedraw();
         }
     }
 }
@@ -17,6 +17,7 @@
 package eu.hansolo.tilesfx.chart;
 
 import eu.hansolo.tilesfx.chart.PixelMatrix.PixelShape;
+import eu.hansolo.tilesfx.chart.PixelMatrix.RenderMode;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.IntegerProperty;
@@ -90,6 +91,11 @@ public class PixelMatrixBuilder<B extends PixelMatrixBuilder<B>> {
         return (B)this;
     }
 
+    public final B renderMode(final RenderMode MODE) {
+        properties.put("renderMode", new SimpleObjectProperty(MODE));
+        return (B)this;
+    }
+
     public final B prefSize(final double WIDTH, final double HEIGHT) {
         properties.put("prefSize", new SimpleObjectProperty<>(new Dimension2D(WIDTH, HEIGHT)));
         return (B)this;
@@ -222,6 +228,8 @@ public class PixelMatrixBuilder<B extends PixelMatrixBuilder<B>> {
                 CONTROL.setSpacerSizeFactor(((DoubleProperty) properties.get(key)).get());
             } else if ("squarePixels".equals(key)) {
                 CONTROL.setSquarePixels(((BooleanProperty) properties.get(key)).get());
+            } else if ("renderMode".equals(key)) {
+                CONTROL.setRenderMode(((ObjectProperty<RenderMode>) properties.get(key)).get());
             }
         }
         return CONTROL;
@@ -17,8 +17,8 @@
 package eu.hansolo.tilesfx.chart;
 
 import eu.hansolo.tilesfx.events.SmoothedChartEvent;
+import eu.hansolo.tilesfx.tools.Decimator;
 import eu.hansolo.tilesfx.tools.Helper;
-import eu.hansolo.tilesfx.tools.Point;
 import javafx.animation.FadeTransition;
 import javafx.animation.PauseTransition;
 import javafx.animation.SequentialTransition;
@@ -44,6 +44,7 @@ import javafx.scene.Node;
 import javafx.scene.chart.AreaChart;
 import javafx.scene.chart.Axis;
 import javafx.scene.chart.NumberAxis;
+import javafx.scene.chart.ValueAxis;
 import javafx.scene.chart.XYChart;
 import javafx.scene.control.Tooltip;
 import javafx.scene.input.MouseEvent;
@@ -58,7 +59,6 @@ import javafx.scene.layout.StackPane;
 import javafx.scene.paint.Color;
 import javafx.scene.paint.Paint;
 import javafx.scene.shape.Circle;
-import javafx.scene.shape.ClosePath;
 import javafx.scene.shape.Line;
 import javafx.scene.shape.LineTo;
 import javafx.scene.shape.MoveTo;
@@ -67,6 +67,7 @@ import javafx.scene.shape.PathElement;
 import javafx.util.Duration;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 import java.util.stream.Collectors;
@@ -75,12 +76,21 @@ import java.util.stream.Collectors;
 public class SmoothedChart<X, Y> extends AreaChart<X, Y> {
     public static final Background TRANSPARENT_BACKGROUND = new Background(new BackgroundFill(Color.TRANSPARENT, CornerRadii.EMPTY, Insets.EMPTY));
     public enum ChartType { AREA, LINE }
+    public enum Decimation { NONE, LTTB, MIN_MAX }
     private static final int                              MAX_SUBDIVISIONS = 64;
     private static final int                              MAX_DECIMALS     = 10;
     private              boolean                          _smoothed;
     private              BooleanProperty                  smoothed;
     private              ChartType                        _chartType;
     private              ObjectProperty<ChartType>        chartType;
+    private              Decimation                       _decimation;
+    private              ObjectProperty<Decimation>       decimation;
+    private              double[]                         xValues;
+    private              double[]                         yValues;
+    private              double[]                         decimatedXValues;
+    private              double[]                         decimatedYValues;
+    private              double[]                         smoothedXValues;
+    private              double[]                         smoothedYValues;
     private              int                              _subDivisions;
     private              IntegerProperty                  subDivisions;
     private              boolean                          _snapToTicks;
@@ -132,6 +142,13 @@ public class SmoothedChart<X, Y> extends AreaChart<X, Y> {
     private void init() {
         _smoothed                  = true;
         _chartType                 = ChartType.LINE;
+        _decimation                = Decimation.NONE;
+        xValues                    = new double[0];
+        yValues                    = new double[0];
+        decimatedXValues           = new double[0];
+        decimatedYValues           = new double[0];
+        smoothedXValues            = new double[0];
+        smoothedYValues            = new double[0];
         _subDivisions              = 16;
         _snapToTicks               = false;
         _selectorFillColor         = Color.WHITE;
@@ -251,6 +268,39 @@ public class SmoothedChart<X, Y> extends AreaChart<X, Y> {
         return chartType;
     }
 
+    public Decimation getDecimation() { return null == decimation ? _decimation : decimation.get(); }
+    /**
+     * Defines if and how the points of a series will be reduced to about the width
+     * of the plot area before the line will be smoothed. LTTB keeps the visual shape
+     * of the line, MIN_MAX keeps the min and max value of each pixel column.
+     * The decimation only affects the drawn paths, the data of the series is not changed.
+     * If no symbols will be created and the chart is not animated the paths will be
+     * created directly from the decimated data instead of a path element per data point.
+     * @param DECIMATION
+     */
+    public void setDecimation(final Decimation DECIMATION) {
+        if (null == decimation) {
+            _decimation = null == DECIMATION ? Decimation.NONE : DECIMATION;
+            layoutPlotChildren();
+        } else {
+            decimation.set(DECIMATION);
+        }
+    }
+    public ObjectProperty<Decimation> decimationProperty() {
+        if (null == decimation) {
+            decimation = new ObjectPropertyBase<Decimation>(_decimation) {
+                @Override protected void invalidated() {
+                    if (null == get()) { set(Decimation.NONE); }
+                    layoutPlotChildren();
+                }
+                @Override public Object getBean() { return SmoothedChart.this; }
+                @Override public String getName() { return "decimation"; }
+            };
+            _decimation = null;
+        }
+        return decimation;
+    }
+
     public int getSubDivisions() { return null == subDivisions ? _subDivisions : subDivisions.get(); }
     public void setSubDivisions(final int SUB_DIVISIONS) {
         if (null == subDivisions) {
@@ -649,18 +699,121 @@ public class SmoothedChart<X, Y> extends AreaChart<X, Y> {
 
     // ******************** Internal Methods **********************************
     @Override protected void layoutPlotChildren() {
-        super.layoutPlotChildren();
-
-        double height = getLayoutBounds().getHeight();
+        Decimation decimation = getDecimation();
+        // Without symbols and animations AreaChart only creates the paths, in this case they will
+        // be created from the data so that only the decimated points become path elements
+        boolean    fromData   = Decimation.NONE != decimation && !getCreateSymbols() && !getAnimated();
+        if (!fromData) { super.layoutPlotChildren(); }
+
+        double     height     = getLayoutBounds().getHeight();
+        double     base       = getBasePosition(height);
+        int        maxPoints  = Math.max(3, (int) Math.ceil(getChartPlotBackground().getWidth()));
         getData().forEach(series -> {
             final Path[] paths = getPaths(series);
             if (null == paths) { return; }
-            if (isSmoothed()) { smooth(paths[1].getElements(), paths[0].getElements(), height); }
+            int     noOfPoints = fromData ? readPoints(series) : readPoints(paths[1].getElements());
+            boolean decimated  = false;
+            if (Decimation.NONE != decimation && noOfPoints > maxPoints) {
+                noOfPoints = decimate(decimation, noOfPoints, maxPoints);
+                decimated  = true;
+            }
+            if (0 == noOfPoints) {
+                if (fromData) {
+                    paths[0].getElements().clear();
+                    paths[1].getElements().clear();
+                }
+            } else if (isSmoothed() && noOfPoints > 2) {
+                smooth(decimated ? decimatedXValues : xValues, decimated ? decimatedYValues : yValues, noOfPoints, paths[1].getElements(), paths[0].getElements(), height);
+            } else if (decimated || fromData) {
+                setPoints(decimated ? decimatedXValues : xValues, decimated ? decimatedYValues : yValues, noOfPoints, paths[1].getElements(), paths[0].getElements(), base);
+            }
             paths[0].setVisible(ChartType.AREA == getChartType());
             paths[0].setManaged(ChartType.AREA == getChartType());
         });
     }
 
+    // The fill of AreaChart is closed at the zero position of the y axis or at the bound that is nearest to zero
+    @SuppressWarnings("unchecked")
+    private double getBasePosition(final double HEIGHT) {
+        Axis<Y> yAxis        = getYAxis();
+        double  basePosition = yAxis.getZeroPosition();
+        if (Double.isNaN(basePosition)) {
+            if (!(yAxis instanceof ValueAxis)) { return HEIGHT; }
+            ValueAxis<Number> valueAxis = (ValueAxis<Number>) yAxis;
+            basePosition = valueAxis.getDisplayPosition(valueAxis.getLowerBound() > 0 ? valueAxis.getLowerBound() : valueAxis.getUpperBound());
+        }
+        return basePosition;
+    }
+
+    // Reads the points from the stroke path elements that have been created by AreaChart
+    private int readPoints(final List<PathElement> STROKE_ELEMENTS) {
+        int noOfElements = STROKE_ELEMENTS.size();
+        if (xValues.length < noOfElements) {
+            xValues = new double[noOfElements];
+            yValues = new double[noOfElements];
+        }
+        int noOfPoints = 0;
+        for (PathElement element : STROKE_ELEMENTS) {
+            if (element instanceof MoveTo) {
+                xValues[noOfPoints]   = ((MoveTo) element).getX();
+                yValues[noOfPoints++] = ((MoveTo) element).getY();
+            } else if (element instanceof LineTo) {
+                xValues[noOfPoints]   = ((LineTo) element).getX();
+                yValues[noOfPoints++] = ((LineTo) element).getY();
+            }
+        }
+        return noOfPoints;
+    }
+
+    // Reads the display positions of the data of the given series sorted by x, like AreaChart does
+    private int readPoints(final Series<X, Y> SERIES) {
+        int noOfData = SERIES.getData().size();
+        if (xValues.length < noOfData) {
+            xValues = new double[noOfData];
+            yValues = new double[noOfData];
+        }
+        Axis<X> xAxis      = getXAxis();
+        Axis<Y> yAxis      = getYAxis();
+        int     noOfPoints = 0;
+        boolean sorted     = true;
+        for (Data<X, Y> data : SERIES.getData()) {
+            double x = xAxis.getDisplayPosition(data.getXValue());
+            double y = yAxis.getDisplayPosition(data.getYValue());
+            if (Double.isNaN(x) || Double.isNaN(y)) { continue; }
+            if (noOfPoints > 0 && x < xValues[noOfPoints - 1]) { sorted = false; }
+            xValues[noOfPoints]   = x;
+            yValues[noOfPoints++] = y;
+        }
+        if (!sorted) { sortPoints(noOfPoints); }
+        return noOfPoints;
+    }
+
+    private void sortPoints(final int NO_OF_POINTS) {
+        Integer[] indices = new Integer[NO_OF_POINTS];
+        for (int i = 0 ; i < NO_OF_POINTS ; i++) { indices[i] = i; }
+        Arrays.sort(indices, (i1, i2) -> Double.compare(xValues[i1], xValues[i2]));
+        double[] sortedXValues = new double[xValues.length];
+        double[] sortedYValues = new double[yValues.length];
+        for (int i = 0 ; i < NO_OF_POINTS ; i++) {
+            sortedXValues[i] = xValues[indices[i]];
+            sortedYValues[i] = yValues[indices[i]];
+        }
+        xValues = sortedXValues;
+        yValues = sortedYValues;
+    }
+
+    private int decimate(final Decimation DECIMATION, final int NO_OF_POINTS, final int MAX_POINTS) {
+        if (decimatedXValues.length < NO_OF_POINTS) {
+            decimatedXValues = new double[NO_OF_POINTS];
+            decimatedYValues = new double[NO_OF_POINTS];
+        }
+        switch(DECIMATION) {
+            case MIN_MAX: return Decimator.minMax(xValues, yValues, NO_OF_POINTS, MAX_POINTS, decimatedXValues, decimatedYValues);
+            case LTTB   :
+            default     : return Decimator.lttb(xValues, yValues, NO_OF_POINTS, MAX_POINTS, decimatedXValues, decimatedYValues);
+        }
+    }
+
     /**
      * Returns an array of paths where the first entry represents the fill path
      * and the second entry represents the stroke path
@@ -786,42 +939,35 @@ public class SmoothedChart<X, Y> extends AreaChart<X, Y> {
         }
     }
 
-    private void smooth(ObservableList<PathElement> strokeElements, ObservableList<PathElement> fillElements, final double HEIGHT) {
-        if (fillElements.isEmpty()) return;
-        // as we do not have direct access to the data, first recreate the list of all the data points we have
-        final Point[] dataPoints = new Point[strokeElements.size()];
-        for (int i = 0; i < strokeElements.size(); i++) {
-            final PathElement element = strokeElements.get(i);
-            if (element instanceof MoveTo) {
-                final MoveTo move = (MoveTo) element;
-                dataPoints[i] = new Point(move.getX(), move.getY());
-            } else if (element instanceof LineTo) {
-                final LineTo line = (LineTo) element;
-                final double x = line.getX(), y = line.getY();
-                dataPoints[i] = new Point(x, y);
-            }
+    private void smooth(final double[] X, final double[] Y, final int NO_OF_POINTS, ObservableList<PathElement> strokeElements, ObservableList<PathElement> fillElements, final double HEIGHT) {
+        if (NO_OF_POINTS == 0) return;
+        double firstX           = X[0];
+        double lastX            = X[NO_OF_POINTS - 1];
+        int    subDivisions     = getSubDivisions();
+        int    noOfSmoothPoints = Helper.getNoOfSubdividedPoints(NO_OF_POINTS, subDivisions);
+        if (smoothedXValues.length < noOfSmoothPoints) {
+            smoothedXValues = new double[noOfSmoothPoints];
+            smoothedYValues = new double[noOfSmoothPoints];
         }
-        double firstX = dataPoints[0].getX();
-        double lastX  = dataPoints[dataPoints.length - 1].getX();
-
-        Point[] points = Helper.subdividePoints(dataPoints, getSubDivisions());
-
-        fillElements.clear();
-        fillElements.add(new MoveTo(firstX, HEIGHT));
+        Helper.subdividePoints(X, Y, NO_OF_POINTS, subDivisions, smoothedXValues, smoothedYValues);
 
-        strokeElements.clear();
-        strokeElements.add(new MoveTo(points[0].getX(), points[0].getY()));
-
-        for (Point p : points) {
-            if (Double.compare(p.getX(), firstX) >= 0) {
-                fillElements.add(new LineTo(p.getX(), p.getY()));
-                strokeElements.add(new LineTo(p.getX(), p.getY()));
+        // Skip points of the spline that are left of the first data point
+        int noOfPoints = 0;
+        for (int i = 0 ; i < noOfSmoothPoints ; i++) {
+            if (Double.compare(smoothedXValues[i], firstX) >= 0) {
+                smoothedXValues[noOfPoints]   = smoothedXValues[i];
+                smoothedYValues[noOfPoints++] = smoothedYValues[i];
             }
         }
+        Helper.setLineElements(strokeElements, smoothedXValues, smoothedYValues, noOfPoints);
+        Helper.setFillElements(fillElements, smoothedXValues, smoothedYValues, noOfPoints, firstX, lastX, HEIGHT);
+    }
 
-        fillElements.add(new LineTo(lastX, HEIGHT));
-        fillElements.add(new LineTo(0, HEIGHT));
-        fillElements.add(new ClosePath());
+    private void setPoints(final double[] X, final double[] Y, final int NO_OF_POINTS, ObservableList<PathElement> strokeElements, ObservableList<PathElement> fillElements, final double BASE_POSITION) {
+        if (NO_OF_POINTS == 0) return;
+        // The existing path elements will be reused if the number of points did not change
+        Helper.setLineElements(strokeElements, X, Y, NO_OF_POINTS);
+        Helper.setFillElements(fillElements, X, Y, NO_OF_POINTS, X[0], X[NO_OF_POINTS - 1], BASE_POSITION);
     }
 
     private double[] getXYFromPathElement(final PathElement ELEMENT) {
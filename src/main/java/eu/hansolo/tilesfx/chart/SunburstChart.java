@@ -18,6 +18,7 @@ package eu.hansolo.tilesfx.chart;
 
 import eu.hansolo.tilesfx.events.TreeNodeEvent;
 import eu.hansolo.tilesfx.events.TreeNodeEvent.EventType;
+import eu.hansolo.tilesfx.events.TreeNodeEventListener;
 import eu.hansolo.tilesfx.fonts.Fonts;
 import eu.hansolo.tilesfx.tools.Helper;
 import eu.hansolo.tilesfx.tools.TreeNode;
@@ -56,11 +57,14 @@ import javafx.scene.shape.Path;
 import javafx.scene.shape.StrokeLineCap;
 import javafx.scene.text.TextAlignment;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import static eu.hansolo.tilesfx.tools.Helper.clamp;
 
@@ -95,6 +99,7 @@ public class SunburstChart extends Region {
     private static final double                          MAXIMUM_HEIGHT    = 2048;
     private static final Color                           BRIGHT_TEXT_COLOR = Color.WHITE;
     private static final Color                           DARK_TEXT_COLOR   = Color.BLACK;
+    private static final double                          NEIGHBOUR_OFFSET  = 1e-6; // degrees
     private              double                          size;
     private              double                          width;
     private              double                          height;
@@ -134,8 +139,14 @@ public class SunburstChart extends Region {
     private              TreeNode                        tree;
     private              TreeNode                        root;
     private              int                             maxLevel;
-    private              Map<Integer, List<TreeNode>>    levelMap;
     private              InvalidationListener            sizeListener;
+    private              TreeNodeEventListener           treeNodeListener;
+    private              Map<TreeNode, Segment>          segmentMap;
+    private              double                          ringStepSize;
+    private              double                          ringRadiusStep;
+    private              double                          barWidth;
+    private              double                          textRadiusStep;
+    private              double                          segmentStrokeWidth;
 
 
 
@@ -161,8 +172,15 @@ public class SunburstChart extends Region {
         _useChartDataTextColor = false;
         formatString        = "%.0f";
         tree                = TREE;
-        levelMap            = new HashMap<>(8);
         sizeListener        = o -> resize();
+        treeNodeListener    = e -> {
+            switch(e.getType()) {
+                case NODE_SELECTED: break;
+                case VALUE_CHANGED: drawChangedSegments(e.getSource()); break;
+                default           : redraw(); break;
+            }
+        };
+        segmentMap          = new HashMap<>();
         initGraphics();
         registerListeners();
     }
@@ -198,7 +216,7 @@ public class SunburstChart extends Region {
     private void registerListeners() {
         widthProperty().addListener(sizeListener);
         heightProperty().addListener(sizeListener);
-        tree.setOnTreeNodeEvent(e -> redraw());
+        tree.setOnTreeNodeEvent(treeNodeListener);
     }
 
 
@@ -574,7 +592,7 @@ public class SunburstChart extends Region {
     public void setTree(final TreeNode TREE) {
         if (null != tree) { tree.flattened().forEach(node -> node.removeAllTreeNodeEventListeners()); }
         tree = TREE;
-        tree.flattened().forEach(node -> node.setOnTreeNodeEvent(e -> redraw()));
+        tree.flattened().forEach(node -> node.setOnTreeNodeEvent(treeNodeListener));
         prepareData();
         if (isAutoTextColor()) { adjustTextColors(); }
         drawChart();
@@ -596,36 +614,26 @@ public class SunburstChart extends Region {
         root     = tree.getTreeRoot();
         maxLevel = root.getMaxLevel();
 
-        // Create map of all nodes per level
-        levelMap.clear();
-        for (int i = 0 ; i <= maxLevel ; i++) { levelMap.put(i, new ArrayList<>()); }
-        root.stream().forEach(node -> levelMap.get(node.getDepth()).add(node));
-
+        // Fill up the levels below leaf nodes with transparent nodes
         for (int level = 1 ; level < maxLevel ; level++) {
-            List<TreeNode> treeNodeList = levelMap.get(level);
-            treeNodeList.stream()
-                        .filter(node -> node.getChildren().isEmpty())
-                        .forEach(node ->node.addNode(new TreeNode(new ChartData("", 0, Color.TRANSPARENT), node)));
+            List<TreeNode> leafNodes = root.getNodesAtLevel(level).stream().filter(TreeNode::isLeaf).collect(Collectors.toList());
+            leafNodes.forEach(node -> node.addNode(new TreeNode(new ChartData("", 0, Color.TRANSPARENT), node)));
         }
     }
 
     private void drawChart() {
-        levelMap.clear();
-        for (int i = 0 ; i <= maxLevel ; i++) { levelMap.put(i, new ArrayList<>()); }
-        root.stream().forEach(node -> levelMap.get(node.getDepth()).add(node));
-        boolean         isInteractive      = isInteractive();
-        double          ringStepSize       = size * 0.8 / maxLevel;
-        double          ringRadiusStep     = ringStepSize * 0.5;
-        double          barWidth           = isInteractive ? ringStepSize * 0.5 : ringStepSize * 0.49;
-        double          textRadiusStep     = size * 0.4 / maxLevel;
-        double          segmentStrokeWidth = ringStepSize * 0.01;
-        Color           bkgColor           = getBackgroundColor();
-        Color           textColor          = getTextColor();
-        TextOrientation textOrientation    = getTextOrientation();
-        double          maxTextWidth       = barWidth * 0.9;
+        boolean isInteractive = isInteractive();
+        ringStepSize       = size * 0.8 / maxLevel;
+        ringRadiusStep     = ringStepSize * 0.5;
+        barWidth           = isInteractive ? ringStepSize * 0.5 : ringStepSize * 0.49;
+        textRadiusStep     = size * 0.4 / maxLevel;
+        segmentStrokeWidth = ringStepSize * 0.01;
+
+        segmentMap.clear();
+        updateSegments(root, 0, 360);
 
         chartCtx.clearRect(0, 0, size, size);
-        chartCtx.setFill(isInteractive ? Color.TRANSPARENT : bkgColor);
+        chartCtx.setFill(isInteractive ? Color.TRANSPARENT : getBackgroundColor());
         chartCtx.fillRect(0, 0, size, size);
 
         chartCtx.setFont(Fonts.latoRegular(barWidth * 0.2));
@@ -636,85 +644,217 @@ public class SunburstChart extends Region {
         segments.clear();
 
         for (int level = 1 ; level <= maxLevel ; level++) {
-            List<TreeNode> nodesAtLevel = levelMap.get(level);
-            double         xy           = centerX - ringStepSize * level * 0.5;
-            double         wh           = ringStepSize * level;
-            double         outerRadius  = ringRadiusStep * level + barWidth * 0.5;
-            double         innerRadius  = outerRadius - barWidth;
-
-            double segmentStartAngle;
-            double segmentEndAngle = 0;
-            for (TreeNode node : nodesAtLevel) {
-                ChartData segmentData  = node.getData();
-                double    segmentAngle = node.getParentAngle() * node.getPercentage();
-                Color     segmentColor = getUseColorFromParent() ? node.getMyRoot().getData().getFillColor() : segmentData.getFillColor();
-
-                segmentStartAngle = 90 + segmentEndAngle;
-                segmentEndAngle  -= segmentAngle;
-
-                // Only draw if segment fill color is not TRANSPARENT
-                if (!Color.TRANSPARENT.equals(segmentData.getFillColor())) {
-                    double value = segmentData.getValue();
-
-                    if (isInteractive) {
-                        segments.add(createSegment(-segmentStartAngle, -segmentStartAngle + segmentAngle, innerRadius, outerRadius, segmentColor, bkgColor, node));
-                    } else {
-                        // Segment Fill
-                        chartCtx.setLineWidth(barWidth);
-                        chartCtx.setStroke(segmentColor);
-                        chartCtx.strokeArc(xy, xy, wh, wh, segmentStartAngle, -segmentAngle, ArcType.OPEN);
-
-                        // Segment Stroke
-                        double radStart = Math.toRadians(segmentStartAngle);
-                        double cosStart = Math.cos(radStart);
-                        double sinStart = Math.sin(radStart);
-                        double x1       = centerX + innerRadius * cosStart;
-                        double y1       = centerY - innerRadius * sinStart;
-                        double x2       = centerX + outerRadius * cosStart;
-                        double y2       = centerY - outerRadius * sinStart;
-
-                        chartCtx.setLineWidth(segmentStrokeWidth);
-                        chartCtx.setStroke(bkgColor);
-                        chartCtx.strokeLine(x1, y1, x2, y2);
-                    }
+            for (TreeNode node : root.getNodesAtLevel(level)) { drawSegment(node, level); }
+        }
 
-                    // Visible Data
-                    if (getVisibleData() != VisibleData.NONE && segmentAngle > textOrientation.getMaxAngle()) {
-                        double radText    = Math.toRadians(segmentStartAngle - (segmentAngle * 0.5));
-                        double cosText    = Math.cos(radText);
-                        double sinText    = Math.sin(radText);
-                        double textRadius = textRadiusStep * level;
-                        double textX      = centerX + textRadius * cosText;
-                        double textY      = centerY - textRadius * sinText;
-
-                        chartCtx.setFill(getUseChartDataTextColor() ? segmentData.getTextColor() : textColor);
-
-                        chartCtx.save();
-                        chartCtx.translate(textX, textY);
-
-                        rotateContextForText(chartCtx, segmentStartAngle, -(segmentAngle * 0.5), textOrientation);
-
-                        switch (getVisibleData()) {
-                            case VALUE:
-                                chartCtx.fillText(String.format(Locale.US, formatString, value), 0, 0, maxTextWidth);
-                                break;
-                            case NAME:
-                                chartCtx.fillText(segmentData.getName(), 0, 0, maxTextWidth);
-                                break;
-                            case NAME_VALUE:
-                                chartCtx.fillText(String.join("", segmentData.getName(), " (", String.format(Locale.US, formatString, value),")"), 0, 0, maxTextWidth);
-                                break;
-                        }
-                        chartCtx.restore();
-                    }
+        segmentPane.getChildren().setAll(segments);
+    }
+
+    /**
+     * Recalculates the angles of the segments below the parent of the given
+     * node and repaints only the sector of the chart that is covered by the
+     * parent. The extent of the parent does not depend on the values of its
+     * children so all other segments keep their angles.
+     * @param NODE the node whose value has changed
+     */
+    private void drawChangedSegments(final TreeNode NODE) {
+        TreeNode parent        = NODE.getParent();
+        Segment  parentSegment = null == parent ? null : segmentMap.get(parent);
+        int      level         = NODE.getDepth();
+        if (null == parent) { return; }
+        if (null == parentSegment || level > maxLevel || !segmentMap.containsKey(NODE) || !fitsInto(parent, parentSegment)) {
+            redraw();
+            return;
+        }
+
+        updateSegments(parent, parentSegment.offset, parentSegment.extent);
+        if (!fitsInto(parent, parentSegment)) {
+            redraw();
+            return;
+        }
+
+        // Clip to the sector of the parent from the ring of the node to the border
+        double startAngle  = 90 - parentSegment.offset;
+        double innerRadius = ringRadiusStep * (level - 1) + barWidth * 0.5;
+        double radStart    = Math.toRadians(startAngle);
+        chartCtx.save();
+        chartCtx.beginPath();
+        chartCtx.moveTo(centerX + innerRadius * Math.cos(radStart), centerY - innerRadius * Math.sin(radStart));
+        chartCtx.arc(centerX, centerY, size, size, startAngle, -parentSegment.extent);
+        chartCtx.arc(centerX, centerY, innerRadius, innerRadius, startAngle - parentSegment.extent, parentSegment.extent);
+        chartCtx.closePath();
+        chartCtx.clip();
+        chartCtx.clearRect(0, 0, size, size);
+        if (!isInteractive()) {
+            chartCtx.setFill(getBackgroundColor());
+            chartCtx.fillRect(0, 0, size, size);
+        }
+
+        int noOfSegments = segments.size();
+        drawSubtree(parent, level);
+
+        // The neighbours that touch the sector will be painted too because their stroke and text can reach into it
+        double from = parentSegment.offset;
+        double to   = parentSegment.offset + parentSegment.extent;
+        for (int l = level ; l <= maxLevel ; l++) {
+            TreeNode leftNeighbour  = getNodeAt(from - NEIGHBOUR_OFFSET, l);
+            TreeNode rightNeighbour = getNodeAt(to + NEIGHBOUR_OFFSET, l);
+            if (null != leftNeighbour && !isInSubtree(leftNeighbour, parent)) { drawSegment(leftNeighbour, l); }
+            if (null != rightNeighbour && rightNeighbour != leftNeighbour && !isInSubtree(rightNeighbour, parent)) { drawSegment(rightNeighbour, l); }
+        }
+        chartCtx.restore();
+
+        if (segments.size() > noOfSegments) { segmentPane.getChildren().addAll(segments.subList(noOfSegments, segments.size())); }
+    }
+
+    // Draws all nodes below the given parent from the given level up to the max level
+    private void drawSubtree(final TreeNode PARENT, final int LEVEL) {
+        Deque<TreeNode> stack = new ArrayDeque<>(PARENT.getChildren());
+        while (!stack.isEmpty()) {
+            TreeNode node  = stack.pop();
+            int      depth = node.getDepth();
+            if (depth > maxLevel) { continue; }
+            if (depth >= LEVEL) { drawSegment(node, depth); }
+            node.getChildren().forEach(stack::push);
+        }
+    }
+
+    // Returns the node on the given level whose segment covers the given angle by descending from the root
+    private TreeNode getNodeAt(final double ANGLE, final int LEVEL) {
+        double   angle = ((ANGLE % 360) + 360) % 360;
+        TreeNode node  = root;
+        for (int l = 1 ; l <= LEVEL && null != node ; l++) {
+            TreeNode next = null;
+            for (TreeNode child : node.getChildren()) {
+                Segment segment = segmentMap.get(child);
+                if (null != segment && angle >= segment.offset && angle < segment.offset + segment.extent) {
+                    next = child;
+                    break;
                 }
             }
+            node = next;
         }
+        return node;
+    }
 
-        segmentPane.getChildren().setAll(segments);
+    private boolean isInSubtree(final TreeNode NODE, final TreeNode PARENT) {
+        for (TreeNode node = NODE.getParent() ; null != node ; node = node.getParent()) {
+            if (node == PARENT) { return true; }
+        }
+        return false;
     }
 
-    private Path createSegment(final double START_ANGLE, final double END_ANGLE, final double INNER_RADIUS, final double OUTER_RADIUS, final Color FILL, final Color STROKE, final TreeNode NODE) {
+    private void updateSegments(final TreeNode PARENT, final double OFFSET, final double EXTENT) {
+        double offset = OFFSET;
+        for (TreeNode child : PARENT.getChildren()) {
+            double  extent  = EXTENT * child.getPercentage();
+            Segment segment = segmentMap.get(child);
+            if (null == segment) {
+                segment = new Segment();
+                segmentMap.put(child, segment);
+            }
+            segment.offset = offset;
+            segment.extent = extent;
+            updateSegments(child, offset, extent);
+            offset += extent;
+        }
+    }
+
+    // Returns true if the segments of the children of the given parent do not exceed the segment of the parent
+    private boolean fitsInto(final TreeNode PARENT, final Segment PARENT_SEGMENT) {
+        double sum = 0;
+        for (TreeNode child : PARENT.getChildren()) {
+            Segment segment = segmentMap.get(child);
+            if (null != segment) { sum += segment.extent; }
+        }
+        return sum <= PARENT_SEGMENT.extent + 1e-9;
+    }
+
+    private void drawSegment(final TreeNode NODE, final int LEVEL) {
+        Segment   segment     = segmentMap.get(NODE);
+        ChartData segmentData = NODE.getData();
+        // Only draw if segment fill color is not TRANSPARENT
+        if (null == segment || Color.TRANSPARENT.equals(segmentData.getFillColor())) { return; }
+
+        boolean         isInteractive     = isInteractive();
+        Color           bkgColor          = getBackgroundColor();
+        TextOrientation textOrientation   = getTextOrientation();
+        double          xy                = centerX - ringStepSize * LEVEL * 0.5;
+        double          wh                = ringStepSize * LEVEL;
+        double          outerRadius       = ringRadiusStep * LEVEL + barWidth * 0.5;
+        double          innerRadius       = outerRadius - barWidth;
+        double          segmentAngle      = segment.extent;
+        double          segmentStartAngle = 90 - segment.offset;
+        Color           segmentColor      = getUseColorFromParent() ? NODE.getMyRoot().getData().getFillColor() : segmentData.getFillColor();
+        double          value             = segmentData.getValue();
+
+        if (isInteractive) {
+            if (null == segment.path) {
+                segment.tooltip = new Tooltip();
+                segment.path    = createSegment(segment.tooltip, NODE);
+                segments.add(segment.path);
+            }
+            updateSegment(segment, -segmentStartAngle, -segmentStartAngle + segmentAngle, innerRadius, outerRadius, segmentColor, bkgColor, NODE);
+        } else {
+            // Segment Fill
+            chartCtx.setLineWidth(barWidth);
+            chartCtx.setStroke(segmentColor);
+            chartCtx.strokeArc(xy, xy, wh, wh, segmentStartAngle, -segmentAngle, ArcType.OPEN);
+
+            // Segment Stroke
+            double radStart = Math.toRadians(segmentStartAngle);
+            double cosStart = Math.cos(radStart);
+            double sinStart = Math.sin(radStart);
+            double x1       = centerX + innerRadius * cosStart;
+            double y1       = centerY - innerRadius * sinStart;
+            double x2       = centerX + outerRadius * cosStart;
+            double y2       = centerY - outerRadius * sinStart;
+
+            chartCtx.setLineWidth(segmentStrokeWidth);
+            chartCtx.setStroke(bkgColor);
+            chartCtx.strokeLine(x1, y1, x2, y2);
+        }
+
+        // Visible Data
+        if (getVisibleData() != VisibleData.NONE && segmentAngle > textOrientation.getMaxAngle()) {
+            double radText      = Math.toRadians(segmentStartAngle - (segmentAngle * 0.5));
+            double cosText      = Math.cos(radText);
+            double sinText      = Math.sin(radText);
+            double textRadius   = textRadiusStep * LEVEL;
+            double textX        = centerX + textRadius * cosText;
+            double textY        = centerY - textRadius * sinText;
+            double maxTextWidth = barWidth * 0.9;
+
+            chartCtx.setFill(getUseChartDataTextColor() ? segmentData.getTextColor() : getTextColor());
+
+            chartCtx.save();
+            chartCtx.translate(textX, textY);
+
+            rotateContextForText(chartCtx, segmentStartAngle, -(segmentAngle * 0.5), textOrientation);
+
+            switch (getVisibleData()) {
+                case VALUE:
+                    chartCtx.fillText(String.format(Locale.US, formatString, value), 0, 0, maxTextWidth);
+                    break;
+                case NAME:
+                    chartCtx.fillText(segmentData.getName(), 0, 0, maxTextWidth);
+                    break;
+                case NAME_VALUE:
+                    chartCtx.fillText(String.join("", segmentData.getName(), " (", String.format(Locale.US, formatString, value),")"), 0, 0, maxTextWidth);
+                    break;
+            }
+            chartCtx.restore();
+        }
+    }
+
+    private Path createSegment(final Tooltip TOOLTIP, final TreeNode NODE) {
+        Path path = new Path();
+        Tooltip.install(path, TOOLTIP);
+        path.setOnMousePressed(new WeakEventHandler<>(e -> NODE.getTreeRoot().fireTreeNodeEvent(new TreeNodeEvent(NODE, EventType.NODE_SELECTED))));
+        return path;
+    }
+
+    private void updateSegment(final Segment SEGMENT, final double START_ANGLE, final double END_ANGLE, final double INNER_RADIUS, final double OUTER_RADIUS, final Color FILL, final Color STROKE, final TreeNode NODE) {
         double  startAngleRad = Math.toRadians(START_ANGLE + 90);
         double  endAngleRad   = Math.toRadians(END_ANGLE + 90);
         boolean largeAngle    = Math.abs(END_ANGLE - START_ANGLE) > 180.0;
@@ -737,17 +877,11 @@ public class SunburstChart extends Region {
         LineTo lineTo4 = new LineTo(x4, y4);
         ArcTo  arcTo1  = new ArcTo(INNER_RADIUS, INNER_RADIUS, 0, x1, y1, largeAngle, false);
 
-        Path path = new Path(moveTo1, lineTo2, arcTo3, lineTo4, arcTo1);
-
-        path.setFill(FILL);
-        path.setStroke(STROKE);
-
-        String tooltipText = new StringBuilder(NODE.getData().getName()).append("\n").append(String.format(Locale.US, formatString, NODE.getData().getValue())).toString();
-        Tooltip.install(path, new Tooltip(tooltipText));
+        SEGMENT.path.getElements().setAll(moveTo1, lineTo2, arcTo3, lineTo4, arcTo1);
+        SEGMENT.path.setFill(FILL);
+        SEGMENT.path.setStroke(STROKE);
 
-        path.setOnMousePressed(new WeakEventHandler<>(e -> NODE.getTreeRoot().fireTreeNodeEvent(new TreeNodeEvent(NODE, EventType.NODE_SELECTED))));
-
-        return path;
+        SEGMENT.tooltip.setText(new StringBuilder(NODE.getData().getName()).append("\n").append(String.format(Locale.US, formatString, NODE.getData().getValue())).toString());
     }
 
     private static void rotateContextForText(final GraphicsContext CTX, final double START_ANGLE, final double ANGLE, final TextOrientation ORIENTATION) {
@@ -806,4 +940,13 @@ public class SunburstChart extends Region {
 
         drawChart();
     }
+
+
+    // ******************** Inner Classes *************************************
+    private static class Segment {
+        private double  offset;   // clockwise from 12 o'clock in degrees
+        private double  extent;   // in degrees
+        private Path    path;     // only used in interactive mode
+        private Tooltip tooltip;
+    }
 }
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.tilesfx.events;
+
+import eu.hansolo.tilesfx.events.TileEvent.EventType;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.function.Consumer;
+
+
+public class TileEventQueue {
+    // Events that trigger an action for each occurrence (e.g. flipping to the next character)
+    // will be kept in order, all other events only describe a state and will be merged per type
+    public  static final EnumSet<EventType>     SEQUENTIAL_EVENT_TYPES              = EnumSet.of(EventType.FLIP_START, EventType.FLIP_FINISHED, EventType.ALERT,
+                                                                                                 EventType.THRESHOLD_EXCEEDED, EventType.THRESHOLD_UNDERRUN,
+                                                                                                 EventType.VALUE_CHANGING, EventType.VALUE_CHANGED,
+                                                                                                 EventType.SELECTED_CHART_DATA);
+    public  static final int                    DEFAULT_MAX_NO_OF_SEQUENTIAL_EVENTS = 256;
+    private        final Map<Object, TileEvent> events;
+    private        final Queue<Long>            sequentialKeys;
+    private        final int                    maxNoOfSequentialEvents;
+    private              long                   sequence;
+    private              int                    maxDepth;
+    private              long                   noOfMergedEvents;
+    private              long                   noOfDroppedEvents;
+    private              long                   noOfReplayedEvents;
+    private              long                   lastReplayTimeInNanos;
+
+
+    // ******************** Constructors **************************************
+    public TileEventQueue() {
+        this(DEFAULT_MAX_NO_OF_SEQUENTIAL_EVENTS);
+    }
+    public TileEventQueue(final int MAX_NO_OF_SEQUENTIAL_EVENTS) {
+        if (MAX_NO_OF_SEQUENTIAL_EVENTS < 1) { throw new IllegalArgumentException("Max number of sequential events must be larger than 0"); }
+        events                  = new LinkedHashMap<>();
+        sequentialKeys          = new ArrayDeque<>();
+        maxNoOfSequentialEvents = MAX_NO_OF_SEQUENTIAL_EVENTS;
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Adds the given event to the queue. Events of a type that is not in
+     * SEQUENTIAL_EVENT_TYPES replace a queued event of the same type and
+     * move to the end of the queue. Sequential events will be appended and
+     * the oldest sequential event will be dropped if the limit is reached.
+     * @param EVENT
+     */
+    public synchronized void add(final TileEvent EVENT) {
+        if (null == EVENT) return;
+        final EventType TYPE = EVENT.getEventType();
+        if (SEQUENTIAL_EVENT_TYPES.contains(TYPE)) {
+            if (sequentialKeys.size() == maxNoOfSequentialEvents) {
+                events.remove(sequentialKeys.poll());
+                noOfDroppedEvents++;
+            }
+            Long key = sequence++;
+            sequentialKeys.add(key);
+            events.put(key, EVENT);
+        } else {
+            if (null != events.remove(TYPE)) { noOfMergedEvents++; }
+            events.put(TYPE, EVENT);
+        }
+        maxDepth = Math.max(maxDepth, events.size());
+    }
+
+    /**
+     * Removes all events from the queue and passes them in order to the given consumer.
+     * @param CONSUMER
+     */
+    public void replay(final Consumer<TileEvent> CONSUMER) {
+        final List<TileEvent> EVENTS;
+        synchronized (this) {
+            if (events.isEmpty()) return;
+            EVENTS = new ArrayList<>(events.values());
+            events.clear();
+            sequentialKeys.clear();
+        }
+        final long START = System.nanoTime();
+        for (TileEvent event : EVENTS) { CONSUMER.accept(event); }
+        synchronized (this) {
+            lastReplayTimeInNanos = System.nanoTime() - START;
+            noOfReplayedEvents   += EVENTS.size();
+        }
+    }
+
+    public synchronized void clear() {
+        events.clear();
+        sequentialKeys.clear();
+    }
+
+    public synchronized boolean isEmpty() { return events.isEmpty(); }
+
+    /**
+     * Returns the number of events that are currently queued
+     * @return the number of events that are currently queued
+     */
+    public synchronized int getDepth() { return events.size(); }
+
+    /**
+     * Returns the max number of events that have been queued at the same time
+     * @return the max number of events that have been queued at the same time
+     */
+    public synchronized int getMaxDepth() { return maxDepth; }
+
+    /**
+     * Returns the number of events that replaced an already queued event of the same type
+     * @return the number of events that have been merged
+     */
+    public synchronized long getNoOfMergedEvents() { return noOfMergedEvents; }
+
+    /**
+     * Returns the number of sequential events that have been dropped because the limit was reached
+     * @return the number of sequential events that have been dropped
+     */
+    public synchronized long getNoOfDroppedEvents() { return noOfDroppedEvents; }
+
+    public synchronized long getNoOfReplayedEvents() { return noOfReplayedEvents; }
+
+    /**
+     * Returns the time in nanoseconds it took to replay the events the last time
+     * @return the time in nanoseconds it took to replay the events the last time
+     */
+    public synchronized long getLastReplayTimeInNanos() { return lastReplayTimeInNanos; }
+
+    public synchronized void resetStatistics() {
+        maxDepth              = events.size();
+        noOfMergedEvents      = 0;
+        noOfDroppedEvents     = 0;
+        noOfReplayedEvents    = 0;
+        lastReplayTimeInNanos = 0;
+    }
+}
@@ -18,14 +18,21 @@ package eu.hansolo.tilesfx.fonts;
 
 import javafx.scene.text.Font;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 
 /**
  * Created by hansolo on 19.12.16.
  */
 public class Fonts {
-    private static final String LATO_LIGHT_NAME;
-    private static final String LATO_REGULAR_NAME;
-    private static final String LATO_BOLD_NAME;
+    // Fonts are cached per name in steps of SIZE_STEP px, larger fonts will not be cached
+    public  static final double                          SIZE_STEP       = 0.5;
+    private static final double                          MAX_CACHED_SIZE = 512;
+    private static final Map<String, Map<Integer, Font>> CACHE           = new ConcurrentHashMap<>();
+    private static final String                          LATO_LIGHT_NAME;
+    private static final String                          LATO_REGULAR_NAME;
+    private static final String                          LATO_BOLD_NAME;
 
     private static String latoLightName;
     private static String latoRegularName;
@@ -45,7 +52,24 @@ public class Fonts {
 
 
     // ******************** Methods *******************************************
-    public static Font latoLight(final double SIZE) { return new Font(LATO_LIGHT_NAME, SIZE); }
-    public static Font latoRegular(final double SIZE) { return new Font(LATO_REGULAR_NAME, SIZE); }
-    public static Font latoBold(final double SIZE) { return new Font(LATO_BOLD_NAME, SIZE); }
+    public static Font latoLight(final double SIZE) { return getFont(LATO_LIGHT_NAME, SIZE); }
+    public static Font latoRegular(final double SIZE) { return getFont(LATO_REGULAR_NAME, SIZE); }
+    public static Font latoBold(final double SIZE) { return getFont(LATO_BOLD_NAME, SIZE); }
+
+    /**
+     * Returns a shared font with the given name and the given size rounded
+     * to a multiple of SIZE_STEP. Fonts are immutable so the same instance
+     * can be used by all nodes.
+     * @param NAME
+     * @param SIZE
+     * @return a shared font with the given name and the given size rounded to a multiple of SIZE_STEP
+     */
+    public static Font getFont(final String NAME, final double SIZE) {
+        if (SIZE <= 0 || SIZE > MAX_CACHED_SIZE || Double.isNaN(SIZE)) { return new Font(NAME, SIZE); }
+        final int STEP = (int) Math.round(SIZE / SIZE_STEP);
+        return CACHE.computeIfAbsent(null == NAME ? "" : NAME, name -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(STEP, step -> new Font(NAME, step * SIZE_STEP));
+    }
+
+    public static void clearCache() { CACHE.clear(); }
 }
@@ -187,6 +187,25 @@ public class BarChartItem extends Region implements Comparable<BarChartItem>{
 
     @Override public int compareTo(final BarChartItem ITEM) { return Double.compare(getValue(), ITEM.getValue()); }
 
+    /**
+     * Copies the data of the given item into the chart data of this item,
+     * used to recycle the items of the visible rows in virtualized tiles.
+     * The chart data of the given item will not be shared.
+     * @param ITEM
+     */
+    void bind(final BarChartItem ITEM) {
+        ChartData data = ITEM.getChartData();
+        chartData.setAnimated(false);
+        chartData.setName(data.getName());
+        chartData.setValue(data.getValue());
+        chartData.setFillColor(data.getFillColor());
+        formatString = ITEM.formatString;
+        locale       = ITEM.locale;
+        setBarBackgroundColor(ITEM.getBarBackgroundColor());
+        nameText.setText(getName());
+        updateBar(getValue());
+    }
+
     public void setStepSize(final double STEP_SIZE) {
         stepSize = STEP_SIZE;
         updateBar(getValue());
@@ -17,11 +17,13 @@
 package eu.hansolo.tilesfx.skins;
 
 import eu.hansolo.tilesfx.Tile;
+import eu.hansolo.tilesfx.chart.ChartData;
 import eu.hansolo.tilesfx.events.ChartDataEventListener;
 import eu.hansolo.tilesfx.events.TileEvent;
 import eu.hansolo.tilesfx.events.TileEvent.EventType;
 import eu.hansolo.tilesfx.fonts.Fonts;
 import eu.hansolo.tilesfx.tools.Helper;
+import eu.hansolo.tilesfx.tools.RankIndex;
 import javafx.application.Platform;
 import javafx.beans.InvalidationListener;
 import javafx.collections.WeakListChangeListener;
@@ -30,11 +32,11 @@ import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.Pane;
 import javafx.scene.text.Text;
 
-import java.util.Comparator;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 
 /**
@@ -47,6 +49,11 @@ public class BarChartTileSkin extends TileSkin {
     private ChartDataEventListener                      updateHandler;
     private InvalidationListener                        paneSizeListener;
     private Map<BarChartItem, EventHandler<MouseEvent>> handlerMap;
+    private Map<ChartData, BarChartItem>                itemMap;
+    private RankIndex<BarChartItem>                     rankIndex;
+    private List<BarChartItem>                          visibleItems;
+    private List<BarChartItem>                          rows;
+    private boolean                                     virtualized;
 
 
     // ******************** Constructors **************************************
@@ -58,27 +65,26 @@ public class BarChartTileSkin extends TileSkin {
     // ******************** Initialization ************************************
     @Override protected void initGraphics() {
         super.initGraphics();
+        subscribeToEvents(EventType.VISIBILITY, EventType.DATA);
 
-        updateHandler    = e -> updateChart();
+        updateHandler    = e -> updateItem(itemMap.get(e.getData()));
         paneSizeListener = o -> resizeItems();
         handlerMap       = new HashMap<>();
+        itemMap          = new IdentityHashMap<>();
+        rankIndex        = new RankIndex<>(BarChartItem::getValue);
+        visibleItems     = new ArrayList<>();
+        rows             = new ArrayList<>();
+        virtualized      = tile.isVirtualizedItems();
 
-        List<BarChartItem> barChartItems = tile.getBarChartItems().stream()
-                                                         .sorted(Comparator.comparing(BarChartItem::getValue).reversed())
-                                                         .collect(Collectors.toList());
+        barChartPane = new Pane();
 
         tile.getBarChartItems().forEach(item -> {
-            item.addChartDataEventListener(updateHandler);
-            EventHandler<MouseEvent> clickHandler = e -> tile.fireTileEvent(new TileEvent(EventType.SELECTED_CHART_DATA, item.getChartData()));
-            handlerMap.put(item, clickHandler);
-            item.addEventHandler(MouseEvent.MOUSE_PRESSED, clickHandler);
+            addItem(item);
             item.setMaxValue(tile.getMaxValue());
             if (null == item.getFormatString() || item.getFormatString().isEmpty()) {
                 item.setFormatString(formatString);
             }
         });
-        barChartPane = new Pane();
-        barChartPane.getChildren().addAll(barChartItems);
 
         titleText = new Text();
         titleText.setFill(tile.getTitleColor());
@@ -95,24 +101,10 @@ public class BarChartTileSkin extends TileSkin {
         super.registerListeners();
         tile.getBarChartItems().addListener(new WeakListChangeListener<>(change -> {
             while (change.next()) {
-                if (change.wasAdded()) {
-                    change.getAddedSubList().forEach(addedItem -> {
-                        barChartPane.getChildren().add(addedItem);
-                        addedItem.addChartDataEventListener(updateHandler);
-                        EventHandler<MouseEvent> clickHandler = e -> tile.fireTileEvent(new TileEvent(EventType.SELECTED_CHART_DATA, addedItem.getChartData()));
-                        handlerMap.put(addedItem, clickHandler);
-                        addedItem.setOnMousePressed(clickHandler);
-                    });
-                    updateChart();
-                } else if (change.wasRemoved()) {
-                    change.getRemoved().forEach(removedItem -> {
-                        removedItem.removeChartDataEventListener(updateHandler);
-                        removedItem.removeEventHandler(MouseEvent.MOUSE_PRESSED, handlerMap.get(removedItem));
-                        barChartPane.getChildren().remove(removedItem);
-                    });
-                    updateChart();
-                }
+                if (change.wasRemoved()) { change.getRemoved().forEach(this::removeItem); }
+                if (change.wasAdded()) { change.getAddedSubList().forEach(this::addItem); }
             }
+            updateChart();
         }));
 
         pane.widthProperty().addListener(paneSizeListener);
@@ -121,17 +113,72 @@ public class BarChartTileSkin extends TileSkin {
 
 
     // ******************** Methods *******************************************
-    @Override protected void handleEvents(final String EVENT_TYPE) {
+    @Override protected void handleEvents(final EventType EVENT_TYPE) {
         super.handleEvents(EVENT_TYPE);
 
-        if ("VISIBILITY".equals(EVENT_TYPE)) {
+        if (EventType.VISIBILITY == EVENT_TYPE) {
             Helper.enableNode(titleText, !tile.getTitle().isEmpty());
             Helper.enableNode(text, tile.isTextVisible());
-        } else if ("DATA".equals(EVENT_TYPE)) {
+        } else if (EventType.DATA == EVENT_TYPE) {
             updateChart();
         }
     }
 
+    private void addItem(final BarChartItem ITEM) {
+        if (handlerMap.containsKey(ITEM)) { return; }
+        if (!virtualized) { barChartPane.getChildren().add(ITEM); }
+        ITEM.addChartDataEventListener(updateHandler);
+        EventHandler<MouseEvent> clickHandler = e -> tile.fireTileEvent(new TileEvent(EventType.SELECTED_CHART_DATA, ITEM.getChartData()));
+        handlerMap.put(ITEM, clickHandler);
+        ITEM.addEventHandler(MouseEvent.MOUSE_PRESSED, clickHandler);
+        itemMap.put(ITEM.getChartData(), ITEM);
+        rankIndex.add(ITEM);
+    }
+
+    private void removeItem(final BarChartItem ITEM) {
+        // The same item might still be in the list (e.g. after setAll())
+        if (tile.getBarChartItems().contains(ITEM) || !handlerMap.containsKey(ITEM)) { return; }
+        ITEM.removeChartDataEventListener(updateHandler);
+        ITEM.removeEventHandler(MouseEvent.MOUSE_PRESSED, handlerMap.remove(ITEM));
+        itemMap.remove(ITEM.getChartData());
+        rankIndex.remove(ITEM);
+        visibleItems.remove(ITEM);
+        barChartPane.getChildren().remove(ITEM);
+    }
+
+    private void updateItem(final BarChartItem ITEM) {
+        if (null == ITEM) { return; }
+        Platform.runLater(() -> {
+            // The rank index is only accessed on the FX application thread
+            boolean rankChanged = rankIndex.update(ITEM) && tile.isSortedData();
+            if (virtualized) {
+                int row = visibleItems.indexOf(ITEM);
+                if (row > -1 && row < rows.size()) { rows.get(row).bind(ITEM); }
+            } else if (ITEM.isVisible()) {
+                ITEM.setMaxValue(tile.getMaxValue());
+            }
+            if (rankChanged) { updateRanks(false); }
+        });
+    }
+
+    // Returns the recycled item for the given row in virtualized mode
+    private BarChartItem getRow(final int ROW) {
+        while (rows.size() <= ROW) {
+            BarChartItem row = new BarChartItem();
+            row.setNameColor(tile.getTextColor());
+            row.setValueColor(tile.getValueColor());
+            int index = rows.size();
+            row.addEventHandler(MouseEvent.MOUSE_PRESSED, e -> {
+                // The row only holds a copy, fire the event with the chart data of the shown item
+                if (index < visibleItems.size()) { tile.fireTileEvent(new TileEvent(EventType.SELECTED_CHART_DATA, visibleItems.get(index).getChartData())); }
+            });
+            resizeItem(row);
+            rows.add(row);
+            barChartPane.getChildren().add(row);
+        }
+        return rows.get(ROW);
+    }
+
     @Override public void dispose() {
         pane.widthProperty().removeListener(paneSizeListener);
         pane.heightProperty().removeListener(paneSizeListener);
@@ -140,35 +187,69 @@ public class BarChartTileSkin extends TileSkin {
             item.removeEventHandler(MouseEvent.MOUSE_PRESSED, handlerMap.get(item));
         });
         handlerMap.clear();
+        itemMap.clear();
+        rankIndex.clear();
+        visibleItems.clear();
+        rows.clear();
         super.dispose();
     }
 
 
     // ******************** Resizing ******************************************
     private void updateChart() {
-        Platform.runLater(() -> {
-            if (tile.isSortedData()) {
-                tile.getBarChartItems().sort(Comparator.comparing(BarChartItem::getValue).reversed());
-            }
-            List<BarChartItem> items     = tile.getBarChartItems();
-            int                noOfItems = items.size();
-            if (noOfItems == 0) return;
-            double maxValue = tile.getMaxValue();
-            double maxY     = height - size * 0.25;
-            for (int i = 0 ; i < noOfItems ; i++) {
-                BarChartItem item = items.get(i);
-                double y = i * 0.175 * size; //size * 0.18 + i * 0.175 * size;
-                if (y < maxY) {
-                    item.setMaxValue(maxValue);
-                    item.setManaged(true);
-                    item.setVisible(true);
-                    item.relocate(0, y);
-                } else {
-                    item.setVisible(false);
-                    item.setManaged(false);
+        Platform.runLater(() -> updateRanks(true));
+    }
+
+    /**
+     * Shows the items that fit into the tile, either in the order of the list or
+     * sorted by value. Only rows whose rank has changed will be relocated unless
+     * RELAYOUT is true (e.g. after a resize).
+     * In virtualized mode the items will be shown in recycled rows.
+     * @param RELAYOUT
+     */
+    private void updateRanks(final boolean RELAYOUT) {
+        if (RELAYOUT && tile.isVirtualizedItems() != virtualized) {
+            virtualized = tile.isVirtualizedItems();
+            visibleItems.clear();
+            barChartPane.getChildren().setAll(virtualized ? rows : tile.getBarChartItems());
+            if (!virtualized) { resizeItems(); }
+        }
+
+        List<BarChartItem> items     = tile.getBarChartItems();
+        double             maxValue  = tile.getMaxValue();
+        double             maxY      = height - size * 0.25;
+        double             rowHeight = 0.175 * size;
+        int                noOfRows  = rowHeight > 0 ? (int) Math.ceil(maxY / rowHeight) : 0;
+        List<BarChartItem> top       = tile.isSortedData() ? rankIndex.getTop(noOfRows) : new ArrayList<>(items.subList(0, Math.min(noOfRows, items.size())));
+
+        if (!virtualized) {
+            (RELAYOUT ? items : visibleItems).forEach(item -> {
+                if (top.contains(item)) { return; }
+                item.setVisible(false);
+                item.setManaged(false);
+            });
+        }
+
+        for (int i = 0 ; i < top.size() ; i++) {
+            BarChartItem item = top.get(i);
+            if (RELAYOUT || i >= visibleItems.size() || visibleItems.get(i) != item) {
+                if (virtualized) {
+                    item = getRow(i);
+                    item.bind(top.get(i));
                 }
+                item.setMaxValue(maxValue);
+                item.setManaged(true);
+                item.setVisible(true);
+                item.relocate(0, i * rowHeight); //size * 0.18 + i * 0.175 * size;
             }
-        });
+        }
+        if (virtualized) {
+            for (int i = top.size() ; i < rows.size() ; i++) {
+                rows.get(i).setVisible(false);
+                rows.get(i).setManaged(false);
+            }
+        }
+        visibleItems = top;
     }
 
     @Override protected void resizeStaticText() {
@@ -197,12 +278,12 @@ public class BarChartTileSkin extends TileSkin {
     }
 
     private void resizeItems() {
-        barChartPane.getChildren().forEach(node -> {
-            BarChartItem item = (BarChartItem) node;
-            item.setParentSize(width, height);
-            item.setPrefSize(width, height * 0.12);
-            item.setMaxSize(width, height * 0.12);
-        });
+        barChartPane.getChildren().forEach(node -> resizeItem((BarChartItem) node));
+    }
+    private void resizeItem(final BarChartItem ITEM) {
+        ITEM.setParentSize(width, height);
+        ITEM.setPrefSize(width, height * 0.12);
+        ITEM.setMaxSize(width, height * 0.12);
     }
 
     @Override protected void resize() {
@@ -222,6 +303,10 @@ public class BarChartTileSkin extends TileSkin {
             item.setNameColor(tile.getTextColor());
             item.setValueColor(tile.getValueColor());
         });
+        rows.forEach(row -> {
+            row.setNameColor(tile.getTextColor());
+            row.setValueColor(tile.getValueColor());
+        });
 
         resizeDynamicText();
         resizeStaticText();
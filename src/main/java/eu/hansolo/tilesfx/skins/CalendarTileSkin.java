@@ -75,6 +75,7 @@ public class CalendarTileSkin extends TileSkin {
     // ******************** Initialization ************************************
     @Override protected void initGraphics() {
         super.initGraphics();
+        subscribeToEvents(EventType.VISIBILITY);
 
         final ZonedDateTime TIME = tile.getTime();
 
@@ -117,10 +118,10 @@ public class CalendarTileSkin extends TileSkin {
 
 
     // ******************** Methods *******************************************
-    @Override protected void handleEvents(final String EVENT_TYPE) {
+    @Override protected void handleEvents(final EventType EVENT_TYPE) {
         super.handleEvents(EVENT_TYPE);
 
-        if ("VISIBILITY".equals(EVENT_TYPE)) {
+        if (EventType.VISIBILITY == EVENT_TYPE) {
             Helper.enableNode(titleText, !titleText.getText().isEmpty());
             Helper.enableNode(text, tile.isTextVisible());
         }
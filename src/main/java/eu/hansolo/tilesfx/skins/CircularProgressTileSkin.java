@@ -18,6 +18,7 @@ package eu.hansolo.tilesfx.skins;
 
 import eu.hansolo.tilesfx.Section;
 import eu.hansolo.tilesfx.Tile;
+import eu.hansolo.tilesfx.events.TileEvent.EventType;
 import eu.hansolo.tilesfx.fonts.Fonts;
 import eu.hansolo.tilesfx.tools.Helper;
 import javafx.beans.InvalidationListener;
@@ -83,6 +84,7 @@ public class CircularProgressTileSkin extends TileSkin {
     // ******************** Initialization ************************************
     @Override protected void initGraphics() {
         super.initGraphics();
+        subscribeToEvents(EventType.VISIBILITY);
 
         if (tile.isAutoScale()) tile.calcAutoScale();
         minValue             = tile.getMinValue();
@@ -171,17 +173,17 @@ public class CircularProgressTileSkin extends TileSkin {
 
 
     // ******************** Methods *******************************************
-    @Override protected void handleEvents(final String EVENT_TYPE) {
+    @Override protected void handleEvents(final EventType EVENT_TYPE) {
         super.handleEvents(EVENT_TYPE);
 
-        if ("RECALC".equals(EVENT_TYPE)) {
+        if (EventType.RECALC == EVENT_TYPE) {
             minValue  = tile.getMinValue();
             range     = tile.getRange();
             angleStep = ANGLE_RANGE / range;
             sections  = tile.getSections();
             redraw();
             setBar(tile.getCurrentValue());
-        } else if ("VISIBILITY".equals(EVENT_TYPE)) {
+        } else if (EventType.VISIBILITY == EVENT_TYPE) {
             enableNode(titleText, !tile.getTitle().isEmpty());
             enableNode(text, tile.isTextVisible());
             enableNode(unitText, !tile.getUnit().isEmpty());
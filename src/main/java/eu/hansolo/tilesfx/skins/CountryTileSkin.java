@@ -70,6 +70,7 @@ public class CountryTileSkin extends TileSkin {
     // ******************** Initialization ************************************
     @Override protected void initGraphics() {
         super.initGraphics();
+        subscribeToEvents(EventType.VISIBILITY);
 
         //poiLocations       = FXCollections.observableHashMap();
         //chartDataLocations = FXCollections.observableHashMap();
@@ -81,7 +82,7 @@ public class CountryTileSkin extends TileSkin {
 
         clickHandler = event -> tile.fireTileEvent(new TileEvent(EventType.SELECTED_CHART_DATA, new ChartData(country.getName(), country.getValue(), country.getColor())));
 
-        countryPaths = Helper.getHiresCountryPaths().get(country.name());
+        countryPaths = Helper.createHiresCountryPaths(country.name());
 
         countryMinX = Helper.MAP_WIDTH;
         countryMinY = Helper.MAP_HEIGHT;
@@ -150,18 +151,18 @@ public class CountryTileSkin extends TileSkin {
 
 
     // ******************** Methods *******************************************
-    @Override protected void handleEvents(final String EVENT_TYPE) {
+    @Override protected void handleEvents(final EventType EVENT_TYPE) {
         super.handleEvents(EVENT_TYPE);
 
-        if ("VISIBILITY".equals(EVENT_TYPE)) {
+        if (EventType.VISIBILITY == EVENT_TYPE) {
             Helper.enableNode(titleText, !tile.getTitle().isEmpty());
             Helper.enableNode(text, tile.isTextVisible());
             countryContainer.setMaxSize(size * 0.9, tile.isTextVisible() ? size * 0.68 : size * 0.795);
             countryContainer.setPrefSize(size * 0.9, tile.isTextVisible() ? size * 0.68 : size * 0.795);
-        } else if ("RECALC".equals(EVENT_TYPE)) {
+        } else if (EventType.RECALC == EVENT_TYPE) {
             country = tile.getCountry();
             if (null == country) { country = Country.DE; }
-            countryPaths = Helper.getHiresCountryPaths().get(country.name());
+            countryPaths = Helper.createHiresCountryPaths(country.name());
             countryPaths.forEach(path -> path.setFill(tile.getBarColor()));
             countryGroup.getChildren().setAll(countryPaths);
             text.setText(country.getDisplayName());
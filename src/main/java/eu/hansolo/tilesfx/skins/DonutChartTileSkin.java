@@ -17,13 +17,12 @@
 package eu.hansolo.tilesfx.skins;
 
 import eu.hansolo.tilesfx.Tile;
-import eu.hansolo.tilesfx.events.ChartDataEventListener;
 import eu.hansolo.tilesfx.events.TileEvent;
 import eu.hansolo.tilesfx.events.TileEvent.EventType;
 import eu.hansolo.tilesfx.fonts.Fonts;
 import eu.hansolo.tilesfx.chart.ChartData;
 import eu.hansolo.tilesfx.tools.Helper;
-import javafx.collections.ListChangeListener;
+import eu.hansolo.tilesfx.tools.SortedChartData;
 import javafx.event.EventHandler;
 import javafx.geometry.Point2D;
 import javafx.geometry.VPos;
@@ -37,10 +36,8 @@ import javafx.scene.shape.StrokeLineCap;
 import javafx.scene.text.Text;
 import javafx.scene.text.TextAlignment;
 
-import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
-import java.util.stream.Collectors;
 
 
 /**
@@ -53,8 +50,7 @@ public class DonutChartTileSkin extends TileSkin {
     private GraphicsContext               chartCtx;
     private Canvas                        legendCanvas;
     private GraphicsContext               legendCtx;
-    private ListChangeListener<ChartData> chartDataListener;
-    private ChartDataEventListener        chartEventListener;
+    private SortedChartData               sortedChartData;
     private double                        centerX;
     private double                        centerY;
     private double                        innerRadius;
@@ -73,30 +69,18 @@ public class DonutChartTileSkin extends TileSkin {
     // ******************** Initialization ************************************
     @Override protected void initGraphics() {
         super.initGraphics();
+        subscribeToEvents(EventType.VISIBILITY);
 
-        chartEventListener = e -> redraw();
-        tile.getChartData().forEach(chartData -> chartData.addChartDataEventListener(chartEventListener));
-
-        chartDataListener  = c -> {
-            while (c.next()) {
-                if (c.wasAdded()) {
-                    c.getAddedSubList().forEach(addedItem -> addedItem.addChartDataEventListener(chartEventListener));
-                } else if (c.wasRemoved()) {
-                    c.getRemoved().forEach(removedItem -> removedItem.removeChartDataEventListener(chartEventListener));
-                }
-            }
-            drawChart();
-            drawLegend();
-        };
+        sortedChartData = new SortedChartData(tile.getChartData());
 
         clickHandler = e -> {
             double          x          = e.getX();
             double          y          = e.getY();
             double          startAngle = 90;
             double          angle      = 0;
-            List<ChartData> dataList   = tile.isSortedData() ? tile.getChartData().stream().sorted(Comparator.comparingDouble(ChartData::getValue)).collect(Collectors.toList()) : tile.getChartData();
+            List<ChartData> dataList   = tile.isSortedData() ? sortedChartData.getSortedList() : tile.getChartData();
             int             noOfItems  = dataList.size();
-            double          sum        = dataList.stream().mapToDouble(ChartData::getValue).sum();
+            double          sum        = sortedChartData.getSum();
             double          stepSize   = 360.0 / sum;
             double          barWidth   = chartCanvas.getWidth() * 0.1;
             double          ri         = outerRadius - barWidth * 0.5;
@@ -147,17 +131,24 @@ public class DonutChartTileSkin extends TileSkin {
 
     @Override protected void registerListeners() {
         super.registerListeners();
-        tile.getChartData().addListener(chartDataListener);
+        sortedChartData.setOnDataChanged(() -> {
+            drawChart();
+            drawLegend();
+        });
+        sortedChartData.setOnListChanged(() -> {
+            drawChart();
+            drawLegend();
+        });
         chartCanvas.addEventHandler(MouseEvent.MOUSE_PRESSED, clickHandler);
         chartCanvas.addEventHandler(MouseEvent.MOUSE_MOVED, moveHandler);
     }
 
 
     // ******************** Methods *******************************************
-    @Override protected void handleEvents(final String EVENT_TYPE) {
+    @Override protected void handleEvents(final EventType EVENT_TYPE) {
         super.handleEvents(EVENT_TYPE);
 
-        if ("VISIBILITY".equals(EVENT_TYPE)) {
+        if (EventType.VISIBILITY == EVENT_TYPE) {
             Helper.enableNode(titleText, !tile.getTitle().isEmpty());
             Helper.enableNode(text, tile.isTextVisible());
             double chartCanvasWidth   = width - size * 0.1;
@@ -173,20 +164,19 @@ public class DonutChartTileSkin extends TileSkin {
     }
 
     @Override public void dispose() {
-        tile.getChartData().removeListener(chartDataListener);
-        tile.getChartData().forEach(chartData -> chartData.removeChartDataEventListener(chartEventListener));
+        sortedChartData.dispose();
         chartCanvas.removeEventHandler(MouseEvent.MOUSE_PRESSED, clickHandler);
         chartCanvas.removeEventHandler(MouseEvent.MOUSE_MOVED, moveHandler);
         super.dispose();
     }
 
     private void drawChart() {
-        List<ChartData> dataList       = tile.isSortedData() ? tile.getChartData().stream().sorted(Comparator.comparingDouble(ChartData::getValue)).collect(Collectors.toList()) : tile.getChartData();
+        List<ChartData> dataList       = tile.isSortedData() ? sortedChartData.getSortedList() : tile.getChartData();
         double          canvasSize     = chartCanvas.getWidth();
         int             noOfItems      = dataList.size();
         double          center         = canvasSize * 0.5;
         double          barWidth       = canvasSize * 0.1;
-        double          sum            = dataList.stream().mapToDouble(ChartData::getValue).sum();
+        double          sum            = sortedChartData.getSum();
         double          stepSize       = 360.0 / sum;
         double          angle          = 0;
         double          startAngle     = 90;
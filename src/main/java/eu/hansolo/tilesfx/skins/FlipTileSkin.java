@@ -76,6 +76,7 @@ public class FlipTileSkin extends TileSkin {
     // ******************** Initialization ************************************
     @Override protected void initGraphics() {
         super.initGraphics();
+        subscribeToEvents(EventType.FLIP_START);
 
         timeline              = new Timeline();
         characters            = tile.getCharacterList();
@@ -162,9 +163,9 @@ public class FlipTileSkin extends TileSkin {
 
 
     // ******************** Methods *******************************************
-    @Override protected void handleEvents(final String EVENT_TYPE) {
+    @Override protected void handleEvents(final EventType EVENT_TYPE) {
         super.handleEvents(EVENT_TYPE);
-        if (EVENT_TYPE.equals("FLIP_START")) {
+        if (EventType.FLIP_START == EVENT_TYPE) {
             flipForward();
         }
     }
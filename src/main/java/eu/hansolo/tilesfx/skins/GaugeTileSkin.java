@@ -18,8 +18,10 @@ package eu.hansolo.tilesfx.skins;
 
 import eu.hansolo.tilesfx.Section;
 import eu.hansolo.tilesfx.Tile;
+import eu.hansolo.tilesfx.events.TileEvent.EventType;
 import eu.hansolo.tilesfx.fonts.Fonts;
 import eu.hansolo.tilesfx.tools.Helper;
+import eu.hansolo.tilesfx.tools.SectionIndex;
 import javafx.geometry.VPos;
 import javafx.scene.CacheHint;
 import javafx.scene.control.Tooltip;
@@ -50,27 +52,28 @@ import java.util.Map;
  * Created by hansolo on 19.12.16.
  */
 public class GaugeTileSkin extends TileSkin {
-    private double            oldValue;
-    private Arc               barBackground;
-    private Arc               thresholdBar;
-    private Rectangle         needleRect;
-    private Path              needle;
-    private Rotate            needleRotate;
-    private Rotate            needleRectRotate;
-    private Text              titleText;
-    private Text              valueText;
-    private Text              unitText;
-    private TextFlow          valueUnitFlow;
-    private Text              minValueText;
-    private Text              maxValueText;
-    private Rectangle         thresholdRect;
-    private Text              thresholdText;
-    private Pane              sectionPane;
-    private Path              alertIcon;
-    private Tooltip           alertTooltip;
-    private Map<Section, Arc> sectionMap;
-    private Color             barColor;
-    private Color             thresholdColor;
+    private double               oldValue;
+    private Arc                  barBackground;
+    private Arc                  thresholdBar;
+    private Rectangle            needleRect;
+    private Path                 needle;
+    private Rotate               needleRotate;
+    private Rotate               needleRectRotate;
+    private Text                 titleText;
+    private Text                 valueText;
+    private Text                 unitText;
+    private TextFlow             valueUnitFlow;
+    private Text                 minValueText;
+    private Text                 maxValueText;
+    private Rectangle            thresholdRect;
+    private Text                 thresholdText;
+    private Pane                 sectionPane;
+    private Path                 alertIcon;
+    private Tooltip              alertTooltip;
+    private Map<Section, Arc>    sectionMap;
+    private SectionIndex.Tracker sectionTracker;
+    private Color                barColor;
+    private Color                thresholdColor;
 
 
     // ******************** Constructors **************************************
@@ -83,11 +86,13 @@ public class GaugeTileSkin extends TileSkin {
     // ******************** Initialization ************************************
     @Override protected void initGraphics() {
         super.initGraphics();
+        subscribeToEvents(EventType.VISIBILITY, EventType.ALERT);
 
         if (tile.isAutoScale()) tile.calcAutoScale();
         oldValue          = tile.getValue();
         sectionMap        = new HashMap<>(sections.size());
         for(Section section : sections) { sectionMap.put(section, new Arc()); }
+        sectionTracker    = tile.getSectionIndex().createTracker();
 
         barColor       = tile.getBarColor();
         thresholdColor = tile.getThresholdColor();
@@ -174,10 +179,10 @@ public class GaugeTileSkin extends TileSkin {
 
 
     // ******************** Methods *******************************************
-    @Override protected void handleEvents(final String EVENT_TYPE) {
+    @Override protected void handleEvents(final EventType EVENT_TYPE) {
         super.handleEvents(EVENT_TYPE);
 
-        if ("VISIBILITY".equals(EVENT_TYPE)) {
+        if (EventType.VISIBILITY == EVENT_TYPE) {
             Helper.enableNode(titleText, !tile.getTitle().isEmpty());
             Helper.enableNode(valueText, tile.isValueVisible());
             Helper.enableNode(sectionPane, tile.getSectionsVisible());
@@ -185,11 +190,16 @@ public class GaugeTileSkin extends TileSkin {
             Helper.enableNode(thresholdText, tile.isThresholdVisible());
             Helper.enableNode(unitText, !tile.getUnit().isEmpty());
             sectionsVisible = tile.getSectionsVisible();
-        } else if ("SECTION".equals(EVENT_TYPE)) {
+        } else if (EventType.SECTION == EVENT_TYPE) {
             sections = tile.getSections();
             sectionMap.clear();
             for(Section section : sections) { sectionMap.put(section, new Arc()); }
-        } else if ("ALERT".equals(EVENT_TYPE)) {
+            sectionTracker = tile.getSectionIndex().createTracker();
+            if (sectionsVisible) {
+                drawSections();
+                highlightSections(tile.getCurrentValue());
+            }
+        } else if (EventType.ALERT == EVENT_TYPE) {
             Helper.enableNode(valueText, tile.isValueVisible() && !tile.isAlert());
             Helper.enableNode(unitText, tile.isValueVisible() && !tile.isAlert());
             Helper.enableNode(alertIcon, tile.isAlert());
@@ -211,15 +221,22 @@ public class GaugeTileSkin extends TileSkin {
 
     private void highlightSections(final double VALUE) {
         if (!sectionsVisible || sections.isEmpty()) return;
+        // Only the arcs of the sections that have been entered or left will be changed
+        sectionTracker.track(VALUE, section -> highlightSection(section, true), section -> highlightSection(section, false));
+    }
+    private void highlightSection(final Section SECTION, final boolean HIGHLIGHT) {
+        Arc sectionArc = sectionMap.get(SECTION);
+        if (null == sectionArc) return;
         if (highlightSections) {
-            sections.forEach(section -> sectionMap.get(section).setVisible(section.contains(VALUE)));
+            sectionArc.setVisible(HIGHLIGHT);
         } else {
-            sections.forEach(section -> sectionMap.get(section).setOpacity(section.contains(VALUE) ? 1.0 : 0.25));
+            sectionArc.setOpacity(HIGHLIGHT ? 1.0 : 0.25);
         }
     }
 
     private void drawSections() {
         sectionPane.getChildren().clear();
+        sectionTracker.reset();
         if (!sectionsVisible || sections.isEmpty()) return;
 
         double     centerX      = width * 0.5;
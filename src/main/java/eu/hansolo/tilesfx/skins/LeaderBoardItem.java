@@ -222,6 +222,33 @@ public class LeaderBoardItem extends Region implements Comparable<LeaderBoardIte
 
     public int getLastIndex() { return lastIndex; }
 
+    /**
+     * Copies the data and state of the given item into this item, used to
+     * recycle the items of the visible rows in virtualized tiles.
+     * The chart data of the given item will not be shared.
+     * @param ITEM
+     */
+    void bind(final LeaderBoardItem ITEM) {
+        ChartData data = ITEM.getChartData();
+        chartData.setAnimated(false);
+        chartData.setName(data.getName());
+        chartData.setValue(data.getValue());
+        chartData.setFillColor(data.getFillColor());
+        formatString = ITEM.formatString;
+        locale       = ITEM.locale;
+        index        = ITEM.index;
+        lastIndex    = ITEM.lastIndex;
+        state        = ITEM.state;
+        setSeparatorColor(ITEM.getSeparatorColor());
+
+        triangle.setFill(state.color);
+        triangle.setRotate(state.angle);
+
+        nameText.setText(getName());
+        valueText.setText(String.format(locale, formatString, getValue()));
+        valueText.setX((parentWidth - size * 0.05) - valueText.getLayoutBounds().getWidth());
+    }
+
     public State getState() { return state; }
 
     @Override public int compareTo(final LeaderBoardItem SEGMENT) { return Double.compare(getValue(), SEGMENT.getValue()); }
@@ -17,11 +17,13 @@
 package eu.hansolo.tilesfx.skins;
 
 import eu.hansolo.tilesfx.Tile;
+import eu.hansolo.tilesfx.chart.ChartData;
 import eu.hansolo.tilesfx.events.ChartDataEvent.EventType;
 import eu.hansolo.tilesfx.events.ChartDataEventListener;
 import eu.hansolo.tilesfx.events.TileEvent;
 import eu.hansolo.tilesfx.fonts.Fonts;
 import eu.hansolo.tilesfx.tools.Helper;
+import eu.hansolo.tilesfx.tools.RankIndex;
 import javafx.application.Platform;
 import javafx.beans.InvalidationListener;
 import javafx.event.EventHandler;
@@ -29,11 +31,11 @@ import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.Pane;
 import javafx.scene.text.Text;
 
-import java.util.Comparator;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 
 /**
@@ -46,6 +48,11 @@ public class LeaderBoardTileSkin extends TileSkin {
     private ChartDataEventListener                         updateHandler;
     private InvalidationListener                           paneSizeListener;
     private Map<LeaderBoardItem, EventHandler<MouseEvent>> handlerMap;
+    private Map<ChartData, LeaderBoardItem>                itemMap;
+    private RankIndex<LeaderBoardItem>                     rankIndex;
+    private List<LeaderBoardItem>                          visibleItems;
+    private List<LeaderBoardItem>                          rows;
+    private boolean                                        virtualized;
 
 
     // ******************** Constructors **************************************
@@ -57,30 +64,24 @@ public class LeaderBoardTileSkin extends TileSkin {
     // ******************** Initialization ************************************
     @Override protected void initGraphics() {
         super.initGraphics();
+        subscribeToEvents(TileEvent.EventType.VISIBILITY, TileEvent.EventType.DATA);
 
         updateHandler    = e -> {
             final EventType TYPE = e.getType();
-            switch (TYPE) {
-                case UPDATE:
-                    updateChart();
-                    break;
-                case FINISHED:
-                    sortItems();
-                    break;
-            }
+            if (EventType.FINISHED == TYPE) { sortItem(itemMap.get(e.getData())); }
         };
         paneSizeListener = o -> resizeItems();
         handlerMap       = new HashMap<>();
+        itemMap          = new IdentityHashMap<>();
+        rankIndex        = new RankIndex<>(LeaderBoardItem::getValue);
+        visibleItems     = new ArrayList<>();
+        rows             = new ArrayList<>();
+        virtualized      = tile.isVirtualizedItems();
 
-        List<LeaderBoardItem> leaderBoardItems = tile.getLeaderBoardItems().stream()
-                                                               .sorted(Comparator.comparing(LeaderBoardItem::getValue).reversed())
-                                                               .collect(Collectors.toList());
+        leaderBoardPane = new Pane();
 
         registerItemListeners();
 
-        leaderBoardPane = new Pane();
-        leaderBoardPane.getChildren().addAll(leaderBoardItems);
-
         titleText = new Text();
         titleText.setFill(tile.getTitleColor());
         Helper.enableNode(titleText, !tile.getTitle().isEmpty());
@@ -100,32 +101,67 @@ public class LeaderBoardTileSkin extends TileSkin {
 
 
     // ******************** Methods *******************************************
-    @Override protected void handleEvents(final String EVENT_TYPE) {
+    @Override protected void handleEvents(final TileEvent.EventType EVENT_TYPE) {
         super.handleEvents(EVENT_TYPE);
 
-        if ("VISIBILITY".equals(EVENT_TYPE)) {
+        if (TileEvent.EventType.VISIBILITY == EVENT_TYPE) {
             Helper.enableNode(titleText, !tile.getTitle().isEmpty());
             Helper.enableNode(text, tile.isTextVisible());
-        } else if ("DATA".equals(EVENT_TYPE)) {
+        } else if (TileEvent.EventType.DATA == EVENT_TYPE) {
             registerItemListeners();
         }
     }
 
     private void registerItemListeners() {
-        tile.getLeaderBoardItems().forEach(item -> {
+        List<LeaderBoardItem> items = tile.getLeaderBoardItems();
+        new ArrayList<>(handlerMap.keySet()).forEach(item -> {
+            if (items.contains(item)) { return; }
+            item.removeChartDataEventListener(updateHandler);
+            item.removeEventHandler(MouseEvent.MOUSE_PRESSED, handlerMap.remove(item));
+            itemMap.remove(item.getChartData());
+            rankIndex.remove(item);
+            visibleItems.remove(item);
+            leaderBoardPane.getChildren().remove(item);
+        });
+        items.forEach(item -> {
             item.setFormatString(formatString);
+            if (handlerMap.containsKey(item)) { return; }
             item.addChartDataEventListener(updateHandler);
             EventHandler<MouseEvent> clickHandler = e -> tile.fireTileEvent(new TileEvent(TileEvent.EventType.SELECTED_CHART_DATA, item.getChartData()));
             handlerMap.put(item, clickHandler);
             item.addEventHandler(MouseEvent.MOUSE_PRESSED, clickHandler);
+            itemMap.put(item.getChartData(), item);
+            rankIndex.add(item);
+            if (!virtualized) { leaderBoardPane.getChildren().add(item); }
         });
+        updateChart();
     }
 
-    private void sortItems() {
-        List<LeaderBoardItem> items = tile.getLeaderBoardItems();
-        items.sort(Comparator.comparing(LeaderBoardItem::getValue).reversed());
-        items.forEach(i -> i.setIndex(items.indexOf(i)));
-        updateChart();
+    private void sortItem(final LeaderBoardItem ITEM) {
+        if (null == ITEM) { return; }
+        Platform.runLater(() -> {
+            // The rank index is only accessed on the FX application thread
+            rankIndex.update(ITEM);
+            updateRanks(false);
+        });
+    }
+
+    // Returns the recycled item for the given row in virtualized mode
+    private LeaderBoardItem getRow(final int ROW) {
+        while (rows.size() <= ROW) {
+            LeaderBoardItem row = new LeaderBoardItem();
+            row.setNameColor(tile.getTextColor());
+            row.setValueColor(tile.getValueColor());
+            int index = rows.size();
+            row.addEventHandler(MouseEvent.MOUSE_PRESSED, e -> {
+                // The row only holds a copy, fire the event with the chart data of the shown item
+                if (index < visibleItems.size()) { tile.fireTileEvent(new TileEvent(TileEvent.EventType.SELECTED_CHART_DATA, visibleItems.get(index).getChartData())); }
+            });
+            resizeItem(row);
+            rows.add(row);
+            leaderBoardPane.getChildren().add(row);
+        }
+        return rows.get(ROW);
     }
 
     @Override public void dispose() {
@@ -136,30 +172,79 @@ public class LeaderBoardTileSkin extends TileSkin {
             item.removeEventHandler(MouseEvent.MOUSE_PRESSED, handlerMap.get(item));
         });
         handlerMap.clear();
+        itemMap.clear();
+        rankIndex.clear();
+        visibleItems.clear();
+        rows.clear();
         super.dispose();
     }
 
 
     // ******************** Resizing ******************************************
     private void updateChart() {
-        Platform.runLater(() -> {
-            List<LeaderBoardItem> items = tile.getLeaderBoardItems();
-            int noOfItems = items.size();
-            if (noOfItems == 0) return;
-            double maxY = height - size * 0.25;
-            for (int i = 0 ; i < noOfItems ; i++) {
-                LeaderBoardItem item = items.get(i);
-                double y = i * 0.175 * size; //size * 0.18 + i * 0.175 * size;
-                if (y < maxY) {
-                    item.setManaged(true);
-                    item.setVisible(true);
-                    item.relocate(0, y);
-                } else {
+        Platform.runLater(() -> updateRanks(true));
+    }
+
+    /**
+     * Shows the items with the highest values. Only rows whose rank has changed
+     * will be relocated unless RELAYOUT is true (e.g. after a resize).
+     * In virtualized mode the items will be shown in recycled rows.
+     * @param RELAYOUT
+     */
+    private void updateRanks(final boolean RELAYOUT) {
+        if (RELAYOUT && tile.isVirtualizedItems() != virtualized) {
+            virtualized = tile.isVirtualizedItems();
+            visibleItems.clear();
+            leaderBoardPane.getChildren().setAll(virtualized ? rows : tile.getLeaderBoardItems());
+            if (!virtualized) { resizeItems(); }
+        }
+
+        double                maxY      = height - size * 0.25;
+        double                rowHeight = 0.175 * size;
+        int                   noOfRows  = rowHeight > 0 ? (int) Math.ceil(maxY / rowHeight) : 0;
+        List<LeaderBoardItem> top       = rankIndex.getTop(noOfRows);
+        int                   noOfItems = rankIndex.size();
+
+        if (RELAYOUT) {
+            if (!virtualized) {
+                tile.getLeaderBoardItems().forEach(item -> {
+                    if (top.contains(item)) { return; }
                     item.setVisible(false);
                     item.setManaged(false);
-                }
+                });
             }
-        });
+        } else {
+            visibleItems.forEach(item -> {
+                if (top.contains(item)) { return; }
+                // Items that are not visible get an index below all visible ones
+                item.setIndex(noOfItems);
+                item.setVisible(false);
+                item.setManaged(false);
+            });
+        }
+
+        for (int i = 0 ; i < top.size() ; i++) {
+            LeaderBoardItem item  = top.get(i);
+            boolean         moved = RELAYOUT || i >= visibleItems.size() || visibleItems.get(i) != item;
+            if (!RELAYOUT) { item.setIndex(i); }
+            if (virtualized) {
+                LeaderBoardItem row = getRow(i);
+                row.bind(item);
+                item = row;
+            }
+            if (moved) {
+                item.setManaged(true);
+                item.setVisible(true);
+                item.relocate(0, i * rowHeight); //size * 0.18 + i * 0.175 * size;
+            }
+        }
+        if (virtualized) {
+            for (int i = top.size() ; i < rows.size() ; i++) {
+                rows.get(i).setVisible(false);
+                rows.get(i).setManaged(false);
+            }
+        }
+        visibleItems = top;
     }
 
     @Override protected void resizeStaticText() {
@@ -188,14 +273,14 @@ public class LeaderBoardTileSkin extends TileSkin {
     }
 
     private void resizeItems() {
-        leaderBoardPane.getChildren().forEach(node -> {
-            LeaderBoardItem item = (LeaderBoardItem) node;
-            //item.setParentSize(pane.getWidth(), pane.getHeight());
-            //item.setPrefSize(pane.getWidth(), pane.getHeight());
-            item.setParentSize(width, height);
-            item.setPrefSize(width, height * 0.12);
-            item.setMaxSize(width, height * 0.12);
-        });
+        leaderBoardPane.getChildren().forEach(node -> resizeItem((LeaderBoardItem) node));
+    }
+    private void resizeItem(final LeaderBoardItem ITEM) {
+        //ITEM.setParentSize(pane.getWidth(), pane.getHeight());
+        //ITEM.setPrefSize(pane.getWidth(), pane.getHeight());
+        ITEM.setParentSize(width, height);
+        ITEM.setPrefSize(width, height * 0.12);
+        ITEM.setMaxSize(width, height * 0.12);
     }
     @Override protected void resize() {
         super.resize();
@@ -215,6 +300,10 @@ public class LeaderBoardTileSkin extends TileSkin {
             item.setNameColor(tile.getTextColor());
             item.setValueColor(tile.getValueColor());
         });
+        rows.forEach(row -> {
+            row.setNameColor(tile.getTextColor());
+            row.setValueColor(tile.getValueColor());
+        });
 
         resizeDynamicText();
         resizeStaticText();
@@ -19,6 +19,7 @@ package eu.hansolo.tilesfx.skins;
 import eu.hansolo.tilesfx.Tile;
 import eu.hansolo.tilesfx.Tile.MapProvider;
 import eu.hansolo.tilesfx.events.LocationEventListener;
+import eu.hansolo.tilesfx.events.TileEvent.EventType;
 import eu.hansolo.tilesfx.fonts.Fonts;
 import eu.hansolo.tilesfx.tools.Helper;
 import eu.hansolo.tilesfx.tools.Location;
@@ -61,6 +62,7 @@ public class MapTileSkin extends TileSkin {
     // ******************** Initialization ************************************
     @Override protected void initGraphics() {
         super.initGraphics();
+        subscribeToEvents(EventType.VISIBILITY, EventType.LOCATION, EventType.TRACK, EventType.MAP_PROVIDER);
 
         mouseHandler     = event -> { if (event.getClickCount() == 2) { centerLocation(); } };
         locationListener = e -> redraw();
@@ -120,20 +122,20 @@ public class MapTileSkin extends TileSkin {
     
 
     // ******************** Methods *******************************************
-    @Override protected void handleEvents(final String EVENT_TYPE) {
+    @Override protected void handleEvents(final EventType EVENT_TYPE) {
         super.handleEvents(EVENT_TYPE);
 
-        if ("VISIBILITY".equals(EVENT_TYPE)) {
+        if (EventType.VISIBILITY == EVENT_TYPE) {
             Helper.enableNode(titleText, !tile.getTitle().isEmpty());
             Helper.enableNode(text, tile.isTextVisible());
             webView.setMaxSize(size * 0.9, tile.isTextVisible() ? size * 0.68 : size * 0.795);
             webView.setPrefSize(size * 0.9, tile.isTextVisible() ? size * 0.68 : size * 0.795);
-        } else if ("LOCATION".equals(EVENT_TYPE)) {
+        } else if (EventType.LOCATION == EVENT_TYPE) {
             tile.getCurrentLocation().addLocationEventListener(locationListener);
             updateLocation();
-        } else if ("TRACK".equals(EVENT_TYPE)) {
+        } else if (EventType.TRACK == EVENT_TYPE) {
             addTrack(tile.getTrack());
-        } else if ("MAP_PROVIDER".equals(EVENT_TYPE)) {
+        } else if (EventType.MAP_PROVIDER == EVENT_TYPE) {
             changeMapProvider(tile.getMapProvider());
         }
     }
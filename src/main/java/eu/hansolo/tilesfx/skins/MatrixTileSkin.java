@@ -20,6 +20,7 @@ import eu.hansolo.tilesfx.Tile;
 import eu.hansolo.tilesfx.chart.ChartData;
 import eu.hansolo.tilesfx.chart.PixelMatrix;
 import eu.hansolo.tilesfx.chart.PixelMatrix.PixelShape;
+import eu.hansolo.tilesfx.chart.PixelMatrix.RenderMode;
 import eu.hansolo.tilesfx.chart.PixelMatrixBuilder;
 import eu.hansolo.tilesfx.events.ChartDataEventListener;
 import eu.hansolo.tilesfx.events.PixelMatrixEventListener;
@@ -61,9 +62,11 @@ public class MatrixTileSkin extends TileSkin {
     // ******************** Initialization ************************************
     @Override protected void initGraphics() {
         super.initGraphics();
+        subscribeToEvents(EventType.VISIBILITY);
 
         matrix = PixelMatrixBuilder.create()
                                    .pixelShape(PixelShape.SQUARE)
+                                   .renderMode(RenderMode.IMAGE)
                                    .useSpacer(true)
                                    .squarePixels(false)
                                    .colsAndRows(tile.getMatrixSize())
@@ -146,13 +149,13 @@ public class MatrixTileSkin extends TileSkin {
 
 
     // ******************** Methods *******************************************
-    @Override protected void handleEvents(final String EVENT_TYPE) {
+    @Override protected void handleEvents(final EventType EVENT_TYPE) {
         super.handleEvents(EVENT_TYPE);
 
-        if ("VISIBILITY".equals(EVENT_TYPE)) {
+        if (EventType.VISIBILITY == EVENT_TYPE) {
             Helper.enableNode(titleText, !tile.getTitle().isEmpty());
             Helper.enableNode(text, tile.isTextVisible());
-        } else if ("RECALC".equals(EVENT_TYPE)) {
+        } else if (EventType.RECALC == EVENT_TYPE) {
             matrix.setColsAndRows(tile.getMatrixSize());
             resize();
         }
@@ -176,6 +179,8 @@ public class MatrixTileSkin extends TileSkin {
         double          factor   = rows / tile.getRange();
         Color           offColor = matrix.getPixelOffColor();
 
+        // Only the pixels that changed will be painted on commit
+        matrix.beginUpdate();
         matrix.setAllPixelsOff();
         for (int y = rows ; y >= 0 ; y--) {
             for (int x = 0 ; x < cols; x++) {
@@ -183,7 +188,7 @@ public class MatrixTileSkin extends TileSkin {
                 matrix.setPixel(x, y, noOfActivePixels <= y ? dataList.get(x).getFillColor() : offColor);
             }
         }
-        matrix.drawMatrix();
+        matrix.commitUpdate();
     }
 
 
@@ -238,12 +243,14 @@ public class MatrixTileSkin extends TileSkin {
         text.setText(tile.getText());
 
         resizeStaticText();
-        matrix.drawMatrix();
 
         titleText.setFill(tile.getTitleColor());
         text.setFill(tile.getTextColor());
 
+        matrix.beginUpdate();
         matrix.setPixelOnColor(tile.getBarColor());
         matrix.setPixelOffColor(Helper.isDark(tile.getBackgroundColor()) ? tile.getBackgroundColor().brighter() : tile.getBackgroundColor().darker());
+        matrix.drawMatrix();
+        matrix.commitUpdate();
     }
 }
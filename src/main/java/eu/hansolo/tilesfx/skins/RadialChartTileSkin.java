@@ -17,13 +17,12 @@
 package eu.hansolo.tilesfx.skins;
 
 import eu.hansolo.tilesfx.Tile;
-import eu.hansolo.tilesfx.events.ChartDataEventListener;
 import eu.hansolo.tilesfx.events.TileEvent;
 import eu.hansolo.tilesfx.events.TileEvent.EventType;
 import eu.hansolo.tilesfx.fonts.Fonts;
 import eu.hansolo.tilesfx.tools.Helper;
+import eu.hansolo.tilesfx.tools.SortedChartData;
 import eu.hansolo.tilesfx.chart.ChartData;
-import javafx.collections.ListChangeListener;
 import javafx.event.EventHandler;
 import javafx.geometry.VPos;
 import javafx.scene.canvas.Canvas;
@@ -35,7 +34,6 @@ import javafx.scene.shape.StrokeLineCap;
 import javafx.scene.text.Text;
 import javafx.scene.text.TextAlignment;
 
-import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
 
@@ -50,8 +48,7 @@ public class RadialChartTileSkin extends TileSkin {
     private Text                          text;
     private Canvas                        chartCanvas;
     private GraphicsContext               chartCtx;
-    private ListChangeListener<ChartData> chartDataListener;
-    private ChartDataEventListener        chartEventListener;
+    private SortedChartData               sortedChartData;
     private EventHandler<MouseEvent>      clickHandler;
 
 
@@ -64,20 +61,9 @@ public class RadialChartTileSkin extends TileSkin {
     // ******************** Initialization ************************************
     @Override protected void initGraphics() {
         super.initGraphics();
+        subscribeToEvents(EventType.VISIBILITY);
 
-        chartEventListener = e -> drawChart();
-        tile.getChartData().forEach(chartData -> chartData.addChartDataEventListener(chartEventListener));
-
-        chartDataListener  = c -> {
-            while (c.next()) {
-                if (c.wasAdded()) {
-                    c.getAddedSubList().forEach(addedItem -> addedItem.addChartDataEventListener(chartEventListener));
-                } else if (c.wasRemoved()) {
-                    c.getRemoved().forEach(removedItem -> removedItem.removeChartDataEventListener(chartEventListener));
-                }
-            }
-            drawChart();
-        };
+        sortedChartData = new SortedChartData(tile.getChartData());
 
         clickHandler = e -> {
             double          x          = e.getX();
@@ -87,7 +73,7 @@ public class RadialChartTileSkin extends TileSkin {
             int             noOfItems  = dataList.size();
             double          canvasSize = chartCanvas.getWidth();
             double          barWidth   = canvasSize * 0.1;
-            double          max        = noOfItems == 0 ? 0 : dataList.stream().max(Comparator.comparingDouble(ChartData::getValue)).get().getValue();
+            double          max        = sortedChartData.getMax();
             for (int i = 0 ; i < noOfItems ; i++) {
                 ChartData data    = dataList.get(i);
                 double    value   = clamp(0, Double.MAX_VALUE, data.getValue());
@@ -118,16 +104,17 @@ public class RadialChartTileSkin extends TileSkin {
 
     @Override protected void registerListeners() {
         super.registerListeners();
-        tile.getChartData().addListener(chartDataListener);
+        sortedChartData.setOnDataChanged(this::drawChart);
+        sortedChartData.setOnListChanged(this::drawChart);
         chartCanvas.addEventHandler(MouseEvent.MOUSE_PRESSED, clickHandler);
     }
 
 
     // ******************** Methods *******************************************
-    @Override protected void handleEvents(final String EVENT_TYPE) {
+    @Override protected void handleEvents(final EventType EVENT_TYPE) {
         super.handleEvents(EVENT_TYPE);
 
-        if ("VISIBILITY".equals(EVENT_TYPE)) {
+        if (EventType.VISIBILITY == EVENT_TYPE) {
             Helper.enableNode(titleText, !tile.getTitle().isEmpty());
             Helper.enableNode(text, tile.isTextVisible());
             chartCanvas.setWidth(tile.isTextVisible() ? size * 0.68 : size * 0.795);
@@ -136,8 +123,7 @@ public class RadialChartTileSkin extends TileSkin {
     }
 
     @Override public void dispose() {
-        tile.getChartData().removeListener(chartDataListener);
-        tile.getChartData().forEach(chartData -> chartData.removeChartDataEventListener(chartEventListener));
+        sortedChartData.dispose();
         chartCanvas.removeEventHandler(MouseEvent.MOUSE_PRESSED, clickHandler);
         super.dispose();
     }
@@ -150,7 +136,7 @@ public class RadialChartTileSkin extends TileSkin {
         //List<RadialChartData> sortedDataList = tile.getChartData().stream().sorted(Comparator.comparingDouble(RadialChartData::getValue)).collect(Collectors.toList());
         List<ChartData> dataList       = tile.getChartData();
         int             noOfItems      = dataList.size();
-        double          max            = noOfItems == 0 ? 0 : dataList.stream().max(Comparator.comparingDouble(ChartData::getValue)).get().getValue();
+        double          max            = sortedChartData.getMax();
 
         double          nameX          = radius * 0.975;
         double          nameWidth      = radius * 0.95;
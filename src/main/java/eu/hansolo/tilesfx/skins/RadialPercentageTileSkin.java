@@ -19,6 +19,7 @@ package eu.hansolo.tilesfx.skins;
 import eu.hansolo.tilesfx.Tile;
 import eu.hansolo.tilesfx.chart.ChartData;
 import eu.hansolo.tilesfx.events.ChartDataEventListener;
+import eu.hansolo.tilesfx.events.TileEvent.EventType;
 import eu.hansolo.tilesfx.fonts.Fonts;
 import eu.hansolo.tilesfx.tools.Helper;
 import javafx.beans.InvalidationListener;
@@ -81,6 +82,7 @@ public class RadialPercentageTileSkin extends TileSkin {
     // ******************** Initialization ************************************
     @Override protected void initGraphics() {
         super.initGraphics();
+        subscribeToEvents(EventType.VISIBILITY);
 
         if (tile.isAutoScale()) tile.calcAutoScale();
         minValue             = tile.getMinValue();
@@ -176,16 +178,16 @@ public class RadialPercentageTileSkin extends TileSkin {
 
 
     // ******************** Methods *******************************************
-    @Override protected void handleEvents(final String EVENT_TYPE) {
+    @Override protected void handleEvents(final EventType EVENT_TYPE) {
         super.handleEvents(EVENT_TYPE);
-        if ("RECALC".equals(EVENT_TYPE)) {
+        if (EventType.RECALC == EVENT_TYPE) {
             referenceValue = tile.getReferenceValue() < maxValue ? maxValue : tile.getReferenceValue();
             angleStep      = ANGLE_RANGE / range;
             sum            = dataList.stream().mapToDouble(ChartData::getValue).sum();
             sections       = tile.getSections();
             redraw();
             setBar(tile.getCurrentValue());
-        } else if ("VISIBILITY".equals(EVENT_TYPE)) {
+        } else if (EventType.VISIBILITY == EVENT_TYPE) {
             enableNode(titleText, !tile.getTitle().isEmpty());
             enableNode(text, tile.isTextVisible());
             enableNode(unitText, !tile.getUnit().isEmpty());
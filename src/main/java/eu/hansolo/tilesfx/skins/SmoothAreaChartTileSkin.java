@@ -42,7 +42,6 @@ import javafx.scene.paint.CycleMethod;
 import javafx.scene.paint.LinearGradient;
 import javafx.scene.paint.Stop;
 import javafx.scene.shape.Circle;
-import javafx.scene.shape.ClosePath;
 import javafx.scene.shape.LineTo;
 import javafx.scene.shape.MoveTo;
 import javafx.scene.shape.Path;
@@ -70,6 +69,10 @@ public class SmoothAreaChartTileSkin extends TileSkin {
     private int                           dataSize;
     private double                        maxValue;
     private List<Point>                   points;
+    private double[]                      xValues;
+    private double[]                      yValues;
+    private double[]                      smoothedXValues;
+    private double[]                      smoothedYValues;
     private Path                          fillPath;
     private Path                          strokePath;
     private Canvas                        canvas;
@@ -98,6 +101,7 @@ public class SmoothAreaChartTileSkin extends TileSkin {
     // ******************** Initialization ************************************
     @Override protected void initGraphics() {
         super.initGraphics();
+        subscribeToEvents(EventType.VISIBILITY, EventType.SERIES);
 
         chartEventListener         = e -> handleData();
         chartDataListener          = c -> {
@@ -122,7 +126,11 @@ public class SmoothAreaChartTileSkin extends TileSkin {
         fillClip   = new Rectangle(0, 0, PREFERRED_WIDTH, PREFERRED_HEIGHT);
         strokeClip = new Rectangle(0, 0, PREFERRED_WIDTH, PREFERRED_HEIGHT);
 
-        points = new ArrayList<>();
+        points          = new ArrayList<>();
+        xValues         = new double[0];
+        yValues         = new double[0];
+        smoothedXValues = new double[0];
+        smoothedYValues = new double[0];
 
         fillPath = new Path();
         fillPath.setStroke(null);
@@ -195,16 +203,16 @@ public class SmoothAreaChartTileSkin extends TileSkin {
 
 
     // ******************** Methods *******************************************
-    @Override protected void handleEvents(final String EVENT_TYPE) {
+    @Override protected void handleEvents(final EventType EVENT_TYPE) {
         super.handleEvents(EVENT_TYPE);
 
-        if ("VISIBILITY".equals(EVENT_TYPE)) {
+        if (EventType.VISIBILITY == EVENT_TYPE) {
             Helper.enableNode(titleText, !tile.getTitle().isEmpty());
             Helper.enableNode(valueText, tile.isValueVisible());
             Helper.enableNode(unitText, !tile.getUnit().isEmpty());
             dataPointsVisible = tile.getDataPointsVisible();
             if (dataPointsVisible) { drawChart(points); } else { ctx.clearRect(0, 0, width, height); }
-        } else if ("SERIES".equals(EVENT_TYPE)) {
+        } else if (EventType.SERIES == EVENT_TYPE) {
             Helper.enableNode(fillPath, ChartType.AREA == tile.getChartType());
         }
     }
@@ -234,22 +242,27 @@ public class SmoothAreaChartTileSkin extends TileSkin {
 
     private void drawChart(final List<Point> POINTS) {
         if (POINTS.isEmpty()) return;
-        Point[] points = smoothing ? Helper.subdividePoints(POINTS.toArray(new Point[0]), 8) : POINTS.toArray(new Point[0]);
-
-        fillPath.getElements().clear();
-        fillPath.getElements().add(new MoveTo(0, height));
-
-        strokePath.getElements().clear();
-        strokePath.getElements().add(new MoveTo(points[0].getX(), points[0].getY()));
-
-        for (Point p : points) {
-            fillPath.getElements().add(new LineTo(p.getX(), p.getY()));
-            strokePath.getElements().add(new LineTo(p.getX(), p.getY()));
+        int noOfPoints = POINTS.size();
+        if (xValues.length < noOfPoints) {
+            xValues = new double[noOfPoints];
+            yValues = new double[noOfPoints];
         }
-
-        fillPath.getElements().add(new LineTo(width, height));
-        fillPath.getElements().add(new LineTo(0, height));
-        fillPath.getElements().add(new ClosePath());
+        for (int i = 0 ; i < noOfPoints ; i++) {
+            xValues[i] = POINTS.get(i).getX();
+            yValues[i] = POINTS.get(i).getY();
+        }
+        if (smoothing) {
+            int noOfSmoothedPoints = Helper.getNoOfSubdividedPoints(noOfPoints, 8);
+            if (smoothedXValues.length < noOfSmoothedPoints) {
+                smoothedXValues = new double[noOfSmoothedPoints];
+                smoothedYValues = new double[noOfSmoothedPoints];
+            }
+            noOfPoints = Helper.subdividePoints(xValues, yValues, noOfPoints, 8, smoothedXValues, smoothedYValues);
+        }
+        double[] x = smoothing ? smoothedXValues : xValues;
+        double[] y = smoothing ? smoothedYValues : yValues;
+        Helper.setFillElements(fillPath.getElements(), x, y, noOfPoints, 0, width, height);
+        Helper.setLineElements(strokePath.getElements(), x, y, noOfPoints);
 
         if (dataPointsVisible) { drawDataPoints(POINTS, tile.isFillWithGradient() ? tile.getGradientStops().get(0).getColor() : tile.getBarColor()); }
     }
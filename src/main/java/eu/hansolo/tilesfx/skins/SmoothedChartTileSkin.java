@@ -50,6 +50,7 @@ public class SmoothedChartTileSkin extends TileSkin {
     // ******************** Initialization ************************************
     @Override protected void initGraphics() {
         super.initGraphics();
+        subscribeToEvents(EventType.VISIBILITY, EventType.SERIES);
 
         chartEventEventHandler = e -> tile.fireTileEvent(new TileEvent(EventType.SELECTED_CHART_DATA, new ChartData(e.getValue())));
 
@@ -66,6 +67,7 @@ public class SmoothedChartTileSkin extends TileSkin {
         chart.setLegendSide(Side.TOP);
         chart.setVerticalZeroLineVisible(false);
         chart.setCreateSymbols(false);
+        chart.setDecimation(SmoothedChart.Decimation.LTTB);
         chart.setSnapToTicks(tile.isSnapToTicks());
         chart.setSymbolsVisible(tile.getDataPointsVisible());
 
@@ -104,11 +106,11 @@ public class SmoothedChartTileSkin extends TileSkin {
 
 
     // ******************** Methods *******************************************
-    @Override protected void handleEvents(final String EVENT_TYPE) {
+    @Override protected void handleEvents(final EventType EVENT_TYPE) {
         super.handleEvents(EVENT_TYPE);
-        if ("VISIBILITY".equals(EVENT_TYPE)) {
+        if (EventType.VISIBILITY == EVENT_TYPE) {
             chart.setSymbolsVisible(tile.getDataPointsVisible());
-        } else if ("SERIES".equals(EVENT_TYPE)) {
+        } else if (EventType.SERIES == EVENT_TYPE) {
             switch(tile.getChartType()) {
                 case AREA: chart.setChartType(SmoothedChart.ChartType.AREA); break;
                 default  : chart.setChartType(SmoothedChart.ChartType.LINE); break;
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.tilesfx.skins;
+
+import eu.hansolo.tilesfx.tools.Decimator;
+import eu.hansolo.tilesfx.tools.Helper;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.shape.Path;
+
+
+class SparkLineRenderer {
+    private final Path            path;
+    private final Canvas          canvas;
+    private final GraphicsContext ctx;
+    private       boolean         canvasMode;
+    private       double[]        xValues;
+    private       double[]        yValues;
+    private       double[]        decimatedXValues;
+    private       double[]        decimatedYValues;
+    private       int             noOfPoints;
+
+    /*
+     * In path mode the elements of the path will be reused and only their
+     * coordinates will be updated, so the element list only changes if the
+     * number of points changes. In canvas mode the path is empty and the
+     * line will be drawn on the canvas using the stroke settings of the path.
+     */
+
+
+    // ******************** Constructors **************************************
+    SparkLineRenderer(final Path PATH) {
+        path             = PATH;
+        canvas           = new Canvas();
+        ctx              = canvas.getGraphicsContext2D();
+        canvasMode       = false;
+        xValues          = new double[0];
+        yValues          = new double[0];
+        decimatedXValues = new double[0];
+        decimatedYValues = new double[0];
+        canvas.setMouseTransparent(true);
+        Helper.enableNode(canvas, false);
+    }
+
+
+    // ******************** Methods *******************************************
+    Canvas getCanvas() { return canvas; }
+
+    boolean isCanvasMode() { return canvasMode; }
+    void setCanvasMode(final boolean CANVAS_MODE) {
+        if (CANVAS_MODE == canvasMode) { return; }
+        canvasMode = CANVAS_MODE;
+        Helper.enableNode(path, !canvasMode);
+        Helper.enableNode(canvas, canvasMode);
+        if (canvasMode) {
+            path.getElements().clear();
+        } else {
+            ctx.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+            Helper.setLineElements(path.getElements(), xValues, yValues, noOfPoints);
+        }
+        draw();
+    }
+
+    /**
+     * Sets the points of the spark line
+     * @param X
+     * @param Y
+     * @param NO_OF_POINTS
+     */
+    void setPoints(final double[] X, final double[] Y, final int NO_OF_POINTS) {
+        if (xValues.length < NO_OF_POINTS) {
+            xValues = new double[NO_OF_POINTS];
+            yValues = new double[NO_OF_POINTS];
+        }
+        System.arraycopy(X, 0, xValues, 0, NO_OF_POINTS);
+        System.arraycopy(Y, 0, yValues, 0, NO_OF_POINTS);
+        noOfPoints = NO_OF_POINTS;
+        if (canvasMode) {
+            draw();
+        } else {
+            Helper.setLineElements(path.getElements(), xValues, yValues, noOfPoints);
+        }
+    }
+
+    /**
+     * Draws the spark line on the canvas if in canvas mode. Has to be called
+     * after the stroke of the path has been changed.
+     */
+    void draw() {
+        if (!canvasMode) { return; }
+        ctx.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        if (noOfPoints < 2) { return; }
+
+        // There is no need to draw more than the min and max point per pixel column
+        double[] x           = xValues;
+        double[] y           = yValues;
+        int      n           = noOfPoints;
+        int      noOfColumns = (int) Math.ceil(canvas.getWidth());
+        if (noOfColumns > 0 && n > 2 * noOfColumns + 2) {
+            if (decimatedXValues.length < 2 * noOfColumns + 2) {
+                decimatedXValues = new double[2 * noOfColumns + 2];
+                decimatedYValues = new double[2 * noOfColumns + 2];
+            }
+            n = Decimator.minMax(xValues, yValues, noOfPoints, noOfColumns, decimatedXValues, decimatedYValues);
+            x = decimatedXValues;
+            y = decimatedYValues;
+        }
+        ctx.setStroke(path.getStroke());
+        ctx.setLineWidth(path.getStrokeWidth());
+        ctx.setLineCap(path.getStrokeLineCap());
+        ctx.setLineJoin(path.getStrokeLineJoin());
+        ctx.strokePolyline(x, y, n);
+    }
+
+
+    // ******************** Resizing ******************************************
+    void resize(final double WIDTH, final double HEIGHT) {
+        canvas.setWidth(WIDTH);
+        canvas.setHeight(HEIGHT);
+        draw();
+    }
+}
@@ -17,13 +17,13 @@
 package eu.hansolo.tilesfx.skins;
 
 import eu.hansolo.tilesfx.Tile;
+import eu.hansolo.tilesfx.events.TileEvent.EventType;
 import eu.hansolo.tilesfx.fonts.Fonts;
 import eu.hansolo.tilesfx.tools.GradientLookup;
 import eu.hansolo.tilesfx.tools.Helper;
 import eu.hansolo.tilesfx.tools.MovingAverage;
 import eu.hansolo.tilesfx.tools.NiceScale;
-import eu.hansolo.tilesfx.tools.Point;
-import eu.hansolo.tilesfx.tools.Statistics;
+import eu.hansolo.tilesfx.tools.WindowedStatistics;
 import javafx.beans.InvalidationListener;
 import javafx.geometry.VPos;
 import javafx.scene.paint.Color;
@@ -33,10 +33,7 @@ import javafx.scene.paint.Stop;
 import javafx.scene.shape.Circle;
 import javafx.scene.shape.CubicCurveTo;
 import javafx.scene.shape.Line;
-import javafx.scene.shape.LineTo;
-import javafx.scene.shape.MoveTo;
 import javafx.scene.shape.Path;
-import javafx.scene.shape.PathElement;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.shape.StrokeLineCap;
 import javafx.scene.shape.StrokeLineJoin;
@@ -48,8 +45,6 @@ import javafx.util.Pair;
 
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 
@@ -76,8 +71,12 @@ public class SparkLineTileSkin extends TileSkin {
     private Text                 text;
     private Text                 timeSpanText;
     private Rectangle            graphBounds;
-    private List<PathElement>    pathElements;
+    private double[]             xValues;
+    private double[]             yValues;
+    private double[]             smoothedXValues;
+    private double[]             smoothedYValues;
     private Path                 sparkLine;
+    private SparkLineRenderer    sparkLineRenderer;
     private Circle               dot;
     private Rectangle            stdDeviationArea;
     private Line                 averageLine;
@@ -87,7 +86,7 @@ public class SparkLineTileSkin extends TileSkin {
     private double               high;
     private double               stdDeviation;
     private int                  noOfDatapoints;
-    private List<Double>         dataList;
+    private WindowedStatistics   dataList;
     private MovingAverage        movingAverage;
     private InvalidationListener averagingListener;
     private NiceScale            niceScaleY;
@@ -107,8 +106,9 @@ public class SparkLineTileSkin extends TileSkin {
     // ******************** Initialization ************************************
     @Override protected void initGraphics() {
         super.initGraphics();
+        subscribeToEvents(EventType.VISIBILITY, EventType.VALUE, EventType.AVERAGING);
 
-        averagingListener = o -> handleEvents("AVERAGING");
+        averagingListener = o -> handleEvents(EventType.AVERAGING);
 
         timeFormatter = DateTimeFormatter.ofPattern("HH:mm", tile.getLocale());
 
@@ -129,17 +129,18 @@ public class SparkLineTileSkin extends TileSkin {
             tickLabelsY.add(tickLabelY);
         }
 
-        gradientLookup = new GradientLookup(tile.getGradientStops());
+        gradientLookup = new GradientLookup(tile.getGradientStops(), GradientLookup.DEFAULT_LUT_SIZE);
         low            = tile.getMaxValue();
         high           = tile.getMinValue();
         stdDeviation   = 0;
         movingAverage  = tile.getMovingAverage();
         noOfDatapoints = tile.getAveragingPeriod();
-        dataList       = new LinkedList<>();
 
         // To get smooth lines in the chart we need at least 4 values
         if (noOfDatapoints < 4) throw new IllegalArgumentException("Please increase the averaging period to a value larger than 3.");
 
+        dataList = new WindowedStatistics(noOfDatapoints, true);
+
         graphBounds = new Rectangle(PREFERRED_WIDTH * 0.05, PREFERRED_HEIGHT * 0.5, PREFERRED_WIDTH * 0.9, PREFERRED_HEIGHT * 0.45);
 
         titleText = new Text(tile.getTitle());
@@ -186,22 +187,25 @@ public class SparkLineTileSkin extends TileSkin {
         averageLine.getStrokeDashArray().addAll(PREFERRED_WIDTH * 0.005, PREFERRED_WIDTH * 0.005);
         Helper.enableNode(averageLine, tile.isAverageVisible());
 
-        pathElements = new ArrayList<>(noOfDatapoints);
-        pathElements.add(0, new MoveTo());
-        for (int i = 1 ; i < noOfDatapoints ; i++) { pathElements.add(i, new LineTo()); }
+        xValues         = new double[0];
+        yValues         = new double[0];
+        smoothedXValues = new double[0];
+        smoothedYValues = new double[0];
 
         sparkLine = new Path();
-        sparkLine.getElements().addAll(pathElements);
         sparkLine.setFill(null);
         sparkLine.setStroke(tile.getBarColor());
         sparkLine.setStrokeWidth(PREFERRED_WIDTH * 0.0075);
         sparkLine.setStrokeLineCap(StrokeLineCap.ROUND);
         sparkLine.setStrokeLineJoin(StrokeLineJoin.ROUND);
 
+        sparkLineRenderer = new SparkLineRenderer(sparkLine);
+        sparkLineRenderer.setCanvasMode(tile.isCanvasSparkLine());
+
         dot = new Circle();
         dot.setFill(tile.getBarColor());
 
-        getPane().getChildren().addAll(titleText, valueUnitFlow, stdDeviationArea, averageLine, sparkLine, dot, averageText, highText, lowText, timeSpanText, text);
+        getPane().getChildren().addAll(titleText, valueUnitFlow, stdDeviationArea, averageLine, sparkLine, sparkLineRenderer.getCanvas(), dot, averageText, highText, lowText, timeSpanText, text);
         getPane().getChildren().addAll(horizontalTickLines);
         getPane().getChildren().addAll(tickLabelsY);
     }
@@ -213,10 +217,10 @@ public class SparkLineTileSkin extends TileSkin {
 
 
     // ******************** Methods *******************************************
-    @Override protected void handleEvents(final String EVENT_TYPE) {
+    @Override protected void handleEvents(final EventType EVENT_TYPE) {
         super.handleEvents(EVENT_TYPE);
 
-        if ("VISIBILITY".equals(EVENT_TYPE)) {
+        if (EventType.VISIBILITY == EVENT_TYPE) {
             Helper.enableNode(titleText, !tile.getTitle().isEmpty());
             Helper.enableNode(text, tile.isTextVisible());
             Helper.enableNode(valueText, tile.isValueVisible());
@@ -226,29 +230,26 @@ public class SparkLineTileSkin extends TileSkin {
             Helper.enableNode(averageText, tile.isAverageVisible());
             Helper.enableNode(stdDeviationArea, tile.isAverageVisible());
             redraw();
-        } else if ("VALUE".equals(EVENT_TYPE)) {
+        } else if (EventType.VALUE == EVENT_TYPE) {
             if(tile.isAnimated()) { tile.setAnimated(false); }
             if (!tile.isAveragingEnabled()) { tile.setAveragingEnabled(true); }
             double value = clamp(minValue, maxValue, tile.getValue());
             addData(value);
             handleCurrentValue(value);
-        } else if ("AVERAGING".equals(EVENT_TYPE)) {
+        } else if (EventType.AVERAGING == EVENT_TYPE) {
             noOfDatapoints = tile.getAveragingPeriod();
 
             // To get smooth lines in the chart we need at least 4 values
             if (noOfDatapoints < 4) throw new IllegalArgumentException("Please increase the averaging period to a value larger than 3.");
-            for (int i = 0; i < noOfDatapoints; i++) { dataList.add(minValue); }
-            pathElements.clear();
-            pathElements.add(0, new MoveTo());
-            for (int i = 1 ; i < noOfDatapoints ; i++) { pathElements.add(i, new LineTo()); }
-            sparkLine.getElements().setAll(pathElements);
+            dataList.setCapacity(noOfDatapoints);
+            dataList.fill(minValue);
             redraw();
         }
     }
 
     @Override protected void handleCurrentValue(final double VALUE) {
-        low  = Statistics.getMin(dataList);
-        high = Statistics.getMax(dataList);
+        low  = dataList.getMin();
+        high = dataList.getMax();
         if (Helper.equals(low, high)) {
             low  = minValue;
             high = maxValue;
@@ -297,29 +298,30 @@ public class SparkLineTileSkin extends TileSkin {
         tickLabelsY.forEach(label -> label.setX(maxX - label.getLayoutBounds().getWidth()));
 
         if (!dataList.isEmpty()) {
+            // The stroke has to be set before the points in case the line will be drawn on a canvas
+            if (tile.isStrokeWithGradient()) {
+                setupGradient();
+                dot.setFill(gradient);
+                sparkLine.setStroke(gradient);
+            }
+
             if (tile.isSmoothing()) {
                 smooth(dataList);
             } else {
-                MoveTo begin = (MoveTo) pathElements.get(0);
-                begin.setX(minX);
-                begin.setY(maxY - Math.abs(low - dataList.get(0)) * stepY);
-                for (int i = 1; i < (noOfDatapoints - 1); i++) {
-                    LineTo lineTo = (LineTo) pathElements.get(i);
-                    lineTo.setX(minX + i * stepX);
-                    lineTo.setY(maxY - Math.abs(low - dataList.get(i)) * stepY);
+                // The values are read from the ring buffer in place and written to the existing path elements
+                int noOfPoints = dataList.size();
+                if (xValues.length < noOfPoints) {
+                    xValues = new double[noOfPoints];
+                    yValues = new double[noOfPoints];
                 }
-                LineTo end = (LineTo) pathElements.get(noOfDatapoints - 1);
-                end.setX(maxX);
-                end.setY(maxY - Math.abs(low - dataList.get(noOfDatapoints - 1)) * stepY);
-
-                dot.setCenterX(maxX);
-                dot.setCenterY(end.getY());
-            }
+                for (int i = 0 ; i < noOfPoints ; i++) {
+                    xValues[i] = minX + i * stepX;
+                    yValues[i] = maxY - Math.abs(low - dataList.get(i)) * stepY;
+                }
+                sparkLineRenderer.setPoints(xValues, yValues, noOfPoints);
 
-            if (tile.isStrokeWithGradient()) {
-                setupGradient();
-                dot.setFill(gradient);
-                sparkLine.setStroke(gradient);
+                dot.setCenterX(xValues[noOfPoints - 1]);
+                dot.setCenterY(yValues[noOfPoints - 1]);
             }
 
             double average  = tile.getAverage();
@@ -348,14 +350,9 @@ public class SparkLineTileSkin extends TileSkin {
     }
 
     private void addData(final double VALUE) {
-        if (dataList.isEmpty()) { for (int i = 0 ; i < noOfDatapoints ;i ++) { dataList.add(VALUE); } }
-        if (dataList.size() <= noOfDatapoints) {
-            Collections.rotate(dataList, -1);
-            dataList.set((noOfDatapoints - 1), VALUE);
-        } else {
-            dataList.add(VALUE);
-        }
-        stdDeviation = Statistics.getStdDev(dataList);
+        if (dataList.isEmpty()) { dataList.fill(VALUE); }
+        dataList.add(VALUE);
+        stdDeviation = dataList.getStdDev();
     }
 
     private void setupGradient() {
@@ -397,12 +394,15 @@ public class SparkLineTileSkin extends TileSkin {
         super.dispose();
     }
 
-    private void smooth(final List<Double> DATA_LIST) {
-        int      size   = DATA_LIST.size();
-        Point[]  points = new Point[size];
+    private void smooth(final WindowedStatistics DATA_LIST) {
+        int size = DATA_LIST.size();
+        if (xValues.length < size) {
+            xValues = new double[size];
+            yValues = new double[size];
+        }
 
-        low  = Statistics.getMin(DATA_LIST);
-        high = Statistics.getMax(DATA_LIST);
+        low  = DATA_LIST.getMin();
+        high = DATA_LIST.getMax();
         if (Helper.equals(low, high)) {
             low  = minValue;
             high = maxValue;
@@ -417,18 +417,19 @@ public class SparkLineTileSkin extends TileSkin {
         double stepY = graphBounds.getHeight() / range;
 
         for (int i = 0 ; i < size ; i++) {
-            points[i] = new Point(minX + i * stepX, maxY - Math.abs(low - DATA_LIST.get(i)) * stepY);
+            xValues[i] = minX + i * stepX;
+            yValues[i] = maxY - Math.abs(low - DATA_LIST.get(i)) * stepY;
         }
 
-        Point[] smoothedPoints = Helper.subdividePoints(points, 16);
-        int length = smoothedPoints.length;
-        sparkLine.getElements().clear();
-        sparkLine.getElements().add(new MoveTo(smoothedPoints[0].getX(), smoothedPoints[0].getY()));
-        for (int i = 1 ; i < length - 1 ; i++) {
-            sparkLine.getElements().add(new LineTo(smoothedPoints[i].getX(), smoothedPoints[i].getY()));
+        int noOfSmoothedPoints = Helper.getNoOfSubdividedPoints(size, 16);
+        if (smoothedXValues.length < noOfSmoothedPoints) {
+            smoothedXValues = new double[noOfSmoothedPoints];
+            smoothedYValues = new double[noOfSmoothedPoints];
         }
-        dot.setCenterX(smoothedPoints[length - 1].getX());
-        dot.setCenterY(smoothedPoints[length - 1].getY());
+        int length = Helper.subdividePoints(xValues, yValues, size, 16, smoothedXValues, smoothedYValues);
+        sparkLineRenderer.setPoints(smoothedXValues, smoothedYValues, length - 1);
+        dot.setCenterX(smoothedXValues[length - 1]);
+        dot.setCenterY(smoothedYValues[length - 1]);
     }
 
 
@@ -522,6 +523,8 @@ public class SparkLineTileSkin extends TileSkin {
 
         if (tile.isStrokeWithGradient()) { setupGradient(); }
 
+        sparkLineRenderer.resize(width, height);
+
         resizeStaticText();
         resizeDynamicText();
 
@@ -557,6 +560,8 @@ public class SparkLineTileSkin extends TileSkin {
         } else {
             sparkLine.setStroke(tile.getBarColor());
         }
+        sparkLineRenderer.setCanvasMode(tile.isCanvasSparkLine());
+        sparkLineRenderer.draw();
         stdDeviationArea.setFill(Helper.getColorWithOpacity(Tile.FOREGROUND, 0.1));
         dot.setFill(tile.isStrokeWithGradient() ? gradient : tile.getBarColor());
     }
@@ -17,10 +17,11 @@
 package eu.hansolo.tilesfx.skins;
 
 import eu.hansolo.tilesfx.Tile;
+import eu.hansolo.tilesfx.events.TileEvent.EventType;
 import eu.hansolo.tilesfx.fonts.Fonts;
 import eu.hansolo.tilesfx.tools.Helper;
 import eu.hansolo.tilesfx.tools.MovingAverage;
-import eu.hansolo.tilesfx.tools.Statistics;
+import eu.hansolo.tilesfx.tools.WindowedStatistics;
 import javafx.animation.FillTransition;
 import javafx.animation.ParallelTransition;
 import javafx.animation.RotateTransition;
@@ -50,8 +51,6 @@ import javafx.util.Duration;
 
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 
 import static eu.hansolo.tilesfx.tools.Helper.clamp;
@@ -99,7 +98,7 @@ public class StockTileSkin extends TileSkin {
     private double               low;
     private double               high;
     private int                  noOfDatapoints;
-    private List<Double>         dataList;
+    private WindowedStatistics   dataList;
     private MovingAverage        movingAverage;
     private InvalidationListener averagingListener;
     private State                state;
@@ -114,8 +113,9 @@ public class StockTileSkin extends TileSkin {
     // ******************** Initialization ************************************
     @Override protected void initGraphics() {
         super.initGraphics();
+        subscribeToEvents(EventType.VISIBILITY, EventType.VALUE, EventType.AVERAGING);
 
-        averagingListener = o -> handleEvents("AVERAGING_PERIOD");
+        averagingListener = o -> handleEvents(EventType.AVERAGING);
 
         timeFormatter = DateTimeFormatter.ofPattern("HH:mm", tile.getLocale());
 
@@ -127,11 +127,12 @@ public class StockTileSkin extends TileSkin {
         high           = tile.getMinValue();
         movingAverage  = tile.getMovingAverage();
         noOfDatapoints = tile.getAveragingPeriod();
-        dataList       = new LinkedList<>();
 
         // To get smooth lines in the chart we need at least 4 values
         if (noOfDatapoints < 4) throw new IllegalArgumentException("Please increase the averaging period to a value larger than 3.");
 
+        dataList = new WindowedStatistics(noOfDatapoints, true);
+
         graphBounds = new Rectangle(PREFERRED_WIDTH * 0.05, PREFERRED_HEIGHT * 0.5, PREFERRED_WIDTH * 0.9, PREFERRED_HEIGHT * 0.45);
 
         titleText = new Text(tile.getTitle());
@@ -208,25 +209,26 @@ public class StockTileSkin extends TileSkin {
 
 
     // ******************** Methods *******************************************
-    @Override protected void handleEvents(final String EVENT_TYPE) {
+    @Override protected void handleEvents(final EventType EVENT_TYPE) {
         super.handleEvents(EVENT_TYPE);
 
-        if ("VISIBILITY".equals(EVENT_TYPE)) {
+        if (EventType.VISIBILITY == EVENT_TYPE) {
             Helper.enableNode(titleText, !tile.getTitle().isEmpty());
             Helper.enableNode(valueText, tile.isValueVisible());
             Helper.enableNode(timeSpanText, !tile.isTextVisible());
             redraw();
-        } else if ("VALUE".equals(EVENT_TYPE)) {
+        } else if (EventType.VALUE == EVENT_TYPE) {
             if(tile.isAnimated()) { tile.setAnimated(false); }
             if (!tile.isAveragingEnabled()) { tile.setAveragingEnabled(true); }
             double value = clamp(minValue, maxValue, tile.getValue());
             addData(value);
             handleCurrentValue(value);
-        } else if ("AVERAGING".equals(EVENT_TYPE)) {
+        } else if (EventType.AVERAGING == EVENT_TYPE) {
             noOfDatapoints = tile.getAveragingPeriod();
             // To get smooth lines in the chart we need at least 4 values
             if (noOfDatapoints < 4) throw new IllegalArgumentException("Please increase the averaging period to a value larger than 3.");
-            for (int i = 0; i < noOfDatapoints; i++) { dataList.add(minValue); }
+            dataList.setCapacity(noOfDatapoints);
+            dataList.fill(minValue);
             pathElements.clear();
             pathElements.add(0, new MoveTo());
             for (int i = 1 ; i < noOfDatapoints ; i++) { pathElements.add(i, new LineTo()); }
@@ -236,8 +238,8 @@ public class StockTileSkin extends TileSkin {
     }
 
     @Override protected void handleCurrentValue(final double VALUE) {
-        low  = Statistics.getMin(dataList);
-        high = Statistics.getMax(dataList);
+        low  = dataList.getMin();
+        high = dataList.getMax();
         if (Helper.equals(low, high)) {
             low  = minValue;
             high = maxValue;
@@ -311,18 +313,11 @@ public class StockTileSkin extends TileSkin {
         }
         if (dataList.isEmpty()) {
             double referenceValue = tile.getReferenceValue() != 0 ? tile.getReferenceValue() : VALUE;
-            for (int i = 0 ; i < noOfDatapoints ; i ++) {
-                dataList.add(referenceValue);
-            }
+            dataList.fill(referenceValue);
             if (tile.isAutoReferenceValue()) { tile.setReferenceValue(referenceValue); }
         }
-        if (dataList.size() <= noOfDatapoints) {
-            Collections.rotate(dataList, -1);
-            dataList.set((noOfDatapoints - 1), VALUE);
-            if (tile.isAutoReferenceValue()) { tile.setReferenceValue(dataList.get(0)); }
-        } else {
-            dataList.add(VALUE);
-        }
+        dataList.add(VALUE);
+        if (tile.isAutoReferenceValue()) { tile.setReferenceValue(dataList.getFirst()); }
     }
 
     private void updateState(final double VALUE, final double REFERENCE_VALUE) {
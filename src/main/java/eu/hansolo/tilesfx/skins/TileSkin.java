@@ -19,6 +19,7 @@ package eu.hansolo.tilesfx.skins;
 import eu.hansolo.tilesfx.Section;
 import eu.hansolo.tilesfx.Tile;
 import eu.hansolo.tilesfx.Tile.TextSize;
+import eu.hansolo.tilesfx.events.TileEvent.EventType;
 import eu.hansolo.tilesfx.events.TileEventListener;
 import eu.hansolo.tilesfx.tools.CtxBounds;
 import eu.hansolo.tilesfx.tools.NotifyRegion;
@@ -40,6 +41,7 @@ import javafx.scene.layout.CornerRadii;
 import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
 
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Locale;
 
@@ -57,6 +59,20 @@ public class TileSkin extends SkinBase<Tile> implements Skin<Tile> {
     protected static final double                   MINIMUM_HEIGHT   = 50;
     protected static final double                   MAXIMUM_WIDTH    = 1024;
     protected static final double                   MAXIMUM_HEIGHT   = 1024;
+    // Skins written against the String based handleEvents() are bridged to it and receive all events
+    private   static final ClassValue<Boolean>      OVERRIDES_STRING_HANDLER = new ClassValue<Boolean>() {
+        @Override protected Boolean computeValue(final Class<?> TYPE) {
+            for (Class<?> c = TYPE ; c != TileSkin.class && null != c ; c = c.getSuperclass()) {
+                try {
+                    c.getDeclaredMethod("handleEvents", String.class);
+                    return Boolean.TRUE;
+                } catch (NoSuchMethodException e) {
+                    // not overridden on this level
+                }
+            }
+            return Boolean.FALSE;
+        }
+    };
     protected              double                   width;
     protected              double                   height;
     protected              double                   size;
@@ -87,6 +103,8 @@ public class TileSkin extends SkinBase<Tile> implements Skin<Tile> {
     protected              Tile                     tile;
     private                NotifyRegion             notifyRegion;
     private                ListChangeListener<Node> childrenListener;
+    private                EnumSet<EventType>       subscribedEventTypes;
+    private          final boolean                  legacyEventHandling;
 
 
     // ******************** Constructors **************************************
@@ -106,8 +124,10 @@ public class TileSkin extends SkinBase<Tile> implements Skin<Tile> {
         sectionsVisible      = TILE.getSectionsVisible();
         highlightSections    = tile.isHighlightSections();
         textSize             = tile.getTextSize();
-        sizeListener         = o -> handleEvents("RESIZE");
-        tileEventListener    = e -> handleEvents(e.getEventType().name());
+        legacyEventHandling  = OVERRIDES_STRING_HANDLER.get(getClass());
+        subscribedEventTypes = legacyEventHandling ? EnumSet.allOf(EventType.class) : EnumSet.of(EventType.RESIZE, EventType.REDRAW, EventType.RECALC, EventType.SECTION, EventType.SHOW_NOTIFIER, EventType.HIDE_NOTIFIER);
+        sizeListener         = o -> dispatchEvent(EventType.RESIZE);
+        tileEventListener    = e -> dispatchEvent(e.getEventType());
         currentValueListener = o -> handleCurrentValue(tile.getCurrentValue());
         childrenListener     = c -> notifyRegion.toFront();
         contentBounds        = new CtxBounds();
@@ -160,30 +180,87 @@ public class TileSkin extends SkinBase<Tile> implements Skin<Tile> {
 
     protected Pane getPane() { return pane; }
 
-    protected void handleEvents(final String EVENT_TYPE) {
-        if ("RESIZE".equals(EVENT_TYPE)) {
-            resize();
-            redraw();
-        } else if ("REDRAW".equals(EVENT_TYPE)) {
-            redraw();
-        } else if ("RECALC".equals(EVENT_TYPE)) {
-            minValue          = tile.getMinValue();
-            maxValue          = tile.getMaxValue();
-            range             = tile.getRange();
-            threshold         = tile.getThreshold();
-            stepSize          = size / range;
-            angleRange        = clamp(90.0, 180.0, tile.getAngleRange());
-            angleStep         = angleRange / range;
-            highlightSections = tile.isHighlightSections();
-            redraw();
-            handleCurrentValue(tile.getCurrentValue());
-        } else if ("SECTION".equals(EVENT_TYPE)) {
-            sections = tile.getSections();
-        } else if ("SHOW_NOTIFIER".equals(EVENT_TYPE)) {
-            enableNode(notifyRegion, true);
-        } else if ("HIDE_NOTIFIER".equals(EVENT_TYPE)) {
-            enableNode(notifyRegion, false);
+    /**
+     * Adds the given event types to the types this skin will receive in
+     * handleEvents(). RESIZE, REDRAW, RECALC, SECTION, SHOW_NOTIFIER and
+     * HIDE_NOTIFIER are always subscribed, all other TileEvents will be
+     * ignored unless a skin subscribes to them.
+     *
+     * @param EVENT_TYPES
+     */
+    protected void subscribeToEvents(final EventType... EVENT_TYPES) {
+        for (EventType eventType : EVENT_TYPES) { subscribedEventTypes.add(eventType); }
+    }
+
+    private void dispatchEvent(final EventType EVENT_TYPE) {
+        if (!subscribedEventTypes.contains(EVENT_TYPE)) return;
+        if (legacyEventHandling) {
+            handleEvents(EVENT_TYPE.name());
+        } else {
+            handleEvents(EVENT_TYPE);
+        }
+    }
+
+    /**
+     * Handles the given event type, skins that override this method should
+     * subscribe to all event types they need via subscribeToEvents() and
+     * call super.handleEvents() for the types they don't handle themselves.
+     *
+     * @param EVENT_TYPE
+     */
+    protected void handleEvents(final EventType EVENT_TYPE) {
+        switch (EVENT_TYPE) {
+            case RESIZE:
+                resize();
+                redraw();
+                break;
+            case REDRAW:
+                redraw();
+                break;
+            case RECALC:
+                minValue          = tile.getMinValue();
+                maxValue          = tile.getMaxValue();
+                range             = tile.getRange();
+                threshold         = tile.getThreshold();
+                stepSize          = size / range;
+                angleRange        = clamp(90.0, 180.0, tile.getAngleRange());
+                angleStep         = angleRange / range;
+                highlightSections = tile.isHighlightSections();
+                redraw();
+                handleCurrentValue(tile.getCurrentValue());
+                break;
+            case SECTION:
+                sections = tile.getSections();
+                break;
+            case SHOW_NOTIFIER:
+                enableNode(notifyRegion, true);
+                break;
+            case HIDE_NOTIFIER:
+                enableNode(notifyRegion, false);
+                break;
+        }
+    }
+
+    /**
+     * Handles the event type with the given name.
+     * Skins that override this method still work as before and will receive
+     * all TileEvents by their name. To migrate such a skin override
+     * handleEvents(EventType) instead, compare the event types directly and
+     * subscribe to the event types it needs in the constructor via
+     * subscribeToEvents() because only RESIZE, REDRAW, RECALC, SECTION,
+     * SHOW_NOTIFIER and HIDE_NOTIFIER are subscribed by default.
+     *
+     * @param EVENT_TYPE the name of a TileEvent.EventType
+     * @deprecated override {@link #handleEvents(EventType)} instead
+     */
+    @Deprecated protected void handleEvents(final String EVENT_TYPE) {
+        EventType eventType;
+        try {
+            eventType = EventType.valueOf(EVENT_TYPE);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return;
         }
+        handleEvents(eventType);
     }
 
     protected void handleCurrentValue(final double VALUE) {}
@@ -19,6 +19,7 @@ package eu.hansolo.tilesfx.skins;
 import eu.hansolo.tilesfx.Tile;
 import eu.hansolo.tilesfx.Tile.TextSize;
 import eu.hansolo.tilesfx.TimeSection;
+import eu.hansolo.tilesfx.events.TileEvent.EventType;
 import eu.hansolo.tilesfx.fonts.Fonts;
 import eu.hansolo.tilesfx.tools.Helper;
 import javafx.geometry.Point2D;
@@ -88,6 +89,7 @@ public class TimerControlTileSkin extends TileSkin {
     // ******************** Initialization ************************************
     @Override protected void initGraphics() {
         super.initGraphics();
+        subscribeToEvents(EventType.VISIBILITY);
 
         currentValueListener = o -> {
             if (tile.isRunning()) { return; } // Update time only if clock is not already running
@@ -179,16 +181,16 @@ public class TimerControlTileSkin extends TileSkin {
 
 
     // ******************** Methods *******************************************
-    @Override protected void handleEvents(final String EVENT_TYPE) {
+    @Override protected void handleEvents(final EventType EVENT_TYPE) {
         super.handleEvents(EVENT_TYPE);
 
-        if ("VISIBILITY".equals(EVENT_TYPE)) {
+        if (EventType.VISIBILITY == EVENT_TYPE) {
             Helper.enableNode(titleText, !tile.getTitle().isEmpty());
             Helper.enableNode(text, tile.isTextVisible());
             Helper.enableNode(dateText, tile.isDateVisible());
             Helper.enableNode(second, tile.isSecondsVisible());
             Helper.enableNode(sectionsPane, tile.getSectionsVisible());
-        } else if ("SECTION".equals(EVENT_TYPE)) {
+        } else if (EventType.SECTION == EVENT_TYPE) {
             sectionMap.clear();
             for (TimeSection section : tile.getTimeSections()) { sectionMap.put(section, new Arc()); }
             sectionsPane.getChildren().setAll(sectionMap.values());
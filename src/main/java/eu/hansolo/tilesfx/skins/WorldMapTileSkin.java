@@ -78,6 +78,7 @@ public class WorldMapTileSkin extends TileSkin {
     // ******************** Initialization ************************************
     @Override protected void initGraphics() {
         super.initGraphics();
+        subscribeToEvents(EventType.VISIBILITY, EventType.REFRESH);
 
         poiLocations       = FXCollections.observableHashMap();
         chartDataLocations = FXCollections.observableHashMap();
@@ -210,13 +211,13 @@ public class WorldMapTileSkin extends TileSkin {
 
 
     // ******************** Methods *******************************************
-    @Override protected void handleEvents(final String EVENT_TYPE) {
+    @Override protected void handleEvents(final EventType EVENT_TYPE) {
         super.handleEvents(EVENT_TYPE);
 
-        if ("VISIBILITY".equals(EVENT_TYPE)) {
+        if (EventType.VISIBILITY == EVENT_TYPE) {
             Helper.enableNode(titleText, !tile.getTitle().isEmpty());
             Helper.enableNode(text, tile.isTextVisible());
-        } else if ("REFRESH".equals(EVENT_TYPE)) {
+        } else if (EventType.REFRESH == EVENT_TYPE) {
             refresh();
         }
     }
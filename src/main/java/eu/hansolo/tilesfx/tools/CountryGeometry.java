@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.tilesfx.tools;
+
+import javafx.scene.shape.ClosePath;
+import javafx.scene.shape.LineTo;
+import javafx.scene.shape.MoveTo;
+import javafx.scene.shape.PathElement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+
+public class CountryGeometry {
+    // Coordinates are stored as ints in 1/SCALE units which is the precision of the map data
+    public  static final int                 SCALE = 1000;
+    private        final String              name;
+    private        final int[]               pathStarts;      // index of the first sub path of each path, one more entry than paths
+    private        final int[]               subPathStarts;   // index of the first point of each sub path, one more entry than sub paths
+    private        final boolean[]           closed;          // true if the sub path ends with a ClosePath
+    private        final int[]               coordinates;     // x0, y0, x1, y1, ...
+    private        final List<PathElement>[] sharedElements;  // path elements of each path, shared by all CountryPaths
+
+
+    // ******************** Constructors **************************************
+    @SuppressWarnings("unchecked")
+    CountryGeometry(final String NAME, final int[] PATH_STARTS, final int[] SUB_PATH_STARTS, final boolean[] CLOSED, final int[] COORDINATES) {
+        name           = NAME;
+        pathStarts     = PATH_STARTS;
+        subPathStarts  = SUB_PATH_STARTS;
+        closed         = CLOSED;
+        coordinates    = COORDINATES;
+        sharedElements = new List[PATH_STARTS.length - 1];
+    }
+
+
+    // ******************** Methods *******************************************
+    public String getName() { return name; }
+
+    /**
+     * Returns the number of separate outlines (e.g. islands) of the country
+     * @return the number of separate outlines of the country
+     */
+    public int getNoOfPaths() { return pathStarts.length - 1; }
+
+    public int getNoOfPoints() { return coordinates.length / 2; }
+
+    /**
+     * Returns new path elements for the outline with the given index that
+     * can directly be added to a javafx.scene.shape.Path
+     * @param PATH_INDEX
+     * @return new path elements for the outline with the given index
+     */
+    public List<PathElement> getPathElements(final int PATH_INDEX) {
+        checkPathIndex(PATH_INDEX);
+        List<PathElement> elements = new ArrayList<>(subPathStarts[pathStarts[PATH_INDEX + 1]] - subPathStarts[pathStarts[PATH_INDEX]] + 1);
+        for (int subPath = pathStarts[PATH_INDEX] ; subPath < pathStarts[PATH_INDEX + 1] ; subPath++) {
+            for (int point = subPathStarts[subPath] ; point < subPathStarts[subPath + 1] ; point++) {
+                double x = getX(point);
+                double y = getY(point);
+                elements.add(point == subPathStarts[subPath] ? new MoveTo(x, y) : new LineTo(x, y));
+            }
+            if (closed[subPath]) { elements.add(new ClosePath()); }
+        }
+        return elements;
+    }
+
+    /**
+     * Returns the path elements for the outline with the given index. The
+     * elements will be created on the first call and the same elements will
+     * be returned afterwards, so all CountryPaths of a country share them and
+     * only the Path nodes are created for each tile. A path element can be
+     * part of more than one Path, so the returned elements must not be modified.
+     * @param PATH_INDEX
+     * @return the shared path elements for the outline with the given index
+     */
+    public synchronized List<PathElement> getSharedPathElements(final int PATH_INDEX) {
+        checkPathIndex(PATH_INDEX);
+        List<PathElement> elements = sharedElements[PATH_INDEX];
+        if (null == elements) {
+            elements = Collections.unmodifiableList(getPathElements(PATH_INDEX));
+            sharedElements[PATH_INDEX] = elements;
+        }
+        return elements;
+    }
+
+    /**
+     * Returns the outline with the given index as SVG path content. The content
+     * will be created on each call and is not needed to create a CountryPath.
+     * @param PATH_INDEX
+     * @return the outline with the given index as SVG path content
+     */
+    public String getContent(final int PATH_INDEX) {
+        checkPathIndex(PATH_INDEX);
+        return createContent(PATH_INDEX);
+    }
+
+    /**
+     * Returns a new CountryPath for the outline with the given index
+     * @param PATH_INDEX
+     * @return a new CountryPath for the outline with the given index
+     */
+    public CountryPath createCountryPath(final int PATH_INDEX) { return new CountryPath(CountryGeometry.this, PATH_INDEX); }
+
+    /**
+     * Returns new CountryPaths for all outlines of the country
+     * @return new CountryPaths for all outlines of the country
+     */
+    public List<CountryPath> createCountryPaths() {
+        List<CountryPath> paths = new ArrayList<>(getNoOfPaths());
+        for (int i = 0 ; i < getNoOfPaths() ; i++) { paths.add(createCountryPath(i)); }
+        return paths;
+    }
+
+    private String createContent(final int PATH_INDEX) {
+        StringBuilder content = new StringBuilder();
+        for (int subPath = pathStarts[PATH_INDEX] ; subPath < pathStarts[PATH_INDEX + 1] ; subPath++) {
+            for (int point = subPathStarts[subPath] ; point < subPathStarts[subPath + 1] ; point++) {
+                content.append(point == subPathStarts[subPath] ? 'M' : 'L');
+                appendCoordinate(content, coordinates[point * 2]).append(',');
+                appendCoordinate(content, coordinates[point * 2 + 1]);
+            }
+            if (closed[subPath]) { content.append('z'); }
+        }
+        return content.toString();
+    }
+
+    double getX(final int POINT) { return coordinates[POINT * 2] / (double) SCALE; }
+    double getY(final int POINT) { return coordinates[POINT * 2 + 1] / (double) SCALE; }
+
+    int[] getPathStarts() { return pathStarts; }
+    int[] getSubPathStarts() { return subPathStarts; }
+    boolean[] getClosed() { return closed; }
+    int[] getCoordinates() { return coordinates; }
+
+    private void checkPathIndex(final int PATH_INDEX) {
+        if (PATH_INDEX < 0 || PATH_INDEX >= getNoOfPaths()) { throw new IndexOutOfBoundsException("Index: " + PATH_INDEX + ", Size: " + getNoOfPaths()); }
+    }
+
+    private static StringBuilder appendCoordinate(final StringBuilder BUILDER, final int VALUE) {
+        if (VALUE < 0) { BUILDER.append('-'); }
+        int absValue = Math.abs(VALUE);
+        BUILDER.append(absValue / SCALE);
+        int fraction = absValue % SCALE;
+        if (fraction != 0) {
+            BUILDER.append('.');
+            int digit = SCALE / 10;
+            while (fraction != 0) {
+                BUILDER.append((char) ('0' + fraction / digit));
+                fraction %= digit;
+                digit   /= 10;
+            }
+        }
+        return BUILDER;
+    }
+}
@@ -0,0 +1,433 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.tilesfx.tools;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+public class CountryGeometryStore {
+    // Binary format (big endian):
+    // int magic, byte version, int scale, int noOfCountries,
+    // per country: short nameLength, byte[] name (UTF-8), int offset, int length,
+    // followed by the country data. The data of a country contains varint noOfPaths,
+    // per path varint noOfSubPaths, per sub path varint (noOfPoints << 1 | closed)
+    // followed by the points as zigzag varint deltas to the previous point.
+    private static final int                          MAGIC   = 0x54465847; // TFXG
+    private static final int                          VERSION = 1;
+    private        final List<String>                 names;
+    private        final Map<String, int[]>           index;       // name -> offset, length
+    private        final ByteBuffer                   data;
+    private        final Properties                   properties;  // fallback if no binary file is available
+    private        final Map<String, CountryGeometry> geometries;
+
+
+    // ******************** Constructors **************************************
+    private CountryGeometryStore(final ByteBuffer BUFFER) {
+        if (BUFFER.getInt() != MAGIC)                 { throw new IllegalArgumentException("Not a country geometry file"); }
+        if (BUFFER.get() != VERSION)                  { throw new IllegalArgumentException("Unsupported country geometry file version"); }
+        if (BUFFER.getInt() != CountryGeometry.SCALE) { throw new IllegalArgumentException("Unsupported country geometry scale"); }
+        int noOfCountries = BUFFER.getInt();
+        List<String> nameList = new ArrayList<>(noOfCountries);
+        index = new HashMap<>(noOfCountries * 2);
+        for (int i = 0 ; i < noOfCountries ; i++) {
+            byte[] nameBytes = new byte[BUFFER.getShort()];
+            BUFFER.get(nameBytes);
+            String name = new String(nameBytes, StandardCharsets.UTF_8);
+            nameList.add(name);
+            index.put(name, new int[] { BUFFER.getInt(), BUFFER.getInt() });
+        }
+        names      = Collections.unmodifiableList(nameList);
+        data       = BUFFER.slice();
+        properties = null;
+        geometries = new ConcurrentHashMap<>();
+    }
+    private CountryGeometryStore(final Properties PROPERTIES) {
+        List<String> nameList = new ArrayList<>(PROPERTIES.stringPropertyNames());
+        Collections.sort(nameList);
+        names      = Collections.unmodifiableList(nameList);
+        index      = null;
+        data       = null;
+        properties = PROPERTIES;
+        geometries = new ConcurrentHashMap<>();
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Loads the given binary resource. If the binary resource is not available
+     * (e.g. because the build step that creates it did not run) the given
+     * properties resource with the SVG path contents will be used instead.
+     * @param BINARY_RESOURCE
+     * @param PROPERTIES_RESOURCE
+     * @return a store that decodes the geometry of each country on first access
+     */
+    public static CountryGeometryStore load(final String BINARY_RESOURCE, final String PROPERTIES_RESOURCE) {
+        final ClassLoader LOADER = Thread.currentThread().getContextClassLoader();
+        try (InputStream binaryStream = LOADER.getResourceAsStream(BINARY_RESOURCE)) {
+            if (null != binaryStream) { return new CountryGeometryStore(ByteBuffer.wrap(readAll(binaryStream))); }
+        } catch (IOException | RuntimeException exception) {
+            exception.printStackTrace();
+        }
+        final Properties PROPERTIES = new Properties();
+        try (InputStream propertiesStream = LOADER.getResourceAsStream(PROPERTIES_RESOURCE)) {
+            if (null != propertiesStream) { PROPERTIES.load(propertiesStream); }
+        } catch (IOException exception) {
+            exception.printStackTrace();
+        }
+        return new CountryGeometryStore(PROPERTIES);
+    }
+
+    /**
+     * Memory maps the given binary country geometry file
+     * @param FILE
+     * @return a store that decodes the geometry of each country on first access
+     * @throws IOException
+     */
+    public static CountryGeometryStore load(final File FILE) throws IOException {
+        try (FileChannel channel = new FileInputStream(FILE).getChannel()) {
+            return new CountryGeometryStore(channel.map(MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Returns the names of all countries in the store
+     * @return the names of all countries in the store
+     */
+    public List<String> getNames() { return names; }
+
+    public boolean contains(final String NAME) { return null == properties ? index.containsKey(NAME) : properties.containsKey(NAME); }
+
+    /**
+     * Returns the geometry of the country with the given name or null if
+     * the store does not contain the country. The geometry will be decoded
+     * on the first call and cached afterwards.
+     * @param NAME
+     * @return the geometry of the country with the given name
+     */
+    public CountryGeometry getGeometry(final String NAME) {
+        if (null == NAME || !contains(NAME)) { return null; }
+        return geometries.computeIfAbsent(NAME, name -> null == properties ? decode(name) : parse(name, properties.getProperty(name)));
+    }
+
+    private CountryGeometry decode(final String NAME) {
+        final int[]      ENTRY  = index.get(NAME);
+        final ByteBuffer BUFFER = data.duplicate();
+        BUFFER.position(ENTRY[0]);
+        BUFFER.limit(ENTRY[0] + ENTRY[1]);
+
+        int      noOfPaths     = readVarInt(BUFFER);
+        int[]    pathStarts    = new int[noOfPaths + 1];
+        IntArray subPathStarts = new IntArray();
+        IntArray closedFlags   = new IntArray();
+        IntArray coordinates   = new IntArray();
+        int x = 0;
+        int y = 0;
+        for (int path = 0 ; path < noOfPaths ; path++) {
+            pathStarts[path] = subPathStarts.size();
+            int noOfSubPaths = readVarInt(BUFFER);
+            for (int subPath = 0 ; subPath < noOfSubPaths ; subPath++) {
+                int header     = readVarInt(BUFFER);
+                int noOfPoints = header >>> 1;
+                subPathStarts.add(coordinates.size() / 2);
+                closedFlags.add(header & 1);
+                for (int point = 0 ; point < noOfPoints ; point++) {
+                    x += zigZagDecode(readVarInt(BUFFER));
+                    y += zigZagDecode(readVarInt(BUFFER));
+                    coordinates.add(x);
+                    coordinates.add(y);
+                }
+            }
+        }
+        pathStarts[noOfPaths] = subPathStarts.size();
+        subPathStarts.add(coordinates.size() / 2);
+        return new CountryGeometry(NAME, pathStarts, subPathStarts.toArray(), toBooleans(closedFlags), coordinates.toArray());
+    }
+
+
+    // ******************** Compiling *****************************************
+    /**
+     * Parses the given SVG path contents of a country. Different paths are
+     * separated by ';'. Supported commands are M, L, H, V, Z in absolute and
+     * relative form, all of them will be converted to absolute coordinates.
+     * @param NAME
+     * @param CONTENT
+     * @return the parsed geometry of the country
+     */
+    public static CountryGeometry parse(final String NAME, final String CONTENT) {
+        IntArray pathStarts    = new IntArray();
+        IntArray subPathStarts = new IntArray();
+        IntArray closedFlags   = new IntArray();
+        IntArray coordinates   = new IntArray();
+        for (String path : CONTENT.split(";")) {
+            if (path.trim().isEmpty()) { continue; }
+            pathStarts.add(subPathStarts.size());
+            PathParser parser  = new PathParser(path);
+            char       command = 0;
+            int        x       = 0;
+            int        y       = 0;
+            int        startX  = 0;
+            int        startY  = 0;
+            boolean    inSubPath = false;
+            while (parser.hasNext()) {
+                if (parser.isCommand()) {
+                    command = parser.nextCommand();
+                    if ('z' == command || 'Z' == command) {
+                        if (inSubPath) { closedFlags.set(closedFlags.size() - 1, 1); }
+                        inSubPath = false;
+                        x = startX;
+                        y = startY;
+                    }
+                    continue;
+                }
+                switch (command) {
+                    case 'M': x = parser.nextValue(); y = parser.nextValue(); break;
+                    case 'm': x += parser.nextValue(); y += parser.nextValue(); break;
+                    case 'L': x = parser.nextValue(); y = parser.nextValue(); break;
+                    case 'l': x += parser.nextValue(); y += parser.nextValue(); break;
+                    case 'H': x = parser.nextValue(); break;
+                    case 'h': x += parser.nextValue(); break;
+                    case 'V': y = parser.nextValue(); break;
+                    case 'v': y += parser.nextValue(); break;
+                    default : throw new IllegalArgumentException("Unsupported path command '" + command + "' in " + NAME);
+                }
+                boolean isMove = 'M' == command || 'm' == command;
+                if (isMove || !inSubPath) {
+                    if (!isMove) {
+                        // Drawing after a close path starts a new sub path at the start point
+                        subPathStarts.add(coordinates.size() / 2);
+                        closedFlags.add(0);
+                        coordinates.add(startX);
+                        coordinates.add(startY);
+                    } else {
+                        subPathStarts.add(coordinates.size() / 2);
+                        closedFlags.add(0);
+                        startX = x;
+                        startY = y;
+                    }
+                    inSubPath = true;
+                }
+                coordinates.add(x);
+                coordinates.add(y);
+                // Coordinate pairs after a move are implicit line tos
+                if ('M' == command) { command = 'L'; } else if ('m' == command) { command = 'l'; }
+            }
+        }
+        pathStarts.add(subPathStarts.size());
+        subPathStarts.add(coordinates.size() / 2);
+        return new CountryGeometry(NAME, pathStarts.toArray(), subPathStarts.toArray(), toBooleans(closedFlags), coordinates.toArray());
+    }
+
+    /**
+     * Compiles the SVG path contents of the given properties (country name = paths
+     * separated by ';') into the binary format
+     * @param PROPERTIES
+     * @param OUTPUT
+     * @throws IOException
+     */
+    public static void compile(final Properties PROPERTIES, final OutputStream OUTPUT) throws IOException {
+        List<String> nameList = new ArrayList<>(PROPERTIES.stringPropertyNames());
+        Collections.sort(nameList);
+
+        ByteArrayOutputStream countryData = new ByteArrayOutputStream();
+        List<int[]>           entries     = new ArrayList<>(nameList.size());
+        for (String name : nameList) {
+            int offset = countryData.size();
+            encode(parse(name, PROPERTIES.getProperty(name)), countryData);
+            entries.add(new int[] { offset, countryData.size() - offset });
+        }
+
+        DataOutputStream out = new DataOutputStream(OUTPUT);
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeInt(CountryGeometry.SCALE);
+        out.writeInt(nameList.size());
+        for (int i = 0 ; i < nameList.size() ; i++) {
+            byte[] nameBytes = nameList.get(i).getBytes(StandardCharsets.UTF_8);
+            out.writeShort(nameBytes.length);
+            out.write(nameBytes);
+            out.writeInt(entries.get(i)[0]);
+            out.writeInt(entries.get(i)[1]);
+        }
+        countryData.writeTo(out);
+        out.flush();
+    }
+
+    /**
+     * Compiles properties files with SVG path contents into the binary format.
+     * Expects pairs of arguments: input.properties output.bin
+     * @param ARGS
+     * @throws IOException
+     */
+    public static void main(final String[] ARGS) throws IOException {
+        if (ARGS.length == 0 || ARGS.length % 2 != 0) { throw new IllegalArgumentException("Usage: CountryGeometryStore input.properties output.bin [input.properties output.bin ...]"); }
+        for (int i = 0 ; i < ARGS.length ; i += 2) {
+            Properties properties = new Properties();
+            try (InputStream input = new FileInputStream(ARGS[i])) { properties.load(input); }
+            File outputFile = new File(ARGS[i + 1]);
+            if (null != outputFile.getParentFile()) { outputFile.getParentFile().mkdirs(); }
+            try (OutputStream output = new FileOutputStream(outputFile)) { compile(properties, output); }
+        }
+    }
+
+    private static void encode(final CountryGeometry GEOMETRY, final ByteArrayOutputStream OUTPUT) {
+        final int[]     PATH_STARTS     = GEOMETRY.getPathStarts();
+        final int[]     SUB_PATH_STARTS = GEOMETRY.getSubPathStarts();
+        final boolean[] CLOSED          = GEOMETRY.getClosed();
+        final int[]     COORDINATES     = GEOMETRY.getCoordinates();
+        int x = 0;
+        int y = 0;
+        writeVarInt(OUTPUT, GEOMETRY.getNoOfPaths());
+        for (int path = 0 ; path < GEOMETRY.getNoOfPaths() ; path++) {
+            writeVarInt(OUTPUT, PATH_STARTS[path + 1] - PATH_STARTS[path]);
+            for (int subPath = PATH_STARTS[path] ; subPath < PATH_STARTS[path + 1] ; subPath++) {
+                int noOfPoints = SUB_PATH_STARTS[subPath + 1] - SUB_PATH_STARTS[subPath];
+                writeVarInt(OUTPUT, noOfPoints << 1 | (CLOSED[subPath] ? 1 : 0));
+                for (int point = SUB_PATH_STARTS[subPath] ; point < SUB_PATH_STARTS[subPath + 1] ; point++) {
+                    writeVarInt(OUTPUT, zigZagEncode(COORDINATES[point * 2] - x));
+                    writeVarInt(OUTPUT, zigZagEncode(COORDINATES[point * 2 + 1] - y));
+                    x = COORDINATES[point * 2];
+                    y = COORDINATES[point * 2 + 1];
+                }
+            }
+        }
+    }
+
+    private static void writeVarInt(final ByteArrayOutputStream OUTPUT, final int VALUE) {
+        int value = VALUE;
+        while ((value & ~0x7F) != 0) {
+            OUTPUT.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        OUTPUT.write(value);
+    }
+
+    private static int readVarInt(final ByteBuffer BUFFER) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b      = BUFFER.get();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    private static int zigZagEncode(final int VALUE) { return (VALUE << 1) ^ (VALUE >> 31); }
+    private static int zigZagDecode(final int VALUE) { return (VALUE >>> 1) ^ -(VALUE & 1); }
+
+    private static boolean[] toBooleans(final IntArray FLAGS) {
+        boolean[] booleans = new boolean[FLAGS.size()];
+        for (int i = 0 ; i < booleans.length ; i++) { booleans[i] = FLAGS.get(i) != 0; }
+        return booleans;
+    }
+
+    private static byte[] readAll(final InputStream INPUT) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(1 << 16);
+        byte[]                buffer = new byte[1 << 14];
+        int                   read;
+        while ((read = INPUT.read(buffer)) != -1) { output.write(buffer, 0, read); }
+        return output.toByteArray();
+    }
+
+
+    // ******************** Inner Classes *************************************
+    private static class IntArray {
+        private int[] values = new int[64];
+        private int   size;
+
+        void add(final int VALUE) {
+            if (size == values.length) { values = Arrays.copyOf(values, size * 2); }
+            values[size++] = VALUE;
+        }
+        int get(final int INDEX) { return values[INDEX]; }
+        void set(final int INDEX, final int VALUE) { values[INDEX] = VALUE; }
+        int size() { return size; }
+        int[] toArray() { return Arrays.copyOf(values, size); }
+    }
+
+    private static class PathParser {
+        private final String content;
+        private       int    position;
+
+        PathParser(final String CONTENT) {
+            content = CONTENT;
+            skipSeparators();
+        }
+
+        boolean hasNext() { return position < content.length(); }
+
+        boolean isCommand() {
+            char c = content.charAt(position);
+            return Character.isLetter(c) && c != 'e' && c != 'E';
+        }
+
+        char nextCommand() {
+            char command = content.charAt(position++);
+            skipSeparators();
+            return command;
+        }
+
+        // Returns the next number in 1/SCALE units
+        int nextValue() {
+            int start = position;
+            if (position < content.length() && (content.charAt(position) == '-' || content.charAt(position) == '+')) { position++; }
+            boolean dot = false;
+            while (position < content.length()) {
+                char c = content.charAt(position);
+                if (Character.isDigit(c)) {
+                    position++;
+                } else if (c == '.' && !dot) {
+                    dot = true;
+                    position++;
+                } else if ((c == 'e' || c == 'E') && position > start) {
+                    position++;
+                    if (position < content.length() && (content.charAt(position) == '-' || content.charAt(position) == '+')) { position++; }
+                } else {
+                    break;
+                }
+            }
+            if (start == position) { throw new IllegalArgumentException("Number expected at " + position + " in " + content); }
+            double value = Double.parseDouble(content.substring(start, position));
+            skipSeparators();
+            return (int) Math.round(value * CountryGeometry.SCALE);
+        }
+
+        private void skipSeparators() {
+            while (position < content.length() && (content.charAt(position) == ',' || Character.isWhitespace(content.charAt(position)))) { position++; }
+        }
+    }
+}
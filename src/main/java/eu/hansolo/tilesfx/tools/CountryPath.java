@@ -17,18 +17,35 @@
 package eu.hansolo.tilesfx.tools;
 
 import javafx.scene.control.Tooltip;
-import javafx.scene.shape.SVGPath;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.ArcTo;
+import javafx.scene.shape.ClosePath;
+import javafx.scene.shape.CubicCurveTo;
+import javafx.scene.shape.LineTo;
+import javafx.scene.shape.MoveTo;
+import javafx.scene.shape.Path;
+import javafx.scene.shape.PathElement;
+import javafx.scene.shape.QuadCurveTo;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 
 
 /**
  * Created by hansolo on 21.12.16.
+ * Since the binary country geometry a CountryPath is a Path and no longer
+ * a SVGPath, so it can share the path elements of a country between tiles.
+ * Code that casts a CountryPath to SVGPath has to use getContent() and
+ * setContent() instead, both still accept the full SVG path syntax.
  */
-public class CountryPath extends SVGPath {
-    private String  name;
-    private Locale  locale;
-    private Tooltip tooltip;
+public class CountryPath extends Path {
+    private String          name;
+    private Locale          locale;
+    private Tooltip         tooltip;
+    private CountryGeometry geometry;
+    private int             pathIndex;
+    private String          content;
 
 
     // ******************** Constructors **************************************
@@ -40,12 +57,36 @@ public class CountryPath extends SVGPath {
     }
     public CountryPath(final String NAME, final String CONTENT) {
         super();
+        init(NAME);
+        if (null == CONTENT) return;
+        setContent(CONTENT);
+    }
+    /**
+     * Creates a path for the outline with the given index of the given
+     * country geometry. The path uses the shared path elements of the
+     * geometry, so no SVG content has to be parsed and all paths of the
+     * same outline use the same elements. Don't modify the elements of
+     * such a path, use setContent() or getElements().setAll() instead.
+     * @param GEOMETRY
+     * @param PATH_INDEX
+     */
+    public CountryPath(final CountryGeometry GEOMETRY, final int PATH_INDEX) {
+        super(GEOMETRY.getSharedPathElements(PATH_INDEX));
+        init(GEOMETRY.getName());
+        geometry  = GEOMETRY;
+        pathIndex = PATH_INDEX;
+    }
+
+
+    // ******************** Initialization ************************************
+    private void init(final String NAME) {
         name    = NAME;
         locale  = new Locale("", NAME);
         tooltip = new Tooltip(locale.getDisplayCountry());
         Tooltip.install(CountryPath.this, tooltip);
-        if (null == CONTENT) return;
-        setContent(CONTENT);
+        // Same defaults as a SVGPath
+        setFill(Color.BLACK);
+        setStroke(null);
     }
 
 
@@ -62,6 +103,144 @@ public class CountryPath extends SVGPath {
         Tooltip.install(CountryPath.this, tooltip);
     }
 
+    /**
+     * Returns the outline as SVG path content. If the path was created from
+     * a country geometry the content will be created on each call.
+     * @return the outline as SVG path content
+     */
+    public String getContent() {
+        if (null != content) { return content; }
+        return null == geometry ? "" : geometry.getContent(pathIndex);
+    }
+    /**
+     * Replaces the path elements with the outline defined by the given SVG
+     * path content. Contents that only use M, L, H, V and Z (like the map data)
+     * are parsed by the fast country geometry parser, all other contents
+     * (e.g. with curves or arcs) fall back to a full SVG path parser.
+     * @param CONTENT
+     */
+    public void setContent(final String CONTENT) {
+        final String SVG_CONTENT = null == CONTENT ? "" : CONTENT;
+        List<PathElement> elements;
+        try {
+            CountryGeometry parsedGeometry = CountryGeometryStore.parse(name, SVG_CONTENT);
+            elements = new ArrayList<>();
+            for (int i = 0 ; i < parsedGeometry.getNoOfPaths() ; i++) { elements.addAll(parsedGeometry.getPathElements(i)); }
+        } catch (IllegalArgumentException exception) {
+            elements = parseSvgContent(SVG_CONTENT);
+        }
+        getElements().setAll(elements);
+        content   = CONTENT;
+        geometry  = null;
+        pathIndex = 0;
+    }
+
+    /**
+     * Parses the given SVG path content with all commands of the SVG path
+     * syntax (M, L, H, V, C, S, Q, T, A and Z in absolute and relative form)
+     * @param CONTENT
+     * @return the path elements of the given SVG path content
+     */
+    private static List<PathElement> parseSvgContent(final String CONTENT) {
+        final SvgParser   PARSER   = new SvgParser(CONTENT);
+        List<PathElement> elements = new ArrayList<>();
+        char    command  = 0;
+        double  x        = 0;
+        double  y        = 0;
+        double  startX   = 0;
+        double  startY   = 0;
+        double  controlX = 0;  // last control point for S and T
+        double  controlY = 0;
+        char    lastCommand = 0;
+        while (PARSER.hasNext()) {
+            if (PARSER.isCommand()) {
+                command = PARSER.nextCommand();
+                if ('z' == command || 'Z' == command) {
+                    elements.add(new ClosePath());
+                    x           = startX;
+                    y           = startY;
+                    lastCommand = command;
+                }
+                continue;
+            }
+            final boolean RELATIVE = Character.isLowerCase(command);
+            final double  OFFSET_X = RELATIVE ? x : 0;
+            final double  OFFSET_Y = RELATIVE ? y : 0;
+            switch (Character.toUpperCase(command)) {
+                case 'M':
+                    x      = OFFSET_X + PARSER.nextValue();
+                    y      = OFFSET_Y + PARSER.nextValue();
+                    startX = x;
+                    startY = y;
+                    elements.add(new MoveTo(x, y));
+                    // Coordinate pairs after a move are implicit line tos
+                    command = RELATIVE ? 'l' : 'L';
+                    break;
+                case 'L':
+                    x = OFFSET_X + PARSER.nextValue();
+                    y = OFFSET_Y + PARSER.nextValue();
+                    elements.add(new LineTo(x, y));
+                    break;
+                case 'H':
+                    x = OFFSET_X + PARSER.nextValue();
+                    elements.add(new LineTo(x, y));
+                    break;
+                case 'V':
+                    y = OFFSET_Y + PARSER.nextValue();
+                    elements.add(new LineTo(x, y));
+                    break;
+                case 'C':
+                case 'S': {
+                    double x1;
+                    double y1;
+                    if ('C' == Character.toUpperCase(command)) {
+                        x1 = OFFSET_X + PARSER.nextValue();
+                        y1 = OFFSET_Y + PARSER.nextValue();
+                    } else {
+                        // First control point is the reflection of the last one
+                        boolean afterCubic = 'C' == Character.toUpperCase(lastCommand) || 'S' == Character.toUpperCase(lastCommand);
+                        x1 = afterCubic ? 2 * x - controlX : x;
+                        y1 = afterCubic ? 2 * y - controlY : y;
+                    }
+                    controlX = OFFSET_X + PARSER.nextValue();
+                    controlY = OFFSET_Y + PARSER.nextValue();
+                    x        = OFFSET_X + PARSER.nextValue();
+                    y        = OFFSET_Y + PARSER.nextValue();
+                    elements.add(new CubicCurveTo(x1, y1, controlX, controlY, x, y));
+                    break;
+                }
+                case 'Q':
+                case 'T':
+                    if ('Q' == Character.toUpperCase(command)) {
+                        controlX = OFFSET_X + PARSER.nextValue();
+                        controlY = OFFSET_Y + PARSER.nextValue();
+                    } else {
+                        boolean afterQuad = 'Q' == Character.toUpperCase(lastCommand) || 'T' == Character.toUpperCase(lastCommand);
+                        controlX = afterQuad ? 2 * x - controlX : x;
+                        controlY = afterQuad ? 2 * y - controlY : y;
+                    }
+                    x = OFFSET_X + PARSER.nextValue();
+                    y = OFFSET_Y + PARSER.nextValue();
+                    elements.add(new QuadCurveTo(controlX, controlY, x, y));
+                    break;
+                case 'A': {
+                    double  radiusX       = PARSER.nextValue();
+                    double  radiusY       = PARSER.nextValue();
+                    double  xAxisRotation = PARSER.nextValue();
+                    boolean largeArc      = PARSER.nextFlag();
+                    boolean sweep         = PARSER.nextFlag();
+                    x = OFFSET_X + PARSER.nextValue();
+                    y = OFFSET_Y + PARSER.nextValue();
+                    elements.add(new ArcTo(radiusX, radiusY, xAxisRotation, x, y, largeArc, sweep));
+                    break;
+                }
+                default : throw new IllegalArgumentException("Unsupported path command '" + command + "'");
+            }
+            lastCommand = command;
+        }
+        return elements;
+    }
+
     @Override public String toString() {
         return new StringBuilder("{\n").append("  name   :\"").append(name).append("\"\n")
                                        .append("  locale :\"").append(locale).append("\"\n")
@@ -70,4 +249,66 @@ public class CountryPath extends SVGPath {
                                        .append("}\n")
                                        .toString();
     }
+
+
+    // ******************** Inner Classes *************************************
+    private static class SvgParser {
+        private final String content;
+        private       int    position;
+
+        SvgParser(final String CONTENT) {
+            content = CONTENT;
+            skipSeparators();
+        }
+
+        boolean hasNext() { return position < content.length(); }
+
+        boolean isCommand() {
+            char c = content.charAt(position);
+            return Character.isLetter(c) && c != 'e' && c != 'E';
+        }
+
+        char nextCommand() {
+            char command = content.charAt(position++);
+            skipSeparators();
+            return command;
+        }
+
+        double nextValue() {
+            int start = position;
+            if (position < content.length() && (content.charAt(position) == '-' || content.charAt(position) == '+')) { position++; }
+            boolean hasDot = false;
+            while (position < content.length()) {
+                char c = content.charAt(position);
+                if (Character.isDigit(c)) {
+                    position++;
+                } else if (c == '.' && !hasDot) {
+                    hasDot = true;
+                    position++;
+                } else if ((c == 'e' || c == 'E') && position > start) {
+                    position++;
+                    if (position < content.length() && (content.charAt(position) == '-' || content.charAt(position) == '+')) { position++; }
+                } else {
+                    break;
+                }
+            }
+            if (start == position) { throw new IllegalArgumentException("Number expected at " + position + " in " + content); }
+            double value = Double.parseDouble(content.substring(start, position));
+            skipSeparators();
+            return value;
+        }
+
+        // Arc flags are single digits and may be written without separators (e.g. "a1 1 0 01 1 1")
+        boolean nextFlag() {
+            if (!hasNext()) { throw new IllegalArgumentException("Flag expected at " + position + " in " + content); }
+            char c = content.charAt(position++);
+            if (c != '0' && c != '1') { throw new IllegalArgumentException("Flag expected at " + (position - 1) + " in " + content); }
+            skipSeparators();
+            return c == '1';
+        }
+
+        private void skipSeparators() {
+            while (position < content.length() && (content.charAt(position) == ',' || content.charAt(position) == ';' || Character.isWhitespace(content.charAt(position)))) { position++; }
+        }
+    }
 }
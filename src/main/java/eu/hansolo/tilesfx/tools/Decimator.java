@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.tilesfx.tools;
+
+public class Decimator {
+
+    // ******************** Constructors **************************************
+    private Decimator() {}
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Reduces the given points (sorted by x) to THRESHOLD points with the
+     * Largest-Triangle-Three-Buckets algorithm which keeps the visual shape
+     * of the line. The first and the last point will always be kept.
+     * The output arrays must have a length of at least min(NO_OF_POINTS, THRESHOLD).
+     * @param X
+     * @param Y
+     * @param NO_OF_POINTS
+     * @param THRESHOLD
+     * @param OUT_X
+     * @param OUT_Y
+     * @return the number of points written to the output arrays
+     */
+    public static int lttb(final double[] X, final double[] Y, final int NO_OF_POINTS, final int THRESHOLD, final double[] OUT_X, final double[] OUT_Y) {
+        if (THRESHOLD >= NO_OF_POINTS || THRESHOLD < 3) { return copy(X, Y, NO_OF_POINTS, OUT_X, OUT_Y); }
+
+        double bucketSize = (NO_OF_POINTS - 2) / (double) (THRESHOLD - 2);
+        int    selected   = 0;
+        int    count      = 0;
+        OUT_X[count]   = X[0];
+        OUT_Y[count++] = Y[0];
+        for (int bucket = 0 ; bucket < THRESHOLD - 2 ; bucket++) {
+            // Average of the next bucket (the last point for the last bucket)
+            int    nextStart = (int) ((bucket + 1) * bucketSize) + 1;
+            int    nextEnd   = Math.min((int) ((bucket + 2) * bucketSize) + 1, NO_OF_POINTS);
+            double avgX      = 0;
+            double avgY      = 0;
+            for (int i = nextStart ; i < nextEnd ; i++) {
+                avgX += X[i];
+                avgY += Y[i];
+            }
+            int noOfNextPoints = nextEnd - nextStart;
+            avgX /= noOfNextPoints;
+            avgY /= noOfNextPoints;
+
+            // Point of the current bucket that forms the largest triangle with the last selected point and the average
+            int    start   = (int) (bucket * bucketSize) + 1;
+            int    end     = nextStart;
+            double ax      = X[selected];
+            double ay      = Y[selected];
+            double maxArea = -1;
+            int    maxI    = start;
+            for (int i = start ; i < end ; i++) {
+                double area = Math.abs((ax - avgX) * (Y[i] - ay) - (ax - X[i]) * (avgY - ay));
+                if (area > maxArea) {
+                    maxArea = area;
+                    maxI    = i;
+                }
+            }
+            OUT_X[count]   = X[maxI];
+            OUT_Y[count++] = Y[maxI];
+            selected = maxI;
+        }
+        OUT_X[count]   = X[NO_OF_POINTS - 1];
+        OUT_Y[count++] = Y[NO_OF_POINTS - 1];
+        return count;
+    }
+
+    /**
+     * Reduces the given points (sorted by x) to the min and max point of each
+     * of NO_OF_BUCKETS buckets in the order of their appearance which keeps all
+     * peaks of the line. The first and the last point will always be kept.
+     * The output arrays must have a length of at least min(NO_OF_POINTS, 2 * NO_OF_BUCKETS + 2).
+     * @param X
+     * @param Y
+     * @param NO_OF_POINTS
+     * @param NO_OF_BUCKETS
+     * @param OUT_X
+     * @param OUT_Y
+     * @return the number of points written to the output arrays
+     */
+    public static int minMax(final double[] X, final double[] Y, final int NO_OF_POINTS, final int NO_OF_BUCKETS, final double[] OUT_X, final double[] OUT_Y) {
+        if (2 * NO_OF_BUCKETS + 2 >= NO_OF_POINTS || NO_OF_BUCKETS < 1) { return copy(X, Y, NO_OF_POINTS, OUT_X, OUT_Y); }
+
+        double bucketSize = (NO_OF_POINTS - 2) / (double) NO_OF_BUCKETS;
+        int    count      = 0;
+        OUT_X[count]   = X[0];
+        OUT_Y[count++] = Y[0];
+        for (int bucket = 0 ; bucket < NO_OF_BUCKETS ; bucket++) {
+            int start = (int) (bucket * bucketSize) + 1;
+            int end   = Math.min((int) ((bucket + 1) * bucketSize) + 1, NO_OF_POINTS - 1);
+            if (start >= end) { continue; }
+            int minI = start;
+            int maxI = start;
+            for (int i = start + 1 ; i < end ; i++) {
+                if (Y[i] < Y[minI]) { minI = i; }
+                if (Y[i] > Y[maxI]) { maxI = i; }
+            }
+            int first  = Math.min(minI, maxI);
+            int second = Math.max(minI, maxI);
+            OUT_X[count]   = X[first];
+            OUT_Y[count++] = Y[first];
+            if (second != first) {
+                OUT_X[count]   = X[second];
+                OUT_Y[count++] = Y[second];
+            }
+        }
+        OUT_X[count]   = X[NO_OF_POINTS - 1];
+        OUT_Y[count++] = Y[NO_OF_POINTS - 1];
+        return count;
+    }
+
+    private static int copy(final double[] X, final double[] Y, final int NO_OF_POINTS, final double[] OUT_X, final double[] OUT_Y) {
+        if (X != OUT_X) { System.arraycopy(X, 0, OUT_X, 0, NO_OF_POINTS); }
+        if (Y != OUT_Y) { System.arraycopy(Y, 0, OUT_Y, 0, NO_OF_POINTS); }
+        return NO_OF_POINTS;
+    }
+}
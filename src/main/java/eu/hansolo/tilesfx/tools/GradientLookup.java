@@ -21,9 +21,8 @@ import javafx.scene.paint.Stop;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
-import java.util.Map;
+import java.util.Map.Entry;
 import java.util.TreeMap;
 
 
@@ -31,7 +30,12 @@ import java.util.TreeMap;
  * Created by hansolo on 25.12.16.
  */
 public class GradientLookup {
-    private Map<Double, Stop> stops;
+    public  static final int                   DEFAULT_LUT_SIZE = 256;
+    public  static final int                   MAX_LUT_SIZE     = 65_536;
+    private        final TreeMap<Double, Stop> stops;
+    private              int                   lutSize;
+    private              Color[]               colorLut;  // cached colors for lutSize equidistant positions
+    private              int[]                 argbLut;   // same colors as packed ARGB
 
 
     // ******************** Constructors **************************************
@@ -42,7 +46,17 @@ public class GradientLookup {
         this(Arrays.asList(STOPS));
     }
     public GradientLookup(final List<Stop> STOPS) {
-        stops = new TreeMap<>();
+        this(STOPS, 0);
+    }
+    /**
+     * Creates a GradientLookup that precomputes LUT_SIZE colors from the given stops.
+     * A LUT_SIZE of 0 disables the lookup table and every color will be interpolated.
+     * @param STOPS
+     * @param LUT_SIZE
+     */
+    public GradientLookup(final List<Stop> STOPS, final int LUT_SIZE) {
+        stops   = new TreeMap<>();
+        lutSize = checkLutSize(LUT_SIZE);
         for (Stop stop : STOPS) { stops.put(stop.getOffset(), stop); }
         init();
     }
@@ -50,40 +64,50 @@ public class GradientLookup {
 
     // ******************** Initialization ************************************
     private void init() {
+        colorLut = null;
+        argbLut  = null;
         if (stops.isEmpty()) return;
 
-        double minFraction = Collections.min(stops.keySet());
-        double maxFraction = Collections.max(stops.keySet());
+        double minFraction = stops.firstKey();
+        double maxFraction = stops.lastKey();
 
         if (Double.compare(minFraction, 0) > 0) { stops.put(0.0, new Stop(0.0, stops.get(minFraction).getColor())); }
         if (Double.compare(maxFraction, 1) < 0) { stops.put(1.0, new Stop(1.0, stops.get(maxFraction).getColor())); }
+
+        if (lutSize > 0) {
+            colorLut = new Color[lutSize];
+            argbLut  = new int[lutSize];
+            for (int i = 0 ; i < lutSize ; i++) {
+                colorLut[i] = interpolateColor(lutSize == 1 ? 0 : (double) i / (lutSize - 1));
+                argbLut[i]  = toArgb(colorLut[i]);
+            }
+        }
     }
 
 
     // ******************** Methods *******************************************
+    /**
+     * Returns the color at the given position (0 - 1) of the gradient. If a lookup
+     * table is in use the returned color is a cached instance of the nearest entry.
+     * @param POSITION_OF_COLOR
+     * @return the color at the given position of the gradient
+     */
     public Color getColorAt(final double POSITION_OF_COLOR) {
         if (stops.isEmpty()) return Color.BLACK;
+        final double POSITION = Helper.clamp(0.0, 1.0, POSITION_OF_COLOR);
+        return null == colorLut ? interpolateColor(POSITION) : colorLut[lutIndex(POSITION)];
+    }
 
+    /**
+     * Returns the color at the given position (0 - 1) of the gradient as packed
+     * ARGB int (0xAARRGGBB) e.g. to be used with a PixelWriter.
+     * @param POSITION_OF_COLOR
+     * @return the color at the given position of the gradient as packed ARGB int
+     */
+    public int getArgbAt(final double POSITION_OF_COLOR) {
+        if (stops.isEmpty()) return 0xFF000000;
         final double POSITION = Helper.clamp(0.0, 1.0, POSITION_OF_COLOR);
-        final Color COLOR;
-        if (stops.size() == 1) {
-            final Map<Double, Color> ONE_ENTRY = (Map<Double, Color>) stops.entrySet().iterator().next();
-            COLOR = stops.get(ONE_ENTRY.keySet().iterator().next()).getColor();
-        } else {
-            Stop lowerBound = stops.get(0.0);
-            Stop upperBound = stops.get(1.0);
-            for (Double fraction : stops.keySet()) {
-                if (Double.compare(fraction,POSITION) < 0) {
-                    lowerBound = stops.get(fraction);
-                }
-                if (Double.compare(fraction, POSITION) > 0) {
-                    upperBound = stops.get(fraction);
-                    break;
-                }
-            }
-            COLOR = interpolateColor(lowerBound, upperBound, POSITION);
-        }
-        return COLOR;
+        return null == argbLut ? toArgb(interpolateColor(POSITION)) : argbLut[lutIndex(POSITION)];
     }
 
     public List<Stop> getStops() { return new ArrayList<>(stops.values()); }
@@ -94,6 +118,31 @@ public class GradientLookup {
         init();
     }
 
+    /**
+     * Returns the number of precomputed colors or 0 if no lookup table is used
+     * @return the number of precomputed colors
+     */
+    public int getLutSize() { return lutSize; }
+    /**
+     * Defines the number of colors that will be precomputed from the stops.
+     * A value of 0 disables the lookup table and every color will be interpolated.
+     * @param LUT_SIZE
+     */
+    public void setLutSize(final int LUT_SIZE) {
+        lutSize = checkLutSize(LUT_SIZE);
+        init();
+    }
+
+    private int lutIndex(final double POSITION) { return (int) (POSITION * (lutSize - 1) + 0.5); }
+
+    private Color interpolateColor(final double POSITION) {
+        final Entry<Double, Stop> LOWER_BOUND = stops.floorEntry(POSITION);
+        final Entry<Double, Stop> UPPER_BOUND = stops.higherEntry(POSITION);
+        if (null == LOWER_BOUND) { return stops.firstEntry().getValue().getColor(); }
+        if (null == UPPER_BOUND) { return LOWER_BOUND.getValue().getColor(); }
+        return interpolateColor(LOWER_BOUND.getValue(), UPPER_BOUND.getValue(), POSITION);
+    }
+
     private Color interpolateColor(final Stop LOWER_BOUND, final Stop UPPER_BOUND, final double POSITION) {
         final double POS  = (POSITION - LOWER_BOUND.getOffset()) / (UPPER_BOUND.getOffset() - LOWER_BOUND.getOffset());
 
@@ -109,4 +158,16 @@ public class GradientLookup {
 
         return Color.color(red, green, blue, opacity);
     }
-}
\ No newline at end of file
+
+    private static int toArgb(final Color COLOR) {
+        return ((int) Math.round(COLOR.getOpacity() * 255) << 24) |
+               ((int) Math.round(COLOR.getRed()     * 255) << 16) |
+               ((int) Math.round(COLOR.getGreen()   * 255) << 8)  |
+                (int) Math.round(COLOR.getBlue()    * 255);
+    }
+
+    private static int checkLutSize(final int LUT_SIZE) {
+        if (LUT_SIZE < 0 || LUT_SIZE > MAX_LUT_SIZE) { throw new IllegalArgumentException("LUT size must be between 0 and " + MAX_LUT_SIZE); }
+        return LUT_SIZE;
+    }
+}
@@ -17,6 +17,7 @@
 package eu.hansolo.tilesfx.tools;
 
 import eu.hansolo.tilesfx.Section;
+import eu.hansolo.tilesfx.fonts.Fonts;
 import javafx.collections.ObservableList;
 import javafx.scene.Node;
 import javafx.scene.canvas.GraphicsContext;
@@ -32,10 +33,7 @@ import javafx.scene.shape.PathElement;
 import javafx.scene.shape.Polygon;
 import javafx.scene.text.Font;
 import javafx.scene.text.Text;
-import javafx.util.Pair;
 
-import java.io.IOException;
-import java.io.InputStream;
 import java.time.format.DateTimeFormatter;
 import java.time.format.FormatStyle;
 import java.util.ArrayList;
@@ -44,11 +42,11 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Properties;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ThreadFactory;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import static eu.hansolo.tilesfx.tools.Country.*;
@@ -61,9 +59,11 @@ public class Helper {
     private static final double                         EPSILON                  = 1E-6;
     private static final String                         HIRES_COUNTRY_PROPERTIES = "eu/hansolo/tilesfx/highres.properties";
     private static final String                         LORES_COUNTRY_PROPERTIES = "eu/hansolo/tilesfx/lowres.properties";
-    private static       Properties                     hiresCountryProperties;
+    private static final String                         HIRES_COUNTRY_GEOMETRY   = "eu/hansolo/tilesfx/highres.bin";
+    private static final String                         LORES_COUNTRY_GEOMETRY   = "eu/hansolo/tilesfx/lowres.bin";
+    private static       CountryGeometryStore           hiresCountryGeometry;
     private static       Map<String, List<CountryPath>> hiresCountryPaths;
-    private static       Properties                     loresCountryProperties;
+    private static       CountryGeometryStore           loresCountryGeometry;
     private static       Map<String, List<CountryPath>> loresCountryPaths;
 
     public static final double   MAP_WIDTH         = 1009.1149817705154 - 1.154000163078308;
@@ -250,19 +250,32 @@ public class Helper {
         return DEFAULT_COLOR;
     }
 
-    public static final void adjustTextSize(final Text TEXT, final double MAX_WIDTH, double fontSize) {
-        final String FONT_NAME = TEXT.getFont().getName();
-        while (TEXT.getLayoutBounds().getWidth() > MAX_WIDTH && fontSize > 0) {
-            fontSize -= 0.005;
-            TEXT.setFont(new Font(FONT_NAME, fontSize));
-        }
-    }
-    public static final void adjustTextSize(final Label TEXT, final double MAX_WIDTH, double fontSize) {
-        final String FONT_NAME = TEXT.getFont().getName();
-        while (TEXT.getLayoutBounds().getWidth() > MAX_WIDTH && fontSize > 0) {
-            fontSize -= 0.005;
-            TEXT.setFont(new Font(FONT_NAME, fontSize));
+    public static final void adjustTextSize(final Text TEXT, final double MAX_WIDTH, final double FONT_SIZE) {
+        adjustTextSize(TEXT, TEXT.getFont().getName(), TEXT::setFont, MAX_WIDTH, FONT_SIZE);
+    }
+    public static final void adjustTextSize(final Label TEXT, final double MAX_WIDTH, final double FONT_SIZE) {
+        adjustTextSize(TEXT, TEXT.getFont().getName(), TEXT::setFont, MAX_WIDTH, FONT_SIZE);
+    }
+    private static void adjustTextSize(final Node NODE, final String FONT_NAME, final Consumer<Font> FONT_SETTER, final double MAX_WIDTH, final double FONT_SIZE) {
+        final double WIDTH = NODE.getLayoutBounds().getWidth();
+        if (WIDTH <= MAX_WIDTH || FONT_SIZE <= 0) { return; }
+        // The text width grows almost linear with the font size, so the proportional
+        // size is a good first guess that will be corrected by a binary search over
+        // the font sizes that are cached in Fonts
+        int lower = 0;                                                       // largest step known to fit
+        int upper = (int) Math.ceil(FONT_SIZE / Fonts.SIZE_STEP);            // smallest step known to not fit
+        int     step       = clamp(lower, upper - 1, (int) Math.floor(FONT_SIZE * (MAX_WIDTH / WIDTH) / Fonts.SIZE_STEP));
+        boolean firstProbe = true;
+        while (upper - lower > 1) {
+            FONT_SETTER.accept(Fonts.getFont(FONT_NAME, step * Fonts.SIZE_STEP));
+            boolean fits = NODE.getLayoutBounds().getWidth() <= MAX_WIDTH;
+            if (fits) { lower = step; } else { upper = step; }
+            // Check the neighbour of the first guess before bisecting
+            step = firstProbe ? (fits ? step + 1 : step - 1) : (lower + upper) / 2;
+            if (step <= lower || step >= upper) { step = (lower + upper) / 2; }
+            firstProbe = false;
         }
+        FONT_SETTER.accept(Fonts.getFont(FONT_NAME, lower * Fonts.SIZE_STEP));
     }
 
     public static final DateTimeFormatter getDateFormat(final Locale LOCALE) {
@@ -449,63 +462,215 @@ public class Helper {
     public static final Point[] subdividePoints(final Point[] POINTS, final int SUB_DEVISIONS) {
         assert POINTS != null;
         assert POINTS.length >= 3;
-        int    noOfPoints = POINTS.length;
-
-        Point[] subdividedPoints = new Point[((noOfPoints - 1) * SUB_DEVISIONS) + 1];
+        int      noOfPoints = POINTS.length;
+        double[] x          = new double[noOfPoints];
+        double[] y          = new double[noOfPoints];
+        for (int i = 0 ; i < noOfPoints ; i++) {
+            x[i] = POINTS[i].getX();
+            y[i] = POINTS[i].getY();
+        }
+        int      noOfSubdividedPoints = getNoOfSubdividedPoints(noOfPoints, SUB_DEVISIONS);
+        double[] subdividedX          = new double[noOfSubdividedPoints];
+        double[] subdividedY          = new double[noOfSubdividedPoints];
+        subdividePoints(x, y, noOfPoints, SUB_DEVISIONS, subdividedX, subdividedY);
 
+        Point[] subdividedPoints = new Point[noOfSubdividedPoints];
+        for (int i = 0 ; i < noOfSubdividedPoints ; i++) { subdividedPoints[i] = new Point(subdividedX[i], subdividedY[i]); }
+        return subdividedPoints;
+    }
+    /**
+     * Subdivides the given points with Catmull-Rom splines without creating objects.
+     * The output arrays must have a length of at least getNoOfSubdividedPoints(NO_OF_POINTS, SUB_DEVISIONS)
+     * and can be reused for subsequent calls.
+     * @param X
+     * @param Y
+     * @param NO_OF_POINTS
+     * @param SUB_DEVISIONS
+     * @param OUT_X
+     * @param OUT_Y
+     * @return the number of points written to the output arrays
+     */
+    public static final int subdividePoints(final double[] X, final double[] Y, final int NO_OF_POINTS, final int SUB_DEVISIONS, final double[] OUT_X, final double[] OUT_Y) {
+        if (NO_OF_POINTS < 2 || SUB_DEVISIONS < 1) {
+            System.arraycopy(X, 0, OUT_X, 0, NO_OF_POINTS);
+            System.arraycopy(Y, 0, OUT_Y, 0, NO_OF_POINTS);
+            return NO_OF_POINTS;
+        }
         double increments = 1.0 / (double) SUB_DEVISIONS;
-
-        for (int i = 0 ; i < noOfPoints - 1 ; i++) {
-            Point p0 = i == 0 ? POINTS[i] : POINTS[i - 1];
-            Point p1 = POINTS[i];
-            Point p2 = POINTS[i + 1];
-            Point p3 = (i+2 == noOfPoints) ? POINTS[i + 1] : POINTS[i + 2];
-
-            CatmullRom crs = new CatmullRom(p0, p1, p2, p3);
-
-            for (int j = 0; j <= SUB_DEVISIONS; j++) {
-                subdividedPoints[(i * SUB_DEVISIONS) + j] = crs.q(j * increments);
+        for (int i = 0 ; i < NO_OF_POINTS - 1 ; i++) {
+            int p0       = i == 0 ? i : i - 1;
+            int p3       = (i + 2 == NO_OF_POINTS) ? i + 1 : i + 2;
+            // The last point of a segment is the first point of the next segment
+            int noOfSubs = i + 2 == NO_OF_POINTS ? SUB_DEVISIONS : SUB_DEVISIONS - 1;
+            for (int j = 0 ; j <= noOfSubs ; j++) {
+                double t = j * increments;
+                OUT_X[(i * SUB_DEVISIONS) + j] = catmullRom(X[p0], X[i], X[i + 1], X[p3], t);
+                OUT_Y[(i * SUB_DEVISIONS) + j] = catmullRom(Y[p0], Y[i], Y[i + 1], Y[p3], t);
             }
         }
-
-        return subdividedPoints;
+        return getNoOfSubdividedPoints(NO_OF_POINTS, SUB_DEVISIONS);
+    }
+    public static final int getNoOfSubdividedPoints(final int NO_OF_POINTS, final int SUB_DEVISIONS) {
+        return NO_OF_POINTS < 2 || SUB_DEVISIONS < 1 ? NO_OF_POINTS : (NO_OF_POINTS - 1) * SUB_DEVISIONS + 1;
+    }
+    private static final double catmullRom(final double P0, final double P1, final double P2, final double P3, final double T) {
+        return 0.5 * ((2 * P1) + (P2 - P0) * T + (2 * P0 - 5 * P1 + 4 * P2 - P3) * T * T + (3 * P1 - P0 - 3 * P2 + P3) * T * T * T);
     }
 
-    public static final Map<String, List<CountryPath>> getHiresCountryPaths() {
-        if (null == hiresCountryProperties) { hiresCountryProperties = readProperties(HIRES_COUNTRY_PROPERTIES); }
-        if (null == hiresCountryPaths) {
-            hiresCountryPaths = new ConcurrentHashMap<>();
-            hiresCountryProperties.forEach((key, value) -> {
-                String            name     = key.toString();
-                List<CountryPath> pathList = new ArrayList<>();
-                for (String path : value.toString().split(";")) { pathList.add(new CountryPath(name, path)); }
-                hiresCountryPaths.put(name, pathList);
-            });
+    /**
+     * Sets the given points as MoveTo and LineTo elements of the given list. The existing
+     * elements will be reused if the number of points did not change, so the list itself
+     * will not be modified.
+     * @param ELEMENTS
+     * @param X
+     * @param Y
+     * @param NO_OF_POINTS
+     */
+    public static final void setLineElements(final List<PathElement> ELEMENTS, final double[] X, final double[] Y, final int NO_OF_POINTS) {
+        if (NO_OF_POINTS == 0) {
+            if (!ELEMENTS.isEmpty()) { ELEMENTS.clear(); }
+            return;
+        }
+        if (ELEMENTS.size() != NO_OF_POINTS || !(ELEMENTS.get(0) instanceof MoveTo)) {
+            List<PathElement> elements = new ArrayList<>(NO_OF_POINTS);
+            elements.add(new MoveTo(X[0], Y[0]));
+            for (int i = 1 ; i < NO_OF_POINTS ; i++) { elements.add(new LineTo(X[i], Y[i])); }
+            setAll(ELEMENTS, elements);
+            return;
+        }
+        MoveTo moveTo = (MoveTo) ELEMENTS.get(0);
+        moveTo.setX(X[0]);
+        moveTo.setY(Y[0]);
+        for (int i = 1 ; i < NO_OF_POINTS ; i++) {
+            PathElement element = ELEMENTS.get(i);
+            if (element instanceof LineTo) {
+                ((LineTo) element).setX(X[i]);
+                ((LineTo) element).setY(Y[i]);
+            } else {
+                ELEMENTS.set(i, new LineTo(X[i], Y[i]));
+            }
+        }
+    }
+    /**
+     * Sets the given points as elements of a closed area below the points to the given list.
+     * The area starts at START_X, BASE_Y and ends at END_X, BASE_Y. The existing elements
+     * will be reused if the number of points did not change.
+     * @param ELEMENTS
+     * @param X
+     * @param Y
+     * @param NO_OF_POINTS
+     * @param START_X
+     * @param END_X
+     * @param BASE_Y
+     */
+    public static final void setFillElements(final List<PathElement> ELEMENTS, final double[] X, final double[] Y, final int NO_OF_POINTS, final double START_X, final double END_X, final double BASE_Y) {
+        int noOfElements = NO_OF_POINTS + 3;
+        if (ELEMENTS.size() != noOfElements || !(ELEMENTS.get(0) instanceof MoveTo) || !(ELEMENTS.get(noOfElements - 1) instanceof ClosePath)) {
+            List<PathElement> elements = new ArrayList<>(noOfElements);
+            elements.add(new MoveTo(START_X, BASE_Y));
+            for (int i = 0 ; i < NO_OF_POINTS ; i++) { elements.add(new LineTo(X[i], Y[i])); }
+            elements.add(new LineTo(END_X, BASE_Y));
+            elements.add(new ClosePath());
+            setAll(ELEMENTS, elements);
+            return;
+        }
+        MoveTo moveTo = (MoveTo) ELEMENTS.get(0);
+        moveTo.setX(START_X);
+        moveTo.setY(BASE_Y);
+        for (int i = 0 ; i <= NO_OF_POINTS ; i++) {
+            double      x       = i < NO_OF_POINTS ? X[i] : END_X;
+            double      y       = i < NO_OF_POINTS ? Y[i] : BASE_Y;
+            PathElement element = ELEMENTS.get(i + 1);
+            if (element instanceof LineTo) {
+                ((LineTo) element).setX(x);
+                ((LineTo) element).setY(y);
+            } else {
+                ELEMENTS.set(i + 1, new LineTo(x, y));
+            }
+        }
+    }
+    private static final void setAll(final List<PathElement> ELEMENTS, final List<PathElement> NEW_ELEMENTS) {
+        if (ELEMENTS instanceof ObservableList) {
+            ((ObservableList<PathElement>) ELEMENTS).setAll(NEW_ELEMENTS);
+        } else {
+            ELEMENTS.clear();
+            ELEMENTS.addAll(NEW_ELEMENTS);
         }
+    }
+
+    /**
+     * Returns the high resolution paths of all countries. The paths are shared,
+     * use createHiresCountryPaths() for paths that will be added to a scene graph.
+     * @return the high resolution paths of all countries
+     */
+    public static final synchronized Map<String, List<CountryPath>> getHiresCountryPaths() {
+        final CountryGeometryStore STORE = getHiresCountryGeometry();
+        STORE.getNames().forEach(name -> getHiresCountryPaths(name));
         return hiresCountryPaths;
     }
-    public static final Map<String, List<CountryPath>> getLoresCountryPaths() {
-        if (null == loresCountryProperties) { loresCountryProperties = readProperties(LORES_COUNTRY_PROPERTIES); }
+    /**
+     * Returns the high resolution paths of the country with the given name.
+     * Only the geometry of the requested country will be decoded.
+     * @param NAME
+     * @return the high resolution paths of the country with the given name
+     */
+    public static final synchronized List<CountryPath> getHiresCountryPaths(final String NAME) {
+        if (null == hiresCountryPaths) { hiresCountryPaths = new ConcurrentHashMap<>(); }
+        return hiresCountryPaths.computeIfAbsent(NAME, name -> createCountryPaths(getHiresCountryGeometry().getGeometry(name)));
+    }
+    /**
+     * Returns the low resolution paths of all countries. The paths are shared,
+     * use createLoresCountryPaths() for paths that will be added to a scene graph.
+     * @return the low resolution paths of all countries
+     */
+    public static final synchronized Map<String, List<CountryPath>> getLoresCountryPaths() {
         if (null == loresCountryPaths) {
             loresCountryPaths = new ConcurrentHashMap<>();
-            loresCountryProperties.forEach((key, value) -> {
-                String            name     = key.toString();
-                List<CountryPath> pathList = new ArrayList<>();
-                for (String path : value.toString().split(";")) { pathList.add(new CountryPath(name, path)); }
-                loresCountryPaths.put(name, pathList);
-            });
+            final CountryGeometryStore STORE = getLoresCountryGeometry();
+            STORE.getNames().forEach(name -> loresCountryPaths.put(name, createCountryPaths(STORE.getGeometry(name))));
         }
         return loresCountryPaths;
     }
-    private static final Properties readProperties(final String FILE_NAME) {
-        final ClassLoader LOADER     = Thread.currentThread().getContextClassLoader();
-        final Properties  PROPERTIES = new Properties();
-        try(InputStream resourceStream = LOADER.getResourceAsStream(FILE_NAME)) {
-            PROPERTIES.load(resourceStream);
-        } catch (IOException exception) {
-            exception.printStackTrace();
-        }
-        return PROPERTIES;
+
+    /**
+     * Returns the high resolution country outlines. The outlines are read from the
+     * precompiled binary file and will only be decoded for the requested countries.
+     * @return the high resolution country outlines
+     */
+    public static final synchronized CountryGeometryStore getHiresCountryGeometry() {
+        if (null == hiresCountryGeometry) { hiresCountryGeometry = CountryGeometryStore.load(HIRES_COUNTRY_GEOMETRY, HIRES_COUNTRY_PROPERTIES); }
+        return hiresCountryGeometry;
+    }
+    public static final synchronized CountryGeometryStore getLoresCountryGeometry() {
+        if (null == loresCountryGeometry) { loresCountryGeometry = CountryGeometryStore.load(LORES_COUNTRY_GEOMETRY, LORES_COUNTRY_PROPERTIES); }
+        return loresCountryGeometry;
+    }
+
+    /**
+     * Returns new high resolution paths of the country with the given name.
+     * The geometry is decoded once and the path elements are shared by all
+     * paths, only the Path nodes are created for each call.
+     * @param NAME
+     * @return new high resolution paths of the country with the given name
+     */
+    public static final List<CountryPath> createHiresCountryPaths(final String NAME) {
+        return createCountryPaths(getHiresCountryGeometry().getGeometry(NAME));
+    }
+    /**
+     * Returns new low resolution paths of all countries. The geometry is decoded
+     * once and the path elements are shared by all paths, only the Path nodes
+     * are created for each call.
+     * @return new low resolution paths of all countries
+     */
+    public static final Map<String, List<CountryPath>> createLoresCountryPaths() {
+        final CountryGeometryStore           STORE    = getLoresCountryGeometry();
+        final Map<String, List<CountryPath>> PATH_MAP = new ConcurrentHashMap<>(STORE.getNames().size());
+        STORE.getNames().forEach(name -> PATH_MAP.put(name, createCountryPaths(STORE.getGeometry(name))));
+        return PATH_MAP;
+    }
+
+    private static final List<CountryPath> createCountryPaths(final CountryGeometry GEOMETRY) {
+        return null == GEOMETRY ? null : GEOMETRY.createCountryPaths();
     }
 
     public static final void drawRoundedRect(final GraphicsContext CTX, final CtxBounds BOUNDS, final CtxCornerRadii RADII) {
@@ -532,112 +697,107 @@ public class Helper {
     // Smooth given path defined by it's list of path elements
     public static final Path smoothPath(final ObservableList<PathElement> ELEMENTS, final boolean FILLED) {
         if (ELEMENTS.isEmpty()) { return new Path(); }
-        final Point[] dataPoints = new Point[ELEMENTS.size()];
-        for (int i = 0; i < ELEMENTS.size(); i++) {
+        final int      noOfPoints = ELEMENTS.size();
+        final double[] x          = new double[noOfPoints];
+        final double[] y          = new double[noOfPoints];
+        for (int i = 0; i < noOfPoints; i++) {
             final PathElement element = ELEMENTS.get(i);
             if (element instanceof MoveTo) {
-                MoveTo move   = (MoveTo) element;
-                dataPoints[i] = new Point(move.getX(), move.getY());
+                x[i] = ((MoveTo) element).getX();
+                y[i] = ((MoveTo) element).getY();
             } else if (element instanceof LineTo) {
-                LineTo line   = (LineTo) element;
-                dataPoints[i] = new Point(line.getX(), line.getY());
+                x[i] = ((LineTo) element).getX();
+                y[i] = ((LineTo) element).getY();
             }
         }
-        double                 zeroY               = ((MoveTo) ELEMENTS.get(0)).getY();
-        List<PathElement>      smoothedElements    = new ArrayList<>();
-        Pair<Point[], Point[]> result              = calcCurveControlPoints(dataPoints);
-        Point[]                firstControlPoints  = result.getKey();
-        Point[]                secondControlPoints = result.getValue();
+        double            zeroY            = y[0];
+        List<PathElement> smoothedElements = new ArrayList<>(noOfPoints + 3);
+        int               n                = Math.max(1, noOfPoints - 1);
+        double[]          firstX           = new double[n];
+        double[]          firstY           = new double[n];
+        double[]          secondX          = new double[n];
+        double[]          secondY          = new double[n];
+        if (noOfPoints > 1) { calcCurveControlPoints(x, y, noOfPoints, firstX, firstY, secondX, secondY, new double[n]); }
         // Start path dependent on filled or not
         if (FILLED) {
-            smoothedElements.add(new MoveTo(dataPoints[0].getX(), zeroY));
-            smoothedElements.add(new LineTo(dataPoints[0].getX(), dataPoints[0].getY()));
+            smoothedElements.add(new MoveTo(x[0], zeroY));
+            smoothedElements.add(new LineTo(x[0], y[0]));
         } else {
-            smoothedElements.add(new MoveTo(dataPoints[0].getX(), dataPoints[0].getY()));
+            smoothedElements.add(new MoveTo(x[0], y[0]));
         }
         // Add curves
-        for (int i = 2; i < dataPoints.length; i++) {
+        for (int i = 2; i < noOfPoints; i++) {
             final int ci = i - 1;
-            smoothedElements.add(new CubicCurveTo(
-                firstControlPoints[ci].getX(), firstControlPoints[ci].getY(),
-                secondControlPoints[ci].getX(), secondControlPoints[ci].getY(),
-                dataPoints[i].getX(), dataPoints[i].getY()));
+            smoothedElements.add(new CubicCurveTo(firstX[ci], firstY[ci], secondX[ci], secondY[ci], x[i], y[i]));
         }
         // Close the path if filled
         if (FILLED) {
-            smoothedElements.add(new LineTo(dataPoints[dataPoints.length - 1].getX(), zeroY));
+            smoothedElements.add(new LineTo(x[noOfPoints - 1], zeroY));
             smoothedElements.add(new ClosePath());
         }
         return new Path(smoothedElements);
     }
-    private static final Pair<Point[], Point[]> calcCurveControlPoints(Point[] dataPoints) {
-        Point[] firstControlPoints;
-        Point[] secondControlPoints;
-        int n = dataPoints.length - 1;
+    /**
+     * Calculates the control points of cubic bezier curves through the given points
+     * without creating objects. All output arrays and the scratch array must have a
+     * length of at least NO_OF_POINTS - 1 and can be reused for subsequent calls.
+     * @param X
+     * @param Y
+     * @param NO_OF_POINTS at least 2
+     * @param FIRST_X
+     * @param FIRST_Y
+     * @param SECOND_X
+     * @param SECOND_Y
+     * @param SCRATCH
+     */
+    public static final void calcCurveControlPoints(final double[] X, final double[] Y, final int NO_OF_POINTS,
+                                                    final double[] FIRST_X, final double[] FIRST_Y,
+                                                    final double[] SECOND_X, final double[] SECOND_Y,
+                                                    final double[] SCRATCH) {
+        int n = NO_OF_POINTS - 1;
         if (n == 1) { // Special case: Bezier curve should be a straight line.
-            firstControlPoints     = new Point[1];
             // 3P1 = 2P0 + P3
-            firstControlPoints[0]  = new Point((2 * dataPoints[0].getX() + dataPoints[1].getX()) / 3, (2 * dataPoints[0].getY() + dataPoints[1].getY()) / 3);
-            secondControlPoints    = new Point[1];
+            FIRST_X[0]  = (2 * X[0] + X[1]) / 3;
+            FIRST_Y[0]  = (2 * Y[0] + Y[1]) / 3;
             // P2 = 2P1 – P0
-            secondControlPoints[0] = new Point(2 * firstControlPoints[0].getX() - dataPoints[0].getX(), 2 * firstControlPoints[0].getY() - dataPoints[0].getY());
-            return new Pair<>(firstControlPoints, secondControlPoints);
-        }
-
-        // Calculate first Bezier control points
-        // Right hand side vector
-        double[] rhs = new double[n];
-
-        // Set right hand side X values
-        for (int i = 1; i < n - 1; ++i) {
-            rhs[i] = 4 * dataPoints[i].getX() + 2 * dataPoints[i + 1].getX();
+            SECOND_X[0] = 2 * FIRST_X[0] - X[0];
+            SECOND_Y[0] = 2 * FIRST_Y[0] - Y[0];
+            return;
         }
-        rhs[0]     = dataPoints[0].getX() + 2 * dataPoints[1].getX();
-        rhs[n - 1] = (8 * dataPoints[n - 1].getX() + dataPoints[n].getX()) / 2.0;
-        // Get first control points X-values
-        double[] x = getFirstControlPoints(rhs);
-
-        // Set right hand side Y values
+        // Right hand side vectors are written to the second control point arrays which will be overwritten afterwards
         for (int i = 1; i < n - 1; ++i) {
-            rhs[i] = 4 * dataPoints[i].getY() + 2 * dataPoints[i + 1].getY();
+            SECOND_X[i] = 4 * X[i] + 2 * X[i + 1];
+            SECOND_Y[i] = 4 * Y[i] + 2 * Y[i + 1];
         }
-        rhs[0]     = dataPoints[0].getY() + 2 * dataPoints[1].getY();
-        rhs[n - 1] = (8 * dataPoints[n - 1].getY() + dataPoints[n].getY()) / 2.0;
-        // Get first control points Y-values
-        double[] y = getFirstControlPoints(rhs);
-
-        // Fill output arrays.
-        firstControlPoints  = new Point[n];
-        secondControlPoints = new Point[n];
+        SECOND_X[0]     = X[0] + 2 * X[1];
+        SECOND_X[n - 1] = (8 * X[n - 1] + X[n]) / 2.0;
+        SECOND_Y[0]     = Y[0] + 2 * Y[1];
+        SECOND_Y[n - 1] = (8 * Y[n - 1] + Y[n]) / 2.0;
+        // First control points
+        getFirstControlPoints(SECOND_X, n, FIRST_X, SCRATCH);
+        getFirstControlPoints(SECOND_Y, n, FIRST_Y, SCRATCH);
+        // Second control points
         for (int i = 0; i < n; ++i) {
-            // First control point
-            firstControlPoints[i] = new Point(x[i], y[i]);
-            // Second control point
             if (i < n - 1) {
-                secondControlPoints[i] = new Point(2 * dataPoints[i + 1].getX() - x[i + 1], 2 * dataPoints[i + 1].getY() - y[i + 1]);
+                SECOND_X[i] = 2 * X[i + 1] - FIRST_X[i + 1];
+                SECOND_Y[i] = 2 * Y[i + 1] - FIRST_Y[i + 1];
             } else {
-                secondControlPoints[i] = new Point((dataPoints[n].getX() + x[n - 1]) / 2, (dataPoints[n].getY() + y[n - 1]) / 2);
+                SECOND_X[i] = (X[n] + FIRST_X[n - 1]) / 2;
+                SECOND_Y[i] = (Y[n] + FIRST_Y[n - 1]) / 2;
             }
         }
-        return new Pair<>(firstControlPoints, secondControlPoints);
     }
-    private static final double[] getFirstControlPoints(double[] rhs) {
-        int      n   = rhs.length;
-        double[] x   = new double[n]; // Solution vector.
-        double[] tmp = new double[n]; // Temp workspace.
-        double   b   = 2.0;
-
-        x[0] = rhs[0] / b;
-
-        for (int i = 1; i < n; i++) {// Decomposition and forward substitution.
-            tmp[i] = 1 / b;
-            b      = (i < n - 1 ? 4.0 : 3.5) - tmp[i];
-            x[i]   = (rhs[i] - x[i - 1]) / b;
+    private static final void getFirstControlPoints(final double[] RHS, final int N, final double[] X, final double[] TMP) {
+        double b = 2.0;
+        X[0] = RHS[0] / b;
+        for (int i = 1; i < N; i++) {// Decomposition and forward substitution.
+            TMP[i] = 1 / b;
+            b      = (i < N - 1 ? 4.0 : 3.5) - TMP[i];
+            X[i]   = (RHS[i] - X[i - 1]) / b;
         }
-        for (int i = 1; i < n; i++) {
-            x[n - i - 1] -= tmp[n - i] * x[n - i]; // Backsubstitution.
+        for (int i = 1; i < N; i++) {
+            X[N - i - 1] -= TMP[N - i] * X[N - i]; // Backsubstitution.
         }
-        return x;
     }
 
 
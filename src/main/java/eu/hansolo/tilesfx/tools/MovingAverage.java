@@ -21,19 +21,27 @@ import java.time.Instant;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.stream.Collectors;
 
 
 /**
  * Created by hansolo on 01.11.16.
  */
 public class MovingAverage {
-    public  static final int             MAX_PERIOD     = 2_073_600; // 24h in seconds
-    private static final int             DEFAULT_PERIOD = 10;
-    private        final Queue<TimeData> window;
-    private              int             period;
-    private              double          sum;
+    public  static final int                MAX_PERIOD       = 2_073_600; // 24h in seconds
+    private static final int                DEFAULT_PERIOD   = 10;
+    private static final int                INITIAL_CAPACITY = 16;
+    private static final long               NANOS_PER_SECOND = 1_000_000_000L;
+    private              int                period;
+    private              WindowedStatistics window;
+    // Ring buffer for the timestamps and prefix sums of the values in the window,
+    // the entry with the sequence number s is stored at s % capacity
+    private              int                capacity;
+    private              long[]             timestamps;  // epoch nanos
+    private              double[]           prefixSums;  // sum of the values up to this entry relative to the last rebase
+    private              long               head;        // sequence number of the oldest entry
+    private              long               tail;        // sequence number of the next entry
+    private              double             totalSum;
+    private              long               noOfRemovalsSinceRebase;
 
 
     // ******************** Constructors **************************************
@@ -41,34 +49,37 @@ public class MovingAverage {
         this(DEFAULT_PERIOD);
     }
     public MovingAverage(final int PERIOD) {
-        period         = Helper.clamp(0, MAX_PERIOD, PERIOD);
-        window         = new ConcurrentLinkedQueue<>();
+        period = Helper.clamp(0, MAX_PERIOD, PERIOD);
+        reset();
     }
 
 
     // ******************** Methods *******************************************
     public void addData(final TimeData DATA) {
-        sum += DATA.getValue();
-        window.add(DATA);
-        if (window.size() > period) {
-            sum -= window.remove().getValue();
-        }
+        if (null == DATA) return;
+        add(DATA.getValue(), toEpochNanos(DATA.getTimestamp()));
     }
     public void addValue(final double VALUE) {
-        addData(new TimeData(VALUE));
+        add(VALUE, toEpochNanos(Instant.now()));
     }
     public void addListOfData(final List<TimeData> LIST_OF_DATA) {
         LIST_OF_DATA.forEach(data -> addData(data));
     }
 
-    public Queue<TimeData> getWindow() {
-        return window.stream()
-                     .map(item -> new TimeData(item.getValue(), item.getTimestamp()))
-                     .collect(Collectors.toCollection(LinkedList::new));
+    public synchronized Queue<TimeData> getWindow() {
+        Queue<TimeData> window = new LinkedList<>();
+        for (long seq = head ; seq < tail ; seq++) { window.add(getEntry(seq)); }
+        return window;
     }
 
-    public TimeData getFirstEntry() { return window.peek(); }
-    public TimeData getLastEntry() { return window.stream().reduce((first, second) -> second).orElse(null); }
+    public synchronized TimeData getFirstEntry() {
+        if (isEmpty()) return null;
+        return getEntry(head);
+    }
+    public synchronized TimeData getLastEntry() {
+        if (isEmpty()) return null;
+        return getEntry(tail - 1);
+    }
 
     public Instant getTimeSpan() {
         TimeData firstEntry = getFirstEntry();
@@ -77,19 +88,54 @@ public class MovingAverage {
         return lastEntry.getTimestamp().minusSeconds(firstEntry.getTimestamp().getEpochSecond());
     }
 
-    public double getAverage() {
-        if (window.isEmpty()) return 0; // technically the average is undefined
-        return (sum / window.size());
+    /**
+     * Returns the number of entries in the current window
+     * @return the number of entries in the current window
+     */
+    public synchronized int getSize() { return (int) (tail - head); }
+
+    public synchronized double getAverage() { return window.getMean(); } // technically the average of an empty window is undefined
+
+    /**
+     * Returns the population variance of the values in the current window
+     * @return the population variance of the values in the current window
+     */
+    public synchronized double getVariance() { return window.getVariance(); }
+
+    /**
+     * Returns the population standard deviation of the values in the current window
+     * @return the population standard deviation of the values in the current window
+     */
+    public double getStdDev() { return Math.sqrt(getVariance()); }
+
+    public synchronized double getMin() { return window.getMin(); }
+
+    public synchronized double getMax() { return window.getMax(); }
+
+    /**
+     * Returns the average of all values that are younger than the given
+     * duration. Expects the data to be added in chronological order.
+     * @param DURATION
+     * @return the average of all values that are younger than the given duration
+     */
+    public synchronized double getTimeBasedAverageOf(final Duration DURATION) {
+        assert !DURATION.isNegative() : "Time period must be positive";
+        long first = firstSeqAfter(toEpochNanos(Instant.now().minus(DURATION)));
+        if (first >= tail) return 0;
+        long   noOfEntries = tail - first;
+        double sum         = prefixSums[index(tail - 1)] - prefixSumBefore(first);
+        return sum / noOfEntries;
     }
 
-    public double getTimeBasedAverageOf(final Duration DURATION) {
+    /**
+     * Returns the number of values that are younger than the given
+     * duration. Expects the data to be added in chronological order.
+     * @param DURATION
+     * @return the number of values that are younger than the given duration
+     */
+    public synchronized int getNoOfEntriesOf(final Duration DURATION) {
         assert !DURATION.isNegative() : "Time period must be positive";
-        Instant now     = Instant.now();
-        return window.stream()
-                     .filter(v -> v.getTimestamp().isAfter(now.minus(DURATION)))
-                     .mapToDouble(TimeData::getValue)
-                     .average()
-                     .getAsDouble();
+        return (int) (tail - firstSeqAfter(toEpochNanos(Instant.now().minus(DURATION))));
     }
 
     public int getPeriod() { return period; }
@@ -98,7 +144,87 @@ public class MovingAverage {
         reset();
     }
 
-    public boolean isFilling() { return window.size() < period; }
+    public synchronized boolean isFilling() { return (tail - head) < period; }
+
+    public synchronized void reset() {
+        window                  = new WindowedStatistics(Math.max(1, period));
+        capacity                = Math.max(1, Math.min(period, INITIAL_CAPACITY));
+        timestamps              = new long[capacity];
+        prefixSums              = new double[capacity];
+        head                    = 0;
+        tail                    = 0;
+        totalSum                = 0;
+        noOfRemovalsSinceRebase = 0;
+    }
+
+    private synchronized void add(final double VALUE, final long TIMESTAMP) {
+        if (0 == period) return;
+        if (window.isFull()) {
+            head++;
+            noOfRemovalsSinceRebase++;
+        }
+        if (tail - head == capacity) { grow(); }
+        window.add(VALUE);
+
+        int index = index(tail);
+        totalSum         += VALUE;
+        timestamps[index] = TIMESTAMP;
+        prefixSums[index] = totalSum;
+        tail++;
+
+        // The prefix sums would grow with every value ever added and the difference of two
+        // large sums loses precision, so they are rebased once the window moved by its size
+        if (noOfRemovalsSinceRebase >= tail - head) { rebase(); }
+    }
+
+    // Makes the prefix sums relative to the start of the window
+    private void rebase() {
+        double offset = prefixSumBefore(head);
+        for (long seq = head ; seq < tail ; seq++) { prefixSums[index(seq)] -= offset; }
+        totalSum               -= offset;
+        noOfRemovalsSinceRebase = 0;
+    }
+
+    private void grow() {
+        int      newCapacity   = (int) Math.min((long) period, 2L * capacity);
+        long[]   newTimestamps = new long[newCapacity];
+        double[] newPrefixSums = new double[newCapacity];
+        for (long seq = head ; seq < tail ; seq++) {
+            int oldIndex = (int) (seq % capacity);
+            int newIndex = (int) (seq % newCapacity);
+            newTimestamps[newIndex] = timestamps[oldIndex];
+            newPrefixSums[newIndex] = prefixSums[oldIndex];
+        }
+        capacity   = newCapacity;
+        timestamps = newTimestamps;
+        prefixSums = newPrefixSums;
+    }
+
+    private long firstSeqAfter(final long TIMESTAMP) {
+        long low  = head;
+        long high = tail;
+        while (low < high) {
+            long mid = (low + high) >>> 1;
+            if (timestamps[index(mid)] > TIMESTAMP) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    private double prefixSumBefore(final long SEQ) { return prefixSums[index(SEQ)] - value(SEQ); }
+
+    private double value(final long SEQ) { return window.get((int) (SEQ - head)); }
+
+    private TimeData getEntry(final long SEQ) { return new TimeData(value(SEQ), toInstant(timestamps[index(SEQ)])); }
+
+    private boolean isEmpty() { return tail == head; }
+
+    private int index(final long SEQ) { return (int) (SEQ % capacity); }
+
+    private static long toEpochNanos(final Instant INSTANT) { return INSTANT.getEpochSecond() * NANOS_PER_SECOND + INSTANT.getNano(); }
 
-    public void reset() { window.clear(); }
+    private static Instant toInstant(final long EPOCH_NANOS) { return Instant.ofEpochSecond(Math.floorDiv(EPOCH_NANOS, NANOS_PER_SECOND), Math.floorMod(EPOCH_NANOS, NANOS_PER_SECOND)); }
 }
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.tilesfx.tools;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.function.ToDoubleFunction;
+
+
+public class RankIndex<T> {
+    // Items are ordered by descending value, items with the same value keep the order in which they were added
+    private final ToDoubleFunction<T>    valueFunction;
+    private final NavigableSet<Entry<T>> entries;
+    private final Map<T, Entry<T>>       entryMap;
+    private       long                   sequence;
+
+
+    // ******************** Constructors **************************************
+    public RankIndex(final ToDoubleFunction<T> VALUE_FUNCTION) {
+        if (null == VALUE_FUNCTION) { throw new IllegalArgumentException("Value function cannot be null"); }
+        valueFunction = VALUE_FUNCTION;
+        entries       = new TreeSet<>(Entry::compareTo);
+        entryMap      = new IdentityHashMap<>();
+    }
+
+
+    // ******************** Methods *******************************************
+    public void add(final T ITEM) {
+        if (null == ITEM) { throw new IllegalArgumentException("Item cannot be null"); }
+        if (entryMap.containsKey(ITEM)) { return; }
+        Entry<T> entry = new Entry<>(ITEM, valueFunction.applyAsDouble(ITEM), sequence++);
+        entryMap.put(ITEM, entry);
+        entries.add(entry);
+    }
+    public void addAll(final Iterable<? extends T> ITEMS) { ITEMS.forEach(this::add); }
+
+    public boolean remove(final T ITEM) {
+        Entry<T> entry = entryMap.remove(ITEM);
+        if (null == entry) { return false; }
+        entries.remove(entry);
+        return true;
+    }
+
+    public void clear() {
+        entries.clear();
+        entryMap.clear();
+    }
+
+    /**
+     * Repositions the given item after its value has changed
+     * @param ITEM
+     * @return true if the value of the item has changed
+     */
+    public boolean update(final T ITEM) {
+        Entry<T> entry = entryMap.get(ITEM);
+        if (null == entry) { return false; }
+        double value = valueFunction.applyAsDouble(ITEM);
+        if (Double.compare(value, entry.value) == 0) { return false; }
+        entries.remove(entry);
+        entry.value = value;
+        entries.add(entry);
+        return true;
+    }
+
+    public boolean contains(final T ITEM) { return entryMap.containsKey(ITEM); }
+
+    public int size() { return entryMap.size(); }
+
+    public boolean isEmpty() { return entryMap.isEmpty(); }
+
+    /**
+     * Returns the items with the highest values in descending order
+     * @param K the max number of items
+     * @return the items with the highest values in descending order
+     */
+    public List<T> getTop(final int K) {
+        List<T>            top      = new ArrayList<>(Math.max(0, Math.min(K, size())));
+        Iterator<Entry<T>> iterator = entries.iterator();
+        while (top.size() < K && iterator.hasNext()) { top.add(iterator.next().item); }
+        return top;
+    }
+
+
+    // ******************** Inner Classes *************************************
+    private static class Entry<T> implements Comparable<Entry<T>> {
+        private final T      item;
+        private final long   sequence;
+        private       double value;
+
+
+        // ******************** Constructors **************************************
+        Entry(final T ITEM, final double VALUE, final long SEQUENCE) {
+            item     = ITEM;
+            value    = VALUE;
+            sequence = SEQUENCE;
+        }
+
+
+        // ******************** Methods *******************************************
+        @Override public int compareTo(final Entry<T> OTHER) {
+            int result = Double.compare(OTHER.value, value);
+            return 0 == result ? Long.compare(sequence, OTHER.sequence) : result;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.tilesfx.tools;
+
+import eu.hansolo.tilesfx.Section;
+import javafx.scene.paint.Color;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+
+public class SectionIndex {
+    private static final int[]         EMPTY = new int[0];
+    private        final List<Section> sections;
+    private        final double[]      bounds;        // sorted distinct start and stop values of all sections
+    private        final int[][]       slotSections;  // indices of the sections that contain the values of each slot
+
+    /*
+     * The bounds split the value range into slots. Slot 2 * i + 1 is the bound i itself,
+     * slot 2 * i is the open interval below bound i and slot 2 * bounds.length is the
+     * interval above the last bound. All values of a slot are contained in the same sections.
+     */
+
+
+    // ******************** Constructors **************************************
+    /**
+     * Creates an index of the given sections. The index uses the start and stop
+     * values of the sections at the time of creation.
+     * @param SECTIONS
+     */
+    public SectionIndex(final List<Section> SECTIONS) {
+        if (null == SECTIONS) { throw new IllegalArgumentException("Sections cannot be null"); }
+        sections = new ArrayList<>(SECTIONS);
+
+        int      noOfSections = sections.size();
+        double[] values       = new double[noOfSections * 2];
+        for (int i = 0 ; i < noOfSections ; i++) {
+            values[i * 2]     = sections.get(i).getStart();
+            values[i * 2 + 1] = sections.get(i).getStop();
+        }
+        Arrays.sort(values);
+        int noOfBounds = 0;
+        for (int i = 0 ; i < values.length ; i++) {
+            if (0 == noOfBounds || Double.compare(values[i], values[noOfBounds - 1]) != 0) { values[noOfBounds++] = values[i]; }
+        }
+        bounds = Arrays.copyOf(values, noOfBounds);
+
+        // Sections are added in the order of the list so that the indices in each slot are sorted
+        int   noOfSlots = 2 * noOfBounds + 1;
+        int[] counts    = new int[noOfSlots];
+        for (int i = 0 ; i < noOfSections ; i++) {
+            Section section = sections.get(i);
+            if (Double.compare(section.getStart(), section.getStop()) > 0) { continue; }
+            for (int slot = getSlot(section.getStart()), lastSlot = getSlot(section.getStop()) ; slot <= lastSlot ; slot++) { counts[slot]++; }
+        }
+        slotSections = new int[noOfSlots][];
+        for (int slot = 0 ; slot < noOfSlots ; slot++) { slotSections[slot] = 0 == counts[slot] ? EMPTY : new int[counts[slot]]; }
+        Arrays.fill(counts, 0);
+        for (int i = 0 ; i < noOfSections ; i++) {
+            Section section = sections.get(i);
+            if (Double.compare(section.getStart(), section.getStop()) > 0) { continue; }
+            for (int slot = getSlot(section.getStart()), lastSlot = getSlot(section.getStop()) ; slot <= lastSlot ; slot++) { slotSections[slot][counts[slot]++] = i; }
+        }
+    }
+
+
+    // ******************** Methods *******************************************
+    public List<Section> getSections() { return Collections.unmodifiableList(sections); }
+
+    public boolean isEmpty() { return sections.isEmpty(); }
+
+    /**
+     * Returns the sections that contain the given value in the order of the list
+     * @param VALUE
+     * @return the sections that contain the given value in the order of the list
+     */
+    public List<Section> getSections(final double VALUE) {
+        int[]         indices           = slotSections[getSlot(VALUE)];
+        List<Section> containedSections = new ArrayList<>(indices.length);
+        for (int index : indices) { containedSections.add(sections.get(index)); }
+        return containedSections;
+    }
+
+    /**
+     * Returns the first section in the list that contains the given value or null
+     * @param VALUE
+     * @return the first section in the list that contains the given value or null
+     */
+    public Section getSection(final double VALUE) {
+        int[] indices = slotSections[getSlot(VALUE)];
+        return 0 == indices.length ? null : sections.get(indices[0]);
+    }
+
+    public boolean contains(final double VALUE) { return slotSections[getSlot(VALUE)].length > 0; }
+
+    /**
+     * Returns the color of the first section in the list that contains the given
+     * value or the given default color. Same as Helper.getColorOfSection() but in O(log n).
+     * @param VALUE
+     * @param DEFAULT_COLOR
+     * @return the color of the first section that contains the given value or the default color
+     */
+    public Color getColorOfSection(final double VALUE, final Color DEFAULT_COLOR) {
+        Section section = getSection(VALUE);
+        return null == section ? DEFAULT_COLOR : section.getColor();
+    }
+
+    /**
+     * Returns a new tracker that reports the sections that have been
+     * entered or left between two values
+     * @return a new tracker for this index
+     */
+    public Tracker createTracker() { return new Tracker(); }
+
+    private int getSlot(final double VALUE) {
+        if (Double.isNaN(VALUE)) { return 0; }
+        int index = Arrays.binarySearch(bounds, VALUE);
+        return index >= 0 ? 2 * index + 1 : 2 * (-index - 1);
+    }
+
+
+    // ******************** Inner Classes *************************************
+    public class Tracker {
+        private int slot = -1;
+
+
+        // ******************** Methods *******************************************
+        /**
+         * Calls ON_ENTERED for each section that contains the given value but
+         * did not contain the last tracked value and ON_LEFT for each section
+         * that contained the last tracked value but does not contain the given
+         * value. On the first call (or after reset()) all sections that contain
+         * the given value will be reported as entered.
+         * @param VALUE
+         * @param ON_ENTERED
+         * @param ON_LEFT
+         */
+        public void track(final double VALUE, final Consumer<Section> ON_ENTERED, final Consumer<Section> ON_LEFT) {
+            int newSlot = getSlot(VALUE);
+            if (newSlot == slot) { return; }
+            int[] oldIndices = slot < 0 ? EMPTY : slotSections[slot];
+            int[] newIndices = slotSections[newSlot];
+            slot = newSlot;
+
+            // Both arrays are sorted, so the difference can be found in one pass
+            int oldIndex = 0;
+            int newIndex = 0;
+            while (oldIndex < oldIndices.length || newIndex < newIndices.length) {
+                if (newIndex == newIndices.length || (oldIndex < oldIndices.length && oldIndices[oldIndex] < newIndices[newIndex])) {
+                    if (null != ON_LEFT) { ON_LEFT.accept(sections.get(oldIndices[oldIndex])); }
+                    oldIndex++;
+                } else if (oldIndex == oldIndices.length || newIndices[newIndex] < oldIndices[oldIndex]) {
+                    if (null != ON_ENTERED) { ON_ENTERED.accept(sections.get(newIndices[newIndex])); }
+                    newIndex++;
+                } else {
+                    oldIndex++;
+                    newIndex++;
+                }
+            }
+        }
+
+        /**
+         * Forgets the last tracked value
+         */
+        public void reset() { slot = -1; }
+    }
+}
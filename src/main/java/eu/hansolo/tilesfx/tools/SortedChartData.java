@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.tilesfx.tools;
+
+import eu.hansolo.tilesfx.chart.ChartData;
+import eu.hansolo.tilesfx.events.ChartDataEventListener;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+
+public class SortedChartData {
+    // The running sum will be recalculated after this number of incremental updates to avoid rounding drift
+    private static final int                           MAX_NO_OF_INCREMENTAL_UPDATES = 1024;
+    private        final ObservableList<ChartData>     source;
+    private        final ListChangeListener<ChartData> listListener;
+    private        final ChartDataEventListener        dataListener;
+    private        final List<ChartData>               sortedList;
+    private              int[]                         order;      // indices of the source list sorted by value
+    private              int[]                         positions;  // position of each source index in order
+    private              double[]                      values;     // value of each source index at the last update
+    private        final Map<ChartData, int[]>         indices;    // source indices of each chart data
+    private              int                           size;
+    private              double                        sum;
+    private              int                           noOfIncrementalUpdates;
+    private              Runnable                      onDataChanged;
+    private              Runnable                      onListChanged;
+
+
+    // ******************** Constructors **************************************
+    public SortedChartData(final ObservableList<ChartData> SOURCE) {
+        if (null == SOURCE) { throw new IllegalArgumentException("Source cannot be null"); }
+        source       = SOURCE;
+        order        = new int[0];
+        positions    = new int[0];
+        values       = new double[0];
+        indices      = new IdentityHashMap<>();
+        dataListener = e -> {
+            update(e.getData());
+            if (null != onDataChanged) { onDataChanged.run(); }
+        };
+        listListener = c -> {
+            while (c.next()) {
+                if (c.wasRemoved()) {
+                    for (ChartData removedItem : c.getRemoved()) {
+                        if (!source.contains(removedItem)) { removedItem.removeChartDataEventListener(dataListener); }
+                    }
+                }
+                if (c.wasAdded()) { c.getAddedSubList().forEach(addedItem -> addedItem.addChartDataEventListener(dataListener)); }
+            }
+            rebuild();
+            if (null != onListChanged) { onListChanged.run(); }
+        };
+        sortedList   = new AbstractList<ChartData>() {
+            @Override public ChartData get(final int INDEX) { return getSorted(INDEX); }
+            @Override public int size() { return size; }
+        };
+        source.forEach(data -> data.addChartDataEventListener(dataListener));
+        source.addListener(listListener);
+        rebuild();
+    }
+
+
+    // ******************** Methods *******************************************
+    public int size() { return size; }
+
+    /**
+     * Returns the chart data with the given index in ascending order of the values.
+     * Chart data with the same value keep the order of the source list.
+     * @param INDEX
+     * @return the chart data with the given index in ascending order of the values
+     */
+    public ChartData getSorted(final int INDEX) {
+        if (INDEX < 0 || INDEX >= size) { throw new IndexOutOfBoundsException("Index: " + INDEX + ", Size: " + size); }
+        return source.get(order[INDEX]);
+    }
+
+    /**
+     * Returns a live view of the chart data in ascending order of the values
+     * @return a live view of the chart data in ascending order of the values
+     */
+    public List<ChartData> getSortedList() { return sortedList; }
+
+    public double getSum() { return sum; }
+
+    public double getMin() { return 0 == size ? 0 : values[order[0]]; }
+
+    public double getMax() { return 0 == size ? 0 : values[order[size - 1]]; }
+
+    /**
+     * Defines a runnable that will be called after the value or another property of a chart data has changed
+     * @param ON_DATA_CHANGED
+     */
+    public void setOnDataChanged(final Runnable ON_DATA_CHANGED) { onDataChanged = ON_DATA_CHANGED; }
+
+    /**
+     * Defines a runnable that will be called after chart data have been added or removed
+     * @param ON_LIST_CHANGED
+     */
+    public void setOnListChanged(final Runnable ON_LIST_CHANGED) { onListChanged = ON_LIST_CHANGED; }
+
+    public void dispose() {
+        source.removeListener(listListener);
+        source.forEach(data -> data.removeChartDataEventListener(dataListener));
+        indices.clear();
+        onDataChanged = null;
+        onListChanged = null;
+    }
+
+    private void rebuild() {
+        size = source.size();
+        if (values.length < size) {
+            order     = new int[size];
+            positions = new int[size];
+            values    = new double[size];
+        }
+        for (int i = 0 ; i < size ; i++) { values[i] = source.get(i).getValue(); }
+        int[] sorted = IntStream.range(0, size).boxed().sorted(this::compare).mapToInt(Integer::intValue).toArray();
+        System.arraycopy(sorted, 0, order, 0, size);
+        for (int position = 0 ; position < size ; position++) { positions[order[position]] = position; }
+        indices.clear();
+        for (int i = 0 ; i < size ; i++) {
+            // The same chart data can be in the list more than once
+            int[] dataIndices = indices.get(source.get(i));
+            if (null == dataIndices) {
+                indices.put(source.get(i), new int[] { i });
+            } else {
+                int[] newIndices = Arrays.copyOf(dataIndices, dataIndices.length + 1);
+                newIndices[dataIndices.length] = i;
+                indices.put(source.get(i), newIndices);
+            }
+        }
+        recalcSum();
+    }
+
+    private void update(final ChartData DATA) {
+        int[] dataIndices = indices.get(DATA);
+        if (null == dataIndices) { return; }
+        double value = DATA.getValue();
+        for (int index : dataIndices) {
+            if (Double.compare(values[index], value) == 0) { continue; }
+            sum += value - values[index];
+            values[index] = value;
+            move(index);
+            if (++noOfIncrementalUpdates > MAX_NO_OF_INCREMENTAL_UPDATES) { recalcSum(); }
+        }
+    }
+
+    // Moves the given source index to its sorted position, the rest of the order is still sorted
+    private void move(final int INDEX) {
+        int position = positions[INDEX];
+        while (position > 0 && compare(INDEX, order[position - 1]) < 0) {
+            swap(position, position - 1);
+            position--;
+        }
+        while (position < size - 1 && compare(INDEX, order[position + 1]) > 0) {
+            swap(position, position + 1);
+            position++;
+        }
+    }
+
+    private void swap(final int POSITION_1, final int POSITION_2) {
+        int index = order[POSITION_1];
+        order[POSITION_1]            = order[POSITION_2];
+        order[POSITION_2]            = index;
+        positions[order[POSITION_1]] = POSITION_1;
+        positions[order[POSITION_2]] = POSITION_2;
+    }
+
+    private int compare(final int INDEX_1, final int INDEX_2) {
+        int result = Double.compare(values[INDEX_1], values[INDEX_2]);
+        return 0 == result ? Integer.compare(INDEX_1, INDEX_2) : result;
+    }
+
+    private void recalcSum() {
+        double newSum = 0;
+        for (int i = 0 ; i < size ; i++) { newSum += values[i]; }
+        sum                    = newSum;
+        noOfIncrementalUpdates = 0;
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.tilesfx.tools;
+
+import javafx.application.Platform;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+
+public class TickScheduler {
+    // All tickers with the same interval share one scheduled task that posts
+    // one runnable per interval to the FX application thread
+    private static final Map<Long, TickGroup>     GROUPS       = new HashMap<>();
+    private static final Map<Object, TickGroup>   OWNER_GROUPS = new HashMap<>();
+    private static       ScheduledExecutorService executorService;
+
+
+    // ******************** Constructors **************************************
+    private TickScheduler() {}
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Registers the given ticker that will be called on the FX application
+     * thread every INTERVAL milliseconds. If the owner is already registered
+     * its ticker will be replaced.
+     * @param OWNER
+     * @param TICKER
+     * @param INTERVAL interval in milliseconds
+     */
+    public static synchronized void register(final Object OWNER, final Runnable TICKER, final long INTERVAL) {
+        if (null == OWNER)  { throw new IllegalArgumentException("Owner cannot be null"); }
+        if (null == TICKER) { throw new IllegalArgumentException("Ticker cannot be null"); }
+        if (INTERVAL < 1)   { throw new IllegalArgumentException("Interval must be larger than 0"); }
+        unregister(OWNER);
+        TickGroup group = GROUPS.get(INTERVAL);
+        if (null == group) {
+            group = new TickGroup(INTERVAL);
+            GROUPS.put(INTERVAL, group);
+        }
+        group.tickers.put(OWNER, TICKER);
+        OWNER_GROUPS.put(OWNER, group);
+    }
+
+    /**
+     * Removes the ticker of the given owner
+     * @param OWNER
+     */
+    public static synchronized void unregister(final Object OWNER) {
+        TickGroup group = OWNER_GROUPS.remove(OWNER);
+        if (null == group) { return; }
+        group.tickers.remove(OWNER);
+        if (group.tickers.isEmpty()) {
+            group.cancel();
+            GROUPS.remove(group.interval);
+        }
+    }
+
+    public static synchronized boolean isRegistered(final Object OWNER) { return OWNER_GROUPS.containsKey(OWNER); }
+
+    public static synchronized int getNoOfTickers() { return OWNER_GROUPS.size(); }
+
+    /**
+     * Returns the number of scheduled tasks which is the number of different intervals in use
+     * @return the number of scheduled tasks
+     */
+    public static synchronized int getNoOfTasks() { return GROUPS.size(); }
+
+    /**
+     * Removes all tickers and stops the scheduler thread. Registering a ticker
+     * afterwards will start a new scheduler thread.
+     */
+    public static synchronized void shutdown() {
+        GROUPS.values().forEach(TickGroup::cancel);
+        GROUPS.clear();
+        OWNER_GROUPS.clear();
+        if (null != executorService) {
+            executorService.shutdownNow();
+            executorService = null;
+        }
+    }
+
+    private static ScheduledExecutorService getExecutorService() {
+        if (null == executorService) {
+            executorService = new ScheduledThreadPoolExecutor(1, Helper.getThreadFactory("TileTick", true));
+        }
+        return executorService;
+    }
+
+
+    // ******************** Inner Classes *************************************
+    private static class TickGroup {
+        private final long                  interval;
+        private final Map<Object, Runnable> tickers;
+        private final ScheduledFuture<?>    task;
+
+
+        // ******************** Constructors **************************************
+        TickGroup(final long INTERVAL) {
+            interval = INTERVAL;
+            tickers  = new ConcurrentHashMap<>();
+            task     = getExecutorService().scheduleAtFixedRate(() -> Platform.runLater(this::tick), 0, INTERVAL, TimeUnit.MILLISECONDS);
+        }
+
+
+        // ******************** Methods *******************************************
+        private void tick() {
+            for (Runnable ticker : tickers.values()) {
+                // One failing ticker should not stop the others
+                try {
+                    ticker.run();
+                } catch (RuntimeException exception) {
+                    Thread thread = Thread.currentThread();
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, exception);
+                }
+            }
+        }
+
+        private void cancel() {
+            tickers.clear();
+            task.cancel(false);
+        }
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.tilesfx.tools;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+
+public class TimingWheel<T> {
+    // Level 0 has one slot per second, level 1 one slot per minute and level 2 one
+    // slot per hour. Items that are due in more than a day wait in the overflow queue
+    // which is ordered by fire time so only the items of the next day will be touched.
+    private static final int[]                 NO_OF_SLOTS       = { 60, 60, 24 };
+    private static final long[]                SECONDS_PER_SLOT  = { 1, 60, 3_600 };
+    private static final long                  SECONDS_PER_DAY   = 86_400;
+    private static final long                  MAX_NO_OF_STEPS   = SECONDS_PER_DAY;
+    private        final List<Entry<T>>[][]    wheels;
+    private        final Queue<Entry<T>>       overflow;
+    private        final List<Entry<T>>        overdue;
+    private        final Map<T, Entry<T>>      entries;
+    private              long                  currentSecond;
+    private              long                  sequence;
+    private              int                   noOfCancelledInOverflow;
+
+
+    // ******************** Constructors **************************************
+    @SuppressWarnings("unchecked")
+    public TimingWheel(final long CURRENT_SECOND) {
+        wheels = new List[NO_OF_SLOTS.length][];
+        for (int level = 0 ; level < NO_OF_SLOTS.length ; level++) {
+            wheels[level] = new List[NO_OF_SLOTS[level]];
+            for (int slot = 0 ; slot < NO_OF_SLOTS[level] ; slot++) { wheels[level][slot] = new ArrayList<>(); }
+        }
+        overflow      = new PriorityQueue<>(Entry::compareTo);
+        overdue       = new ArrayList<>();
+        entries       = new HashMap<>();
+        currentSecond = CURRENT_SECOND;
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Schedules the given item for the given epoch second. If the item is
+     * already scheduled it will be rescheduled. Items that are scheduled for
+     * a second that has already been processed will be returned by the next
+     * call of advanceTo().
+     * @param ITEM
+     * @param FIRE_SECOND
+     */
+    public void schedule(final T ITEM, final long FIRE_SECOND) {
+        if (null == ITEM) { throw new IllegalArgumentException("Item cannot be null"); }
+        cancel(ITEM);
+        Entry<T> entry = new Entry<>(ITEM, FIRE_SECOND, sequence++);
+        entries.put(ITEM, entry);
+        insert(entry);
+    }
+
+    /**
+     * Removes the given item from the wheel
+     * @param ITEM
+     * @return true if the item was scheduled
+     */
+    public boolean cancel(final T ITEM) {
+        Entry<T> entry = entries.remove(ITEM);
+        if (null == entry) { return false; }
+        // Cancelled entries will be removed from their slot when the slot will be processed
+        entry.cancelled = true;
+        if (entry.inOverflow && ++noOfCancelledInOverflow > overflow.size() / 2) {
+            overflow.removeIf(overflowEntry -> overflowEntry.cancelled);
+            noOfCancelledInOverflow = 0;
+        }
+        return true;
+    }
+
+    public boolean contains(final T ITEM) { return entries.containsKey(ITEM); }
+
+    /**
+     * Returns the epoch second the given item is scheduled for or Long.MIN_VALUE
+     * if the item is not scheduled
+     * @param ITEM
+     * @return the epoch second the given item is scheduled for
+     */
+    public long getFireSecond(final T ITEM) {
+        Entry<T> entry = entries.get(ITEM);
+        return null == entry ? Long.MIN_VALUE : entry.fireSecond;
+    }
+
+    public int size() { return entries.size(); }
+
+    public boolean isEmpty() { return entries.isEmpty(); }
+
+    /**
+     * Returns the last epoch second that has been processed
+     * @return the last epoch second that has been processed
+     */
+    public long getCurrentSecond() { return currentSecond; }
+
+    /**
+     * Removes all items and sets the current second to the given epoch second
+     * @param CURRENT_SECOND
+     */
+    public void reset(final long CURRENT_SECOND) {
+        for (List<Entry<T>>[] wheel : wheels) {
+            for (List<Entry<T>> slot : wheel) { slot.clear(); }
+        }
+        overflow.clear();
+        overdue.clear();
+        entries.clear();
+        currentSecond           = CURRENT_SECOND;
+        noOfCancelledInOverflow = 0;
+    }
+
+    /**
+     * Processes all seconds up to the given epoch second and returns the items
+     * that are due, ordered by the second they were scheduled for. Items that are
+     * scheduled for the same second keep the order in which they were scheduled.
+     * The returned items are no longer scheduled.
+     * @param SECOND
+     * @return the items that are due ordered by the second they were scheduled for
+     */
+    public List<T> advanceTo(final long SECOND) {
+        List<Entry<T>> dueEntries = new ArrayList<>();
+        if (SECOND < currentSecond || SECOND - currentSecond > MAX_NO_OF_STEPS) {
+            // Stepping through every second would take longer than sorting everything in again
+            List<Entry<T>> liveEntries = new ArrayList<>(entries.values());
+            reset(SECOND);
+            for (Entry<T> entry : liveEntries) {
+                entry.inOverflow = false;
+                entries.put(entry.item, entry);
+                insert(entry);
+            }
+        } else {
+            while (currentSecond < SECOND) {
+                currentSecond++;
+                if (Math.floorMod(currentSecond, SECONDS_PER_DAY) == 0) { cascadeOverflow(); }
+                for (int level = NO_OF_SLOTS.length - 1 ; level > 0 ; level--) {
+                    if (Math.floorMod(currentSecond, SECONDS_PER_SLOT[level]) == 0) { cascade(wheels[level][slotOf(currentSecond, level)]); }
+                }
+                collect(wheels[0][slotOf(currentSecond, 0)], dueEntries);
+            }
+        }
+        collect(overdue, dueEntries);
+        if (dueEntries.isEmpty()) { return new ArrayList<>(); }
+
+        dueEntries.sort(Entry::compareTo);
+        List<T> dueItems = new ArrayList<>(dueEntries.size());
+        for (Entry<T> entry : dueEntries) {
+            entries.remove(entry.item);
+            dueItems.add(entry.item);
+        }
+        return dueItems;
+    }
+
+    private void insert(final Entry<T> ENTRY) {
+        long delta = ENTRY.fireSecond - currentSecond;
+        if (delta <= 0) {
+            overdue.add(ENTRY);
+            return;
+        }
+        for (int level = 0 ; level < NO_OF_SLOTS.length ; level++) {
+            if (delta < NO_OF_SLOTS[level] * SECONDS_PER_SLOT[level]) {
+                wheels[level][slotOf(ENTRY.fireSecond, level)].add(ENTRY);
+                return;
+            }
+        }
+        ENTRY.inOverflow = true;
+        overflow.add(ENTRY);
+    }
+
+    private void cascadeOverflow() {
+        while (!overflow.isEmpty() && overflow.peek().fireSecond - currentSecond < SECONDS_PER_DAY) {
+            Entry<T> entry = overflow.poll();
+            entry.inOverflow = false;
+            if (entry.cancelled) {
+                noOfCancelledInOverflow = Math.max(0, noOfCancelledInOverflow - 1);
+            } else {
+                insert(entry);
+            }
+        }
+    }
+
+    private void cascade(final List<Entry<T>> SLOT) {
+        if (SLOT.isEmpty()) { return; }
+        List<Entry<T>> slotEntries = new ArrayList<>(SLOT);
+        SLOT.clear();
+        for (Entry<T> entry : slotEntries) {
+            if (!entry.cancelled) { insert(entry); }
+        }
+    }
+
+    private void collect(final List<Entry<T>> SLOT, final List<Entry<T>> DUE_ENTRIES) {
+        if (SLOT.isEmpty()) { return; }
+        for (Entry<T> entry : SLOT) {
+            if (!entry.cancelled) { DUE_ENTRIES.add(entry); }
+        }
+        SLOT.clear();
+    }
+
+    private static int slotOf(final long SECOND, final int LEVEL) {
+        return (int) Math.floorMod(Math.floorDiv(SECOND, SECONDS_PER_SLOT[LEVEL]), (long) NO_OF_SLOTS[LEVEL]);
+    }
+
+
+    // ******************** Inner Classes *************************************
+    private static class Entry<T> implements Comparable<Entry<T>> {
+        private final T       item;
+        private final long    fireSecond;
+        private final long    sequence;
+        private       boolean cancelled;
+        private       boolean inOverflow;
+
+
+        // ******************** Constructors **************************************
+        Entry(final T ITEM, final long FIRE_SECOND, final long SEQUENCE) {
+            item       = ITEM;
+            fireSecond = FIRE_SECOND;
+            sequence   = SEQUENCE;
+        }
+
+
+        // ******************** Methods *******************************************
+        @Override public int compareTo(final Entry<T> OTHER) {
+            int result = Long.compare(fireSecond, OTHER.fireSecond);
+            return 0 == result ? Long.compare(sequence, OTHER.sequence) : result;
+        }
+    }
+}
@@ -17,6 +17,7 @@
 package eu.hansolo.tilesfx.tools;
 
 import eu.hansolo.tilesfx.chart.ChartData;
+import eu.hansolo.tilesfx.events.ChartDataEventListener;
 import eu.hansolo.tilesfx.events.TreeNodeEvent;
 import eu.hansolo.tilesfx.events.TreeNodeEvent.EventType;
 import eu.hansolo.tilesfx.events.TreeNodeEventListener;
@@ -24,10 +25,11 @@ import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.Comparator;
+import java.util.Deque;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -38,6 +40,7 @@ import java.util.stream.Stream;
 public class TreeNode {
     private final TreeNodeEvent PARENT_CHANGED   = new TreeNodeEvent(TreeNode.this, EventType.PARENT_CHANGED);
     private final TreeNodeEvent CHILDREN_CHANGED = new TreeNodeEvent(TreeNode.this, EventType.CHILDREN_CHANGED);
+    private final TreeNodeEvent VALUE_CHANGED    = new TreeNodeEvent(TreeNode.this, EventType.VALUE_CHANGED);
     private ChartData                   data;
     private TreeNode                    parent;
     private TreeNode                    myRoot;
@@ -45,6 +48,14 @@ public class TreeNode {
     private int                         depth;
     private ObservableList<TreeNode>    children;
     private List<TreeNodeEventListener> listeners;
+    private ChartDataEventListener      dataListener;
+    // Cached aggregates, -1 or NaN if they have to be recalculated
+    private double                      value;
+    private int                         noOfNodes;
+    private int                         noOfLeafNodes;
+    private double                      childrenSum;
+    private double                      subtreeSum;
+    private List<List<TreeNode>>        levels;          // nodes per level, only used by the tree root
 
 
     // ******************** Constructors **************************************
@@ -52,11 +63,17 @@ public class TreeNode {
         this(DATA, null);
     }
     public TreeNode(final ChartData DATA, final TreeNode PARENT) {
-        data      = DATA;
-        parent    = PARENT;
-        depth     = -1;
-        children  = FXCollections.observableArrayList();
-        listeners = new CopyOnWriteArrayList<>();
+        data          = DATA;
+        parent        = PARENT;
+        depth         = -1;
+        children      = FXCollections.observableArrayList();
+        listeners     = new CopyOnWriteArrayList<>();
+        dataListener  = e -> checkValue();
+        value         = null == DATA ? 0 : DATA.getValue();
+        noOfNodes     = -1;
+        noOfLeafNodes = -1;
+        childrenSum   = Double.NaN;
+        subtreeSum    = Double.NaN;
         init();
     }
 
@@ -65,11 +82,30 @@ public class TreeNode {
     private void init() {
         // Add this node to parents children
         if (null != parent) { parent.getChildren().add(this); }
+        if (null != data) { data.addChartDataEventListener(dataListener); }
 
         children.addListener((ListChangeListener<TreeNode>) c -> {
             while (c.next()) {
-                if (c.wasRemoved()) { c.getRemoved().forEach(removedItem -> removedItem.removeAllTreeNodeEventListeners()); }
+                if (c.wasRemoved()) {
+                    for (TreeNode removedItem : c.getRemoved()) {
+                        removedItem.removeAllTreeNodeEventListeners();
+                        if (removedItem.parent == TreeNode.this && !children.contains(removedItem)) {
+                            removedItem.parent = null;
+                            removedItem.invalidatePosition();
+                            // Otherwise the data would keep the removed nodes reachable
+                            removedItem.trackData(false);
+                        }
+                    }
+                }
+                if (c.wasAdded()) {
+                    for (TreeNode addedItem : c.getAddedSubList()) {
+                        addedItem.parent = TreeNode.this;
+                        addedItem.invalidatePosition();
+                        addedItem.trackData(true);
+                    }
+                }
             }
+            invalidateStructure();
             getTreeRoot().fireTreeNodeEvent(CHILDREN_CHANGED);
         });
     }
@@ -78,38 +114,37 @@ public class TreeNode {
     public boolean isLeaf() { return (null == children || children.isEmpty()); }
     public boolean hasParent() { return null != parent; }
     public void removeParent() {
-        parent   = null;
-        myRoot   = null;
-        treeRoot = null;
-        depth    = -1;
+        parent = null;
+        invalidatePosition();
         getTreeRoot().fireTreeNodeEvent(PARENT_CHANGED);
     }
 
     public TreeNode getParent() { return parent; }
     public void setParent(final TreeNode PARENT) {
-        if (null != PARENT) { PARENT.addNode(TreeNode.this); }
-        parent   = PARENT;
-        myRoot   = null;
-        treeRoot = null;
-        depth    = -1;
+        if (null == PARENT) {
+            removeParent();
+            return;
+        }
+        // Adding the node to the children of the parent will set the parent
+        PARENT.addNode(TreeNode.this);
         getTreeRoot().fireTreeNodeEvent(PARENT_CHANGED);
     }
 
     public ChartData getData() { return data; }
-    public void setData(final ChartData DATA) { data = DATA; }
+    public void setData(final ChartData DATA) {
+        if (null != data) { data.removeChartDataEventListener(dataListener); }
+        data = DATA;
+        if (null != data) { data.addChartDataEventListener(dataListener); }
+        checkValue();
+    }
 
     public List<TreeNode> getChildrenUnmodifiable() { return Collections.unmodifiableList(children); }
     public List<TreeNode> getChildren() { return children; }
     public void setChildren(final List<TreeNode> CHILDREN) { children.setAll(new LinkedHashSet<>(CHILDREN)); }
 
-    public void addNode(final ChartData DATA) {
-        TreeNode child = new TreeNode(DATA);
-        child.setParent(this);
-        children.add(child);
-    }
+    public void addNode(final ChartData DATA) { addNode(new TreeNode(DATA)); }
     public void addNode(final TreeNode NODE) {
         if (children.contains(NODE)) { return; }
-        NODE.setParent(this);
         children.add(NODE);
     }
     public void removeNode(final TreeNode NODE) { if (children.contains(NODE)) { children.remove(NODE); } }
@@ -122,6 +157,19 @@ public class TreeNode {
 
     public void removeAllNodes() { children.clear(); }
 
+    /**
+     * Removes the listeners of this node and all nodes in its subtree from
+     * their chart data. Call this method if a tree will no longer be used
+     * but its chart data will, otherwise the chart data keep the tree alive.
+     * Nodes that are removed from their parent will be detached from their
+     * chart data automatically and attached again when they are added to a
+     * node.
+     */
+    public void dispose() {
+        trackData(false);
+        flattened().forEach(TreeNode::removeAllTreeNodeEventListeners);
+    }
+
     public Stream<TreeNode> stream() {
         if (isLeaf()) {
             return Stream.of(this);
@@ -143,8 +191,52 @@ public class TreeNode {
     public List<TreeNode> getAll() { return flattened().collect(Collectors.toList()); }
     public List<ChartData> getAllData() { return flattened().map(TreeNode::getData).collect(Collectors.toList()); }
 
-    public int getNoOfNodes() { return flattened().map(TreeNode::getData).collect(Collectors.toList()).size(); }
-    public int getNoOfLeafNodes() { return flattened().filter(node -> node.isLeaf()).map(TreeNode::getData).collect(Collectors.toList()).size(); }
+    /**
+     * Returns the number of nodes in the subtree of this node including this node
+     * @return the number of nodes in the subtree of this node including this node
+     */
+    public int getNoOfNodes() {
+        if (noOfNodes < 0) {
+            int sum = 1;
+            for (TreeNode child : children) { sum += child.getNoOfNodes(); }
+            noOfNodes = sum;
+        }
+        return noOfNodes;
+    }
+    public int getNoOfLeafNodes() {
+        if (noOfLeafNodes < 0) {
+            int sum = isLeaf() ? 1 : 0;
+            for (TreeNode child : children) { sum += child.getNoOfLeafNodes(); }
+            noOfLeafNodes = sum;
+        }
+        return noOfLeafNodes;
+    }
+
+    /**
+     * Returns the sum of the values of the children of this node
+     * @return the sum of the values of the children of this node
+     */
+    public double getChildrenSum() {
+        if (Double.isNaN(childrenSum)) {
+            double sum = 0;
+            for (TreeNode child : children) { sum += child.value; }
+            childrenSum = sum;
+        }
+        return childrenSum;
+    }
+
+    /**
+     * Returns the sum of the values of all nodes in the subtree of this node including this node
+     * @return the sum of the values of all nodes in the subtree of this node including this node
+     */
+    public double getSubtreeSum() {
+        if (Double.isNaN(subtreeSum)) {
+            double sum = value;
+            for (TreeNode child : children) { sum += child.getSubtreeSum(); }
+            subtreeSum = sum;
+        }
+        return subtreeSum;
+    }
 
     public boolean contains(final TreeNode NODE) { return flattened().anyMatch(n -> n.equals(NODE)); }
     public boolean containsData(final ChartData DATA) { return flattened().anyMatch(n -> n.data.equals(DATA)); }
@@ -180,34 +272,112 @@ public class TreeNode {
     }
 
     public int getDepth() {
-        if (depth == -1) {
-            if (isRoot()) {
-                depth = 0;
-            } else {
-                depth = getDepth(getParent(), 0);
-            }
-        }
+        if (depth == -1) { depth = isRoot() ? 0 : getParent().getDepth() + 1; }
         return depth;
     }
-    private int getDepth(final TreeNode NODE, int depth) {
-        depth++;
-        if (NODE.isRoot()) { return depth; }
-        return getDepth(NODE.getParent(), depth);
-    }
 
-    public int getMaxLevel() { return getTreeRoot().stream().map(TreeNode::getDepth).max(Comparator.naturalOrder()).orElse(0); }
+    public int getMaxLevel() { return getTreeRoot().getLevels().size() - 1; }
+
+    /**
+     * Returns the nodes of the tree at the given level ordered from left to right
+     * @param LEVEL
+     * @return the nodes of the tree at the given level ordered from left to right
+     */
+    public List<TreeNode> getNodesAtLevel(final int LEVEL) {
+        List<List<TreeNode>> treeLevels = getTreeRoot().getLevels();
+        return LEVEL < 0 || LEVEL >= treeLevels.size() ? Collections.emptyList() : Collections.unmodifiableList(treeLevels.get(LEVEL));
+    }
 
     public double getPercentage() {
-        List<TreeNode> siblings   = getSiblings();
-        double         sum        = siblings.stream().map(node -> node.getData()).mapToDouble(ChartData::getValue).sum();
-        return Double.compare(sum, 0) == 0 ? 1.0 : getData().getValue() / sum;
+        if (null == getParent()) { return 1.0; }
+        double sum = getParent().getChildrenSum();
+        return Double.compare(sum, 0) == 0 ? 1.0 : value / sum;
     }
 
     public List<TreeNode> getSiblings() { return null == getParent() ? new ArrayList<>() : getParent().getChildren(); }
 
-    public List<TreeNode> nodesAtSameLevel() {
-        final int LEVEL = getDepth();
-        return getTreeRoot().stream().filter(node -> node.getDepth() == LEVEL).collect(Collectors.toList());
+    public List<TreeNode> nodesAtSameLevel() { return new ArrayList<>(getNodesAtLevel(getDepth())); }
+
+    private List<List<TreeNode>> getLevels() {
+        if (null == levels) {
+            // Breadth first, so the nodes of each level are in the same order as in stream()
+            List<List<TreeNode>> nodesPerLevel = new ArrayList<>();
+            List<TreeNode>       currentLevel  = Collections.singletonList(this);
+            depth = 0;
+            while (!currentLevel.isEmpty()) {
+                nodesPerLevel.add(currentLevel);
+                List<TreeNode> nextLevel = new ArrayList<>();
+                for (TreeNode node : currentLevel) {
+                    for (TreeNode child : node.children) {
+                        child.depth = nodesPerLevel.size();
+                        nextLevel.add(child);
+                    }
+                }
+                currentLevel = nextLevel;
+            }
+            levels = nodesPerLevel;
+        }
+        return levels;
+    }
+
+    private void checkValue() {
+        double newValue = null == data ? 0 : data.getValue();
+        if (Double.compare(newValue, value) == 0) { return; }
+        value = newValue;
+        invalidateSums();
+        getTreeRoot().fireTreeNodeEvent(VALUE_CHANGED);
+    }
+
+    // Adds or removes the data listeners of this node and all nodes in its subtree
+    private void trackData(final boolean TRACK) {
+        Deque<TreeNode> stack = new ArrayDeque<>();
+        stack.push(this);
+        while (!stack.isEmpty()) {
+            TreeNode node = stack.pop();
+            if (null != node.data) {
+                if (TRACK) {
+                    node.data.addChartDataEventListener(node.dataListener);
+                    // The value might have changed while the node was not tracked
+                    node.value       = node.data.getValue();
+                    node.childrenSum = Double.NaN;
+                    node.subtreeSum  = Double.NaN;
+                } else {
+                    node.data.removeChartDataEventListener(node.dataListener);
+                }
+            }
+            node.children.forEach(stack::push);
+        }
+    }
+
+    // Resets the cached position of this node and all nodes in its subtree
+    private void invalidatePosition() {
+        Deque<TreeNode> stack = new ArrayDeque<>();
+        stack.push(this);
+        while (!stack.isEmpty()) {
+            TreeNode node = stack.pop();
+            node.myRoot   = null;
+            node.treeRoot = null;
+            node.depth    = -1;
+            node.levels   = null;
+            node.children.forEach(stack::push);
+        }
+    }
+
+    // Resets the cached aggregates of this node and its ancestors
+    private void invalidateStructure() {
+        childrenSum = Double.NaN;
+        for (TreeNode node = this ; null != node ; node = node.parent) {
+            node.noOfNodes     = -1;
+            node.noOfLeafNodes = -1;
+            node.subtreeSum    = Double.NaN;
+        }
+        getTreeRoot().levels = null;
+    }
+
+    // Resets the cached sums that contain the value of this node
+    private void invalidateSums() {
+        if (null != parent) { parent.childrenSum = Double.NaN; }
+        for (TreeNode node = this ; null != node ; node = node.parent) { node.subtreeSum = Double.NaN; }
     }
 
     public double getParentAngle() {
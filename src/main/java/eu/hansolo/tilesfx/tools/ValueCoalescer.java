@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.tilesfx.tools;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.DoubleConsumer;
+
+
+public class ValueCoalescer {
+    // Values that arrive between two pulses will be merged into one value
+    // that will be passed to the consumer on the FX application thread
+    public enum Mode { LATEST, MIN, MAX, AVERAGE }
+
+    private static final Queue<ValueCoalescer> DIRTY_COALESCERS = new ConcurrentLinkedQueue<>();
+    private static final AtomicBoolean         TIMER_RUNNING    = new AtomicBoolean(false);
+    private static       AnimationTimer        pulseTimer;
+
+    private        final DoubleConsumer        consumer;
+    private        final AtomicBoolean         scheduled;
+    private        final Object                lock;
+    private volatile     Mode                  mode;
+    // Values of the current pulse (guarded by lock)
+    private              double                latest;
+    private              double                min;
+    private              double                max;
+    private              double                sum;
+    private              long                  count;
+    // Values of the last applied pulse (only touched on the FX thread)
+    private              double                lastPulseLatest;
+    private              double                lastPulseMin;
+    private              double                lastPulseMax;
+    private              double                lastPulseAverage;
+    private              long                  lastPulseCount;
+    // Statistics (guarded by lock)
+    private              long                  received;
+    private              long                  applied;
+    private              long                  merged;
+    private              long                  dropped;
+
+
+    // ******************** Constructors **************************************
+    public ValueCoalescer(final DoubleConsumer CONSUMER) {
+        this(CONSUMER, Mode.LATEST);
+    }
+    public ValueCoalescer(final DoubleConsumer CONSUMER, final Mode MODE) {
+        if (null == CONSUMER) { throw new IllegalArgumentException("Consumer cannot be null"); }
+        consumer  = CONSUMER;
+        scheduled = new AtomicBoolean(false);
+        lock      = new Object();
+        mode      = null == MODE ? Mode.LATEST : MODE;
+        resetPulse();
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Adds the given value. This method can be called from any thread.
+     * Non finite values (NaN, Infinity) will be dropped.
+     * @param VALUE
+     */
+    public void offer(final double VALUE) {
+        synchronized (lock) {
+            received++;
+            if (Double.isNaN(VALUE) || Double.isInfinite(VALUE)) {
+                dropped++;
+                return;
+            }
+            if (count > 0) { merged++; }
+            latest = VALUE;
+            min    = Math.min(min, VALUE);
+            max    = Math.max(max, VALUE);
+            sum   += VALUE;
+            count++;
+        }
+        if (scheduled.compareAndSet(false, true)) { schedule(this); }
+    }
+
+    public Mode getMode() { return mode; }
+    public void setMode(final Mode MODE) { mode = null == MODE ? Mode.LATEST : MODE; }
+
+    /**
+     * Returns the number of values that have been offered so far
+     * @return the number of values that have been offered so far
+     */
+    public long getReceivedCount() { synchronized (lock) { return received; } }
+
+    /**
+     * Returns the number of values that have been passed to the consumer
+     * @return the number of values that have been passed to the consumer
+     */
+    public long getAppliedCount() { synchronized (lock) { return applied; } }
+
+    /**
+     * Returns the number of values that have been merged with other values
+     * of the same pulse and were never passed to the consumer on their own
+     * @return the number of values that have been merged within a pulse
+     */
+    public long getMergedCount() { synchronized (lock) { return merged; } }
+
+    /**
+     * Returns the number of values that have been dropped because they
+     * were not finite
+     * @return the number of values that have been dropped
+     */
+    public long getDroppedCount() { synchronized (lock) { return dropped; } }
+
+    public double getLastPulseLatest() { return lastPulseLatest; }
+    public double getLastPulseMin() { return lastPulseMin; }
+    public double getLastPulseMax() { return lastPulseMax; }
+    public double getLastPulseAverage() { return lastPulseAverage; }
+    public long getLastPulseCount() { return lastPulseCount; }
+
+    public void resetStatistics() {
+        synchronized (lock) {
+            received = 0;
+            applied  = 0;
+            merged   = 0;
+            dropped  = 0;
+        }
+    }
+
+    private void resetPulse() {
+        latest = 0;
+        min    = Double.MAX_VALUE;
+        max    = -Double.MAX_VALUE;
+        sum    = 0;
+        count  = 0;
+    }
+
+    private void apply() {
+        scheduled.set(false);
+        synchronized (lock) {
+            if (0 == count) { return; }
+            lastPulseLatest  = latest;
+            lastPulseMin     = min;
+            lastPulseMax     = max;
+            lastPulseAverage = sum / count;
+            lastPulseCount   = count;
+            applied++;
+            resetPulse();
+        }
+        switch (mode) {
+            case MIN    : consumer.accept(lastPulseMin); break;
+            case MAX    : consumer.accept(lastPulseMax); break;
+            case AVERAGE: consumer.accept(lastPulseAverage); break;
+            case LATEST :
+            default     : consumer.accept(lastPulseLatest); break;
+        }
+    }
+
+
+    // ******************** Pulse handling ************************************
+    private static void schedule(final ValueCoalescer COALESCER) {
+        DIRTY_COALESCERS.add(COALESCER);
+        if (TIMER_RUNNING.compareAndSet(false, true)) { Platform.runLater(() -> getPulseTimer().start()); }
+    }
+
+    private static AnimationTimer getPulseTimer() {
+        if (null == pulseTimer) {
+            pulseTimer = new AnimationTimer() {
+                @Override public void handle(final long NOW) {
+                    if (DIRTY_COALESCERS.isEmpty()) {
+                        stop();
+                        TIMER_RUNNING.set(false);
+                        // A value might have been offered between the check and the stop
+                        if (!DIRTY_COALESCERS.isEmpty() && TIMER_RUNNING.compareAndSet(false, true)) { start(); }
+                        return;
+                    }
+                    // Only handle the coalescers that are dirty right now, values that will be
+                    // offered while applying will be handled in the next pulse
+                    int noOfDirtyCoalescers = DIRTY_COALESCERS.size();
+                    for (int i = 0 ; i < noOfDirtyCoalescers ; i++) {
+                        ValueCoalescer coalescer = DIRTY_COALESCERS.poll();
+                        if (null == coalescer) { break; }
+                        coalescer.apply();
+                    }
+                }
+            };
+        }
+        return pulseTimer;
+    }
+}
@@ -0,0 +1,377 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.tilesfx.tools;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+
+public class WindowedStatistics {
+    private static final int      INITIAL_LENGTH = 16;
+    private static final int      NIL            = -1;
+    private        final boolean  orderStatistics;
+    private              int      capacity;
+    // Ring buffer, the entry with the sequence number s is stored at s % values.length.
+    // The buffer grows on demand up to the capacity of the window.
+    private              double[] values;
+    private              long     head;
+    private              long     tail;
+    // Welford
+    private              double   mean;
+    private              double   m2;
+    private              long     noOfRemovalsSinceRecalc;
+    // Monotonic deques of sequence numbers for sliding min and max
+    private              long[]   minDeque;
+    private              long     minHead;
+    private              long     minTail;
+    private              long[]   maxDeque;
+    private              long     maxHead;
+    private              long     maxTail;
+    // Treap for order statistics, the node of an entry is its slot in the ring buffer
+    private              long[]   sequences;
+    private              int      root;
+    private              int[]    left;
+    private              int[]    right;
+    private              int[]    subtreeSize;
+    private              int[]    priorities;
+    private              int      seed;
+
+
+    // ******************** Constructors **************************************
+    public WindowedStatistics(final int CAPACITY) {
+        this(CAPACITY, false);
+    }
+    /**
+     * Creates a window with the given capacity. If ORDER_STATISTICS is true the
+     * values will also be kept in a treap so that getMedian() and getKthSmallest()
+     * take O(log n), which costs O(log n) per added value. Otherwise both methods
+     * sort a copy of the window.
+     * @param CAPACITY
+     * @param ORDER_STATISTICS
+     */
+    public WindowedStatistics(final int CAPACITY, final boolean ORDER_STATISTICS) {
+        orderStatistics = ORDER_STATISTICS;
+        seed            = 0x2545F491;
+        setCapacity(CAPACITY);
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Adds the given value to the window. If the window is full the
+     * oldest value will be removed.
+     * @param VALUE
+     */
+    public void add(final double VALUE) {
+        if (isFull()) { removeFirst(); }
+        if (size() == values.length) { grow(); }
+
+        int slot = slot(tail);
+        values[slot] = VALUE;
+        if (orderStatistics) { addNode(slot, tail); }
+
+        long   n     = tail - head + 1;
+        double delta = VALUE - mean;
+        mean += delta / n;
+        m2   += delta * (VALUE - mean);
+
+        while (minTail > minHead && values[slot(minDeque[slot(minTail - 1)])] >= VALUE) { minTail--; }
+        minDeque[slot(minTail++)] = tail;
+        while (maxTail > maxHead && values[slot(maxDeque[slot(maxTail - 1)])] <= VALUE) { maxTail--; }
+        maxDeque[slot(maxTail++)] = tail;
+
+        tail++;
+
+        // Removing values from mean and variance accumulates rounding errors,
+        // so both will be recalculated once the window moved by its size
+        if (noOfRemovalsSinceRecalc >= size()) { recalc(); }
+    }
+
+    /**
+     * Fills the whole window with the given value
+     * @param VALUE
+     */
+    public void fill(final double VALUE) {
+        reset();
+        for (int i = 0 ; i < capacity ; i++) { add(VALUE); }
+    }
+
+    /**
+     * Returns the value at the given index where 0 is the oldest value
+     * @param INDEX
+     * @return the value at the given index where 0 is the oldest value
+     */
+    public double get(final int INDEX) {
+        if (INDEX < 0 || INDEX >= size()) { throw new IndexOutOfBoundsException("Index: " + INDEX + ", Size: " + size()); }
+        return values[slot(head + INDEX)];
+    }
+
+    public double getFirst() { return get(0); }
+    public double getLast() { return get(size() - 1); }
+
+    public int size() { return (int) (tail - head); }
+
+    public boolean isEmpty() { return tail == head; }
+
+    public boolean isFull() { return size() == capacity; }
+
+    public int getCapacity() { return capacity; }
+    /**
+     * Defines the number of values in the window. Setting the
+     * capacity will remove all values from the window.
+     * @param CAPACITY
+     */
+    public void setCapacity(final int CAPACITY) {
+        if (CAPACITY < 1) { throw new IllegalArgumentException("Capacity must be larger than 0"); }
+        capacity = CAPACITY;
+        int length = Math.min(capacity, INITIAL_LENGTH);
+        values   = new double[length];
+        minDeque = new long[length];
+        maxDeque = new long[length];
+        if (orderStatistics) { createNodes(length); }
+        reset();
+    }
+
+    public void reset() {
+        head                    = 0;
+        tail                    = 0;
+        mean                    = 0;
+        m2                      = 0;
+        noOfRemovalsSinceRecalc = 0;
+        minHead                 = 0;
+        minTail                 = 0;
+        maxHead                 = 0;
+        maxTail                 = 0;
+        root                    = NIL;
+    }
+
+    public double getMin() { return isEmpty() ? 0 : values[slot(minDeque[slot(minHead)])]; }
+
+    public double getMax() { return isEmpty() ? 0 : values[slot(maxDeque[slot(maxHead)])]; }
+
+    public double getMean() { return isEmpty() ? 0 : mean; }
+
+    /**
+     * Returns the population variance of the values in the window
+     * @return the population variance of the values in the window
+     */
+    public double getVariance() { return isEmpty() ? 0 : Math.max(0, m2 / size()); }
+
+    /**
+     * Returns the population standard deviation of the values in the window
+     * @return the population standard deviation of the values in the window
+     */
+    public double getStdDev() { return Math.sqrt(getVariance()); }
+
+    public double getMedian() {
+        int size = size();
+        if (0 == size) return 0;
+        return size % 2 == 0 ? (getKthSmallest(size / 2 - 1) + getKthSmallest(size / 2)) / 2.0 : getKthSmallest(size / 2);
+    }
+
+    /**
+     * Returns the k-th smallest value of the window where 0 is the smallest value
+     * @param K
+     * @return the k-th smallest value of the window
+     */
+    public double getKthSmallest(final int K) {
+        if (K < 0 || K >= size()) { throw new IndexOutOfBoundsException("K: " + K + ", Size: " + size()); }
+        if (!orderStatistics) {
+            double[] sortedValues = new double[size()];
+            for (int i = 0 ; i < sortedValues.length ; i++) { sortedValues[i] = get(i); }
+            Arrays.sort(sortedValues);
+            return sortedValues[K];
+        }
+        int node = root;
+        int k    = K;
+        while (node != NIL) {
+            int leftSize = size(left[node]);
+            if (k < leftSize) {
+                node = left[node];
+            } else if (k == leftSize) {
+                return values[node];
+            } else {
+                k   -= leftSize + 1;
+                node = right[node];
+            }
+        }
+        throw new IllegalStateException("Order statistics out of sync");
+    }
+
+    /**
+     * Returns a copy of the values in the window where the first entry is the oldest value
+     * @return a copy of the values in the window
+     */
+    public List<Double> getValues() {
+        int          size = size();
+        List<Double> list = new ArrayList<>(size);
+        for (int i = 0 ; i < size ; i++) { list.add(get(i)); }
+        return list;
+    }
+
+    private void removeFirst() {
+        int    slot  = slot(head);
+        double value = values[slot];
+        long   n     = tail - head - 1;
+        if (0 == n) {
+            mean = 0;
+            m2   = 0;
+        } else {
+            double delta = value - mean;
+            mean -= delta / n;
+            m2   -= delta * (value - mean);
+        }
+        if (minDeque[slot(minHead)] == head) { minHead++; }
+        if (maxDeque[slot(maxHead)] == head) { maxHead++; }
+        if (orderStatistics) { root = delete(root, slot); }
+        head++;
+        noOfRemovalsSinceRecalc++;
+    }
+
+    private void recalc() {
+        double newMean = 0;
+        double newM2   = 0;
+        long   n       = 0;
+        for (long seq = head ; seq < tail ; seq++) {
+            double value = values[slot(seq)];
+            double delta = value - newMean;
+            n++;
+            newMean += delta / n;
+            newM2   += delta * (value - newMean);
+        }
+        mean                    = newMean;
+        m2                      = newM2;
+        noOfRemovalsSinceRecalc = 0;
+    }
+
+    private void grow() {
+        int      length      = values.length;
+        int      newLength   = (int) Math.min((long) capacity, 2L * length);
+        double[] newValues   = new double[newLength];
+        long[]   newMinDeque = new long[newLength];
+        long[]   newMaxDeque = new long[newLength];
+        for (long seq = head ; seq < tail ; seq++) { newValues[(int) (seq % newLength)] = values[(int) (seq % length)]; }
+        for (long i = minHead ; i < minTail ; i++) { newMinDeque[(int) (i % newLength)] = minDeque[(int) (i % length)]; }
+        for (long i = maxHead ; i < maxTail ; i++) { newMaxDeque[(int) (i % newLength)] = maxDeque[(int) (i % length)]; }
+        values   = newValues;
+        minDeque = newMinDeque;
+        maxDeque = newMaxDeque;
+        if (orderStatistics) {
+            // The nodes are the slots of the values, which have moved
+            createNodes(newLength);
+            root = NIL;
+            for (long seq = head ; seq < tail ; seq++) { addNode(slot(seq), seq); }
+        }
+    }
+
+    private int slot(final long SEQUENCE) { return (int) (SEQUENCE % values.length); }
+
+    private int nextPriority() {
+        // xorshift
+        seed ^= seed << 13;
+        seed ^= seed >>> 17;
+        seed ^= seed << 5;
+        return seed;
+    }
+
+
+    // ******************** Treap *********************************************
+    private void createNodes(final int LENGTH) {
+        sequences   = new long[LENGTH];
+        left        = new int[LENGTH];
+        right       = new int[LENGTH];
+        subtreeSize = new int[LENGTH];
+        priorities  = new int[LENGTH];
+    }
+
+    private void addNode(final int NODE, final long SEQUENCE) {
+        sequences[NODE]   = SEQUENCE;
+        left[NODE]        = NIL;
+        right[NODE]       = NIL;
+        subtreeSize[NODE] = 1;
+        priorities[NODE]  = nextPriority();
+        root              = insert(root, NODE);
+    }
+
+    private boolean isLess(final int NODE_A, final int NODE_B) {
+        int result = Double.compare(values[NODE_A], values[NODE_B]);
+        return result < 0 || (result == 0 && sequences[NODE_A] < sequences[NODE_B]);
+    }
+
+    private int size(final int NODE) { return NIL == NODE ? 0 : subtreeSize[NODE]; }
+
+    private void update(final int NODE) { subtreeSize[NODE] = 1 + size(left[NODE]) + size(right[NODE]); }
+
+    private int rotateRight(final int NODE) {
+        int pivot = left[NODE];
+        left[NODE]   = right[pivot];
+        right[pivot] = NODE;
+        update(NODE);
+        update(pivot);
+        return pivot;
+    }
+
+    private int rotateLeft(final int NODE) {
+        int pivot = right[NODE];
+        right[NODE] = left[pivot];
+        left[pivot] = NODE;
+        update(NODE);
+        update(pivot);
+        return pivot;
+    }
+
+    private int insert(final int ROOT, final int NODE) {
+        if (NIL == ROOT) { return NODE; }
+        int node = ROOT;
+        if (isLess(NODE, node)) {
+            left[node] = insert(left[node], NODE);
+            if (priorities[left[node]] > priorities[node]) { return rotateRight(node); }
+        } else {
+            right[node] = insert(right[node], NODE);
+            if (priorities[right[node]] > priorities[node]) { return rotateLeft(node); }
+        }
+        update(node);
+        return node;
+    }
+
+    private int delete(final int ROOT, final int NODE) {
+        if (NIL == ROOT) { return NIL; }
+        if (ROOT == NODE) { return merge(left[ROOT], right[ROOT]); }
+        if (isLess(NODE, ROOT)) {
+            left[ROOT] = delete(left[ROOT], NODE);
+        } else {
+            right[ROOT] = delete(right[ROOT], NODE);
+        }
+        update(ROOT);
+        return ROOT;
+    }
+
+    private int merge(final int LEFT, final int RIGHT) {
+        if (NIL == LEFT)  { return RIGHT; }
+        if (NIL == RIGHT) { return LEFT; }
+        if (priorities[LEFT] > priorities[RIGHT]) {
+            right[LEFT] = merge(right[LEFT], RIGHT);
+            update(LEFT);
+            return LEFT;
+        } else {
+            left[RIGHT] = merge(LEFT, left[RIGHT]);
+            update(RIGHT);
+            return RIGHT;
+        }
+    }
+}